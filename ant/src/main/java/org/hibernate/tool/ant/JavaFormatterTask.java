@@ -22,6 +22,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -89,17 +90,13 @@ public class JavaFormatterTask extends Task {
 		if(files.length>0) {
 			
 			DefaultJavaPrettyPrinterStrategy formatter = new DefaultJavaPrettyPrinterStrategy(settings);
+			Map<File, RuntimeException> failures = formatter.formatFiles( Arrays.asList( files ) );
 			for (int i = 0; i < files.length; i++) {
 				File file = files[i];			
-				try {
-					boolean ok = formatter.formatFile( file );
-					if(!ok) {
-						failed++;
-						getProject().log(this, "Formatting failed - skipping " + file, Project.MSG_WARN);						
-					} else {
-						getProject().log(this, "Formatted " + file, Project.MSG_VERBOSE);
-					}
-				} catch(RuntimeException ee) {
+				RuntimeException ee = failures.get( file );
+				if(ee == null) {
+					getProject().log(this, "Formatted " + file, Project.MSG_VERBOSE);
+				} else {
 					failed++;
 					if(failOnError) {
 						throw new BuildException("Java formatting failed on " + file, ee);
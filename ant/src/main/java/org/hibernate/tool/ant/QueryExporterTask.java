@@ -32,6 +32,8 @@ public class QueryExporterTask extends ExporterTask {
 
 	private String query = "";
 	private String filename;
+	private String format;
+	private Integer fetchSize;
 	List<HQL> queries = new ArrayList<HQL>();
 
 	public QueryExporterTask(HibernateToolTask parent) {
@@ -52,6 +54,12 @@ public class QueryExporterTask extends ExporterTask {
 		}
 		exporter.getProperties().put(ExporterConstants.QUERY_LIST, queryStrings);
 		exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, filename);
+		if(format!=null) {
+			exporter.getProperties().put(ExporterConstants.QUERY_OUTPUT_FORMAT, format);
+		}
+		if(fetchSize!=null) {
+			exporter.getProperties().put(ExporterConstants.QUERY_FETCH_SIZE, fetchSize.toString());
+		}
         return exporter;
 	}
 
@@ -100,6 +108,17 @@ public class QueryExporterTask extends ExporterTask {
 	public void setDestFile(String filename) {
 		this.filename = filename;
 	}
+	
+	/**
+	 * The format of the results: text, csv, json or the name of a query result format class.
+	 */
+	public void setFormat(String format) {
+		this.format = format;
+	}
+	
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+	}
 	 
 	public void execute() {
 		parent.log("Executing: [" + query + "]");
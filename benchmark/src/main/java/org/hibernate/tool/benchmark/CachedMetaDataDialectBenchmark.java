@@ -0,0 +1,102 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.internal.reveng.dialect.CachedMetaDataDialect;
+import org.hibernate.tool.internal.reveng.dialect.H2MetaDataDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reads the columns and the exported keys of every table through a
+ * {@link CachedMetaDataDialect}, once with an empty cache (every request goes to the
+ * database and is stored) and once with a filled cache.
+ */
+@State(Scope.Benchmark)
+public class CachedMetaDataDialectBenchmark {
+
+	private StandardServiceRegistry serviceRegistry;
+	private RevengDialect delegate;
+	private CachedMetaDataDialect filled;
+	private String[] tableNames;
+
+	@Setup(Level.Trial)
+	public void setUp(SyntheticSchema schema) {
+		serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySettings(schema.getProperties())
+				.build();
+		delegate = new H2MetaDataDialect();
+		delegate.configure(serviceRegistry.getService(ConnectionProvider.class));
+		tableNames = new String[schema.tables];
+		for (int i = 0; i < tableNames.length; i++) {
+			tableNames[i] = schema.getTableName(i);
+		}
+		filled = new CachedMetaDataDialect(delegate);
+		readAll(filled, null);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		delegate.close();
+		StandardServiceRegistryBuilder.destroy(serviceRegistry);
+	}
+
+	@Benchmark
+	public void miss(Blackhole blackhole) {
+		readAll(new CachedMetaDataDialect(delegate), blackhole);
+	}
+
+	@Benchmark
+	public void hit(Blackhole blackhole) {
+		readAll(filled, blackhole);
+	}
+
+	private void readAll(RevengDialect dialect, Blackhole blackhole) {
+		for (String tableName : tableNames) {
+			consume(dialect, dialect.getColumns(null, "PUBLIC", tableName, null), blackhole);
+			consume(dialect, dialect.getExportedKeys(null, "PUBLIC", tableName), blackhole);
+		}
+	}
+
+	private void consume(RevengDialect dialect, Iterator<Map<String, Object>> iterator, Blackhole blackhole) {
+		try {
+			while (iterator.hasNext()) {
+				Map<String, Object> row = iterator.next();
+				if (blackhole != null) {
+					blackhole.consume(row);
+				}
+			}
+		}
+		finally {
+			dialect.close(iterator);
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Renders <code>pojo/Pojo.ftl</code> for every entity of the synthetic schema. The
+ * metadata is read once, so only the code generation is measured.
+ */
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+	private MetadataDescriptor metadataDescriptor;
+	private File destination;
+
+	@Setup(Level.Trial)
+	public void setUp(SyntheticSchema schema) throws IOException {
+		Properties properties = schema.getProperties();
+		Metadata metadata = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+		metadataDescriptor = new MetadataDescriptor() {
+			public Metadata createMetadata() {
+				return metadata;
+			}
+			public Properties getProperties() {
+				return properties;
+			}
+		};
+		destination = Files.createTempDirectory("hibernate-tools-benchmark").toFile();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> paths = Files.walk(destination.toPath())) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public void pojo() {
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.JAVA);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destination);
+		exporter.start();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.ide.completion.HQLCodeAssist;
+import org.hibernate.tool.ide.completion.HQLCompletionProposal;
+import org.hibernate.tool.ide.completion.IHQLCompletionRequestor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Completes queries against the entities reverse engineered from the synthetic schema:
+ * entity names after <code>from</code>, and properties after an alias.
+ */
+@State(Scope.Benchmark)
+public class HQLCodeAssistBenchmark {
+
+	@Param({ "from Ta", "select t. from Table0 t", "from Table1 t1, Table0 t0 where t0.col" })
+	public String query;
+
+	private HQLCodeAssist codeAssist;
+	private int position;
+
+	@Setup(Level.Trial)
+	public void setUp(SyntheticSchema schema) {
+		codeAssist = new HQLCodeAssist(MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, schema.getProperties())
+				.createMetadata());
+		int dot = query.indexOf(". ");
+		position = dot < 0 ? query.length() : dot + 1;
+	}
+
+	@Benchmark
+	public void codeComplete(Blackhole blackhole) {
+		codeAssist.codeComplete(query, position, new IHQLCompletionRequestor() {
+			public boolean accept(HQLCompletionProposal proposal) {
+				blackhole.consume(proposal);
+				return true;
+			}
+			public void completionFailure(String errorMessage) {
+				blackhole.consume(errorMessage);
+			}
+		});
+	}
+
+}
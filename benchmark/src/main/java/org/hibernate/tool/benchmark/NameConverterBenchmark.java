@@ -0,0 +1,40 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import org.hibernate.tool.internal.util.NameConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Converts database names as met during reverse engineering to class names.
+ */
+@State(Scope.Benchmark)
+public class NameConverterBenchmark {
+
+	@Param({ "CUSTOMER", "ORDER_LINE_ITEM", "customerOrderHistory", "TBL_CUSTOMER_ADDRESS_2" })
+	public String name;
+
+	@Benchmark
+	public String toUpperCamelCase() {
+		return NameConverter.toUpperCamelCase(name);
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+import org.hibernate.tool.internal.reveng.strategy.OverrideRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks up the tables of a schema in the strategy of an {@link OverrideRepository} with a
+ * table filter and a table element for every other table, as the binders do for each table
+ * and column. The overrides are parsed without a DOCTYPE, so the attributes the DTD
+ * would default are given explicitly.
+ */
+@State(Scope.Benchmark)
+public class OverrideRepositoryBenchmark {
+
+	@Param({ "50", "200" })
+	public int tables;
+
+	@Param({ "10" })
+	public int columns;
+
+	private RevengStrategy strategy;
+	private TableIdentifier[] tableIdentifiers;
+	private String[] columnNames;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		StringBuilder xml = new StringBuilder()
+				.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+				.append("<hibernate-reverse-engineering>\n");
+		for (int i = 0; i < tables; i += 2) {
+			xml.append("  <table-filter match-catalog=\".*\" match-schema=\".*\" match-name=\"TABLE_").append(i).append("\" exclude=\"false\" package=\"org.example.p").append(i % 10).append("\"/>\n");
+		}
+		for (int i = 0; i < tables; i += 2) {
+			xml.append("  <table name=\"TABLE_").append(i).append("\" class=\"org.example.Entity").append(i).append("\">\n")
+				.append("    <column name=\"COLUMN_0\" property=\"name\"/>\n")
+				.append("  </table>\n");
+		}
+		xml.append("</hibernate-reverse-engineering>\n");
+		OverrideRepository repository = new OverrideRepository()
+				.addInputStream(new ByteArrayInputStream(xml.toString().getBytes(StandardCharsets.UTF_8)));
+		strategy = repository.getReverseEngineeringStrategy(new DefaultStrategy());
+		tableIdentifiers = new TableIdentifier[tables];
+		for (int i = 0; i < tables; i++) {
+			tableIdentifiers[i] = TableIdentifier.create(null, "PUBLIC", "TABLE_" + i);
+		}
+		columnNames = new String[columns];
+		for (int j = 0; j < columns; j++) {
+			columnNames[j] = "COLUMN_" + j;
+		}
+	}
+
+	@Benchmark
+	public void tableLookups(Blackhole blackhole) {
+		for (TableIdentifier tableIdentifier : tableIdentifiers) {
+			blackhole.consume(strategy.excludeTable(tableIdentifier));
+			blackhole.consume(strategy.tableToClassName(tableIdentifier));
+			blackhole.consume(strategy.tableToMetaAttributes(tableIdentifier));
+		}
+	}
+
+	@Benchmark
+	public void columnLookups(Blackhole blackhole) {
+		for (TableIdentifier tableIdentifier : tableIdentifiers) {
+			for (String columnName : columnNames) {
+				blackhole.consume(strategy.excludeColumn(tableIdentifier, columnName));
+				blackhole.consume(strategy.columnToPropertyName(tableIdentifier, columnName));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Reads the synthetic schema and binds it, as done by
+ * {@link org.hibernate.tool.internal.reveng.RevengMetadataBuilder#build()}.
+ */
+public class RevengBenchmark {
+
+	@Benchmark
+	public Metadata build(SyntheticSchema schema) {
+		return MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, schema.getProperties())
+				.createMetadata();
+	}
+
+}
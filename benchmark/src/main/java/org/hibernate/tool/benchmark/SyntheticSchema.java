@@ -0,0 +1,139 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * An in memory H2 database with a generated schema. The tables are named
+ * <code>TABLE_0</code> to <code>TABLE_n</code>, every table has the requested number of
+ * data columns, a share of the tables has a composite primary key and the foreign keys
+ * always point to a table created before, so the schema can be created in one pass.
+ */
+@State(Scope.Benchmark)
+public class SyntheticSchema {
+
+	public static final String URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+	public static final String USER = "sa";
+	public static final String PASSWORD = "";
+
+	@Param({ "50", "200" })
+	public int tables;
+
+	@Param({ "10" })
+	public int columns;
+
+	/** the average number of foreign keys per table */
+	@Param({ "0.5" })
+	public double foreignKeyDensity;
+
+	/** the share of the tables with a composite primary key */
+	@Param({ "0.1" })
+	public double compositeKeyRatio;
+
+	private Connection connection;
+
+	@Setup(Level.Trial)
+	public void create() throws SQLException {
+		connection = DriverManager.getConnection(URL, USER, PASSWORD);
+		try (Statement statement = connection.createStatement()) {
+			for (String sql : createStatements()) {
+				statement.execute(sql);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void drop() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		finally {
+			connection.close();
+		}
+	}
+
+	public Properties getProperties() {
+		Properties result = new Properties();
+		result.put(AvailableSettings.JAKARTA_JDBC_URL, URL);
+		result.put(AvailableSettings.JAKARTA_JDBC_USER, USER);
+		result.put(AvailableSettings.JAKARTA_JDBC_PASSWORD, PASSWORD);
+		return result;
+	}
+
+	public String getTableName(int index) {
+		return "TABLE_" + index;
+	}
+
+	List<String> createStatements() {
+		// a fixed seed keeps the schema identical between runs and releases
+		Random random = new Random(42);
+		boolean[] composite = new boolean[tables];
+		List<String> result = new ArrayList<String>();
+		for (int i = 0; i < tables; i++) {
+			composite[i] = random.nextDouble() < compositeKeyRatio;
+			StringBuilder sql = new StringBuilder("CREATE TABLE ").append(getTableName(i)).append(" (ID INTEGER NOT NULL");
+			if (composite[i]) {
+				sql.append(", VERSION_NO INTEGER NOT NULL");
+			}
+			for (int j = 0; j < columns; j++) {
+				sql.append(", COLUMN_").append(j).append(j % 2 == 0 ? " VARCHAR(255)" : " INTEGER");
+			}
+			List<String> foreignKeys = new ArrayList<String>();
+			if (i > 0) {
+				int count = (int) foreignKeyDensity + (random.nextDouble() < foreignKeyDensity % 1 ? 1 : 0);
+				for (int k = 0; k < count; k++) {
+					int referenced = random.nextInt(i);
+					String name = "REF_" + k;
+					sql.append(", ").append(name).append("_ID INTEGER");
+					if (composite[referenced]) {
+						sql.append(", ").append(name).append("_VERSION_NO INTEGER");
+						foreignKeys.add("(" + name + "_ID, " + name + "_VERSION_NO) REFERENCES "
+								+ getTableName(referenced) + " (ID, VERSION_NO)");
+					}
+					else {
+						foreignKeys.add("(" + name + "_ID) REFERENCES " + getTableName(referenced) + " (ID)");
+					}
+				}
+			}
+			sql.append(composite[i] ? ", PRIMARY KEY (ID, VERSION_NO)" : ", PRIMARY KEY (ID)");
+			for (int k = 0; k < foreignKeys.size(); k++) {
+				sql.append(", CONSTRAINT FK_").append(i).append('_').append(k)
+					.append(" FOREIGN KEY ").append(foreignKeys.get(k));
+			}
+			result.add(sql.append(")").toString());
+		}
+		return result;
+	}
+
+}
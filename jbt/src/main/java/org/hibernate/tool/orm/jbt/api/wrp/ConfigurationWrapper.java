@@ -19,13 +19,24 @@ package org.hibernate.tool.orm.jbt.api.wrp;
 
 import java.io.File;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Properties;
+import java.util.function.Consumer;
 
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
 
 public interface ConfigurationWrapper extends Wrapper {
 
+	/** key of the classes in the {@link #getMappingSnapshot() mapping snapshot} */
+	String CLASSES = "classes";
+	/** key of the properties in the {@link #getMappingSnapshot() mapping snapshot} */
+	String PROPERTIES = "properties";
+	/** key of the tables in the {@link #getMappingSnapshot() mapping snapshot} */
+	String TABLES = "tables";
+	/** key of the columns in the {@link #getMappingSnapshot() mapping snapshot} */
+	String COLUMNS = "columns";
+
 	String getProperty(String property);
 	ConfigurationWrapper addFile(File file);
 	void setProperty(String name, String value);
@@ -39,6 +50,12 @@ public interface ConfigurationWrapper extends Wrapper {
 	ConfigurationWrapper configure();
 	void addClass(Class<?> clazz);
 	void buildMappings();
+	/**
+	 * Rebuilds the mappings on a background thread, cancelling the build started before if it 
+	 * is still running. The mappings built before keep being returned until the new ones are 
+	 * built. The progress listener may be null and is called from the building threads.
+	 */
+	MetadataBuildWrapper buildMappingsInBackground(Consumer<MetadataBuildWrapper> progressListener);
 	SessionFactoryWrapper buildSessionFactory();
 	Iterator<PersistentClassWrapper> getClassMappings();
 	void setPreferBasicCompositeIds(boolean b);
@@ -48,5 +65,13 @@ public interface ConfigurationWrapper extends Wrapper {
 	NamingStrategyWrapper getNamingStrategy();
 	EntityResolver getEntityResolver();
 	Iterator<TableWrapper> getTableMappings();
+	/**
+	 * Returns the classes, properties, tables and columns of the mapping in one immutable 
+	 * structure that only holds strings, numbers, booleans, lists and maps. The structure is 
+	 * flat: it maps {@link #CLASSES}, {@link #PROPERTIES}, {@link #TABLES} and {@link #COLUMNS} 
+	 * to lists of rows, and rows refer to rows of the other lists by their index. The 
+	 * properties of a component refer to the property holding the component as their parent.
+	 */
+	Map<String, Object> getMappingSnapshot();
 	
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.orm.jbt.api.wrp;
+
+/**
+ * Handle on the metadata of a configuration being built in the background, see 
+ * {@link ConfigurationWrapper#buildMappingsInBackground(java.util.function.Consumer)}.
+ */
+public interface MetadataBuildWrapper extends Wrapper {
+
+	/** true when the build completed, failed or was cancelled */
+	boolean isDone();
+	/** 
+	 * Ask the build to stop, which it does at the next table or class when reverse engineering, 
+	 * and otherwise once the metadata is built, without replacing the previous metadata.
+	 * Returns false if the build was already done.
+	 */
+	boolean cancel();
+	boolean isCancelled();
+	/** Wait at most <code>timeoutMillis</code> for the build to be done, returning {@link #isDone()} */
+	boolean waitFor(long timeoutMillis) throws InterruptedException;
+	/** the exception the build failed with, null if it completed or is still running */
+	Throwable getFailure();
+	int getTablesRead();
+	int getEntitiesBound();
+	/** the number of classes to bind, 0 until the tables are read */
+	int getEntityCount();
+
+}
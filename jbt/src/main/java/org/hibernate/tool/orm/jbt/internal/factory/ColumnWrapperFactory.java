@@ -27,13 +27,15 @@ import org.hibernate.tool.orm.jbt.internal.util.MetadataHelper;
 import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class ColumnWrapperFactory {
+
+	private static final WrapperCache<Column, ColumnWrapper> WRAPPERS = new WrapperCache<Column, ColumnWrapper>(ColumnWrapperImpl::new);
 	
 	public static ColumnWrapper createColumnWrapper(final String name) {
 		return new ColumnWrapperImpl(name);
 	}
 	
 	public static ColumnWrapper createColumnWrapper(final Column column) {
-		return new ColumnWrapperImpl(column);
+		return WRAPPERS.get(column);
 	}
 	
 	private static class ColumnWrapperImpl
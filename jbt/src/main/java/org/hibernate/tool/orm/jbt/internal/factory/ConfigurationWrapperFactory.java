@@ -21,6 +21,7 @@ import java.io.File;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.Consumer;
 
 import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
 import org.hibernate.cfg.Configuration;
@@ -28,6 +29,7 @@ import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.hibernate.tool.orm.jbt.api.wrp.ConfigurationWrapper;
+import org.hibernate.tool.orm.jbt.api.wrp.MetadataBuildWrapper;
 import org.hibernate.tool.orm.jbt.api.wrp.NamingStrategyWrapper;
 import org.hibernate.tool.orm.jbt.api.wrp.PersistentClassWrapper;
 import org.hibernate.tool.orm.jbt.api.wrp.RevengStrategyWrapper;
@@ -35,6 +37,7 @@ import org.hibernate.tool.orm.jbt.api.wrp.SessionFactoryWrapper;
 import org.hibernate.tool.orm.jbt.api.wrp.TableWrapper;
 import org.hibernate.tool.orm.jbt.internal.util.ExtendedConfiguration;
 import org.hibernate.tool.orm.jbt.internal.util.JpaConfiguration;
+import org.hibernate.tool.orm.jbt.internal.util.MappingSnapshot;
 import org.hibernate.tool.orm.jbt.internal.util.NativeConfiguration;
 import org.hibernate.tool.orm.jbt.internal.util.RevengConfiguration;
 import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
@@ -67,6 +70,8 @@ public class ConfigurationWrapperFactory {
 		
 		private NamingStrategyWrapper namingStrategyWrapper = null;
 		
+		private MetadataBuildWrapper metadataBuild = null;
+		
 		private ConfigurationWrapperImpl(Configuration configuration) {
 			wrappedConfiguration = configuration;
 		}
@@ -152,6 +157,25 @@ public class ConfigurationWrapperFactory {
 			}
 		}
 		
+		@Override
+		public synchronized MetadataBuildWrapper buildMappingsInBackground(
+				Consumer<MetadataBuildWrapper> progressListener) {
+			if (!(wrappedConfiguration instanceof ExtendedConfiguration)) {
+				throw new RuntimeException(
+						"Method 'buildMappingsInBackground' should not be called on instances of " +
+						wrappedConfiguration.getClass().getName());
+			}
+			// the new build waits for the cancelled one, the configuration cannot build concurrently
+			if (metadataBuild != null) {
+				metadataBuild.cancel();
+			}
+			metadataBuild = MetadataBuildWrapperFactory.startMetadataBuild(
+					(ExtendedConfiguration)wrappedConfiguration, 
+					progressListener,
+					metadataBuild);
+			return metadataBuild;
+		}
+		
 		@Override
 		public SessionFactoryWrapper buildSessionFactory() { 
 			return SessionFactoryWrapperFactory.createSessionFactoryWrapper(((Configuration)getWrappedObject()).buildSessionFactory()); 
@@ -249,6 +273,16 @@ public class ConfigurationWrapperFactory {
 			return null;
 		}
 		
+		@Override
+		public Map<String, Object> getMappingSnapshot() {
+			if (wrappedConfiguration instanceof ExtendedConfiguration) {
+				return MappingSnapshot.create(
+						((ExtendedConfiguration)wrappedConfiguration).getClassMappings(), 
+						((ExtendedConfiguration)wrappedConfiguration).getTableMappings());
+			}
+			return MappingSnapshot.create(null, null);
+		}
+		
 	}
 	
 }
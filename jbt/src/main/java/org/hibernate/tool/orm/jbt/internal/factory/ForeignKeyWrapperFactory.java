@@ -30,8 +30,10 @@ import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class ForeignKeyWrapperFactory {
 
+	private static final WrapperCache<ForeignKey, ForeignKeyWrapper> WRAPPERS = new WrapperCache<ForeignKey, ForeignKeyWrapper>(ForeignKeyWrapperImpl::new);
+
 	public static ForeignKeyWrapper createForeignKeyWrapper(final ForeignKey wrappedForeignKey) {
-		return new ForeignKeyWrapperImpl(wrappedForeignKey);
+		return WRAPPERS.get(wrappedForeignKey);
 	}
 	
 	private static class ForeignKeyWrapperImpl 
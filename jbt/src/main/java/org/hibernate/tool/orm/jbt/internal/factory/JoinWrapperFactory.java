@@ -27,8 +27,10 @@ import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class JoinWrapperFactory {
 
+	private static final WrapperCache<Join, JoinWrapper> WRAPPERS = new WrapperCache<Join, JoinWrapper>(JoinWrapperImpl::new);
+
 	public static JoinWrapper createJoinWrapper(Join wrappedJoin) {
-		return new JoinWrapperImpl(wrappedJoin);
+		return WRAPPERS.get(wrappedJoin);
 	}
 	
 	private static class JoinWrapperImpl 
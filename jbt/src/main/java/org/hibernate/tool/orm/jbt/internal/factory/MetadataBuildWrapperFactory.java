@@ -0,0 +1,185 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.orm.jbt.internal.factory;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.orm.jbt.api.wrp.MetadataBuildWrapper;
+import org.hibernate.tool.orm.jbt.internal.util.ExtendedConfiguration;
+import org.hibernate.tool.orm.jbt.internal.util.MetadataHelper;
+import org.jboss.logging.Logger;
+
+public class MetadataBuildWrapperFactory {
+
+	private static final Logger LOGGER = Logger.getLogger(MetadataBuildWrapperFactory.class);
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	/**
+	 * Start building the metadata of the configuration on a new daemon thread.
+	 * 
+	 * @param progressListener called with the handle each time a table was read or a class 
+	 * was bound and when the build is done, from the threads reading the metadata; may be null
+	 */
+	public static MetadataBuildWrapper startMetadataBuild(
+			ExtendedConfiguration configuration, 
+			Consumer<MetadataBuildWrapper> progressListener) {
+		return startMetadataBuild(configuration, progressListener, null);
+	}
+
+	/**
+	 * Like {@link #startMetadataBuild(ExtendedConfiguration, Consumer)}, but the build only
+	 * starts once the previous build of the same configuration is done, as builds of the same 
+	 * configuration cannot run concurrently.
+	 * 
+	 * @param previous the previous build of the configuration, usually cancelled; may be null
+	 */
+	public static MetadataBuildWrapper startMetadataBuild(
+			ExtendedConfiguration configuration, 
+			Consumer<MetadataBuildWrapper> progressListener,
+			MetadataBuildWrapper previous) {
+		MetadataBuildWrapperImpl result = new MetadataBuildWrapperImpl(progressListener);
+		Thread thread = new Thread(
+				() -> result.run(configuration, previous), 
+				"hibernate-tools-metadata-build-" + COUNTER.incrementAndGet());
+		thread.setDaemon(true);
+		thread.start();
+		return result;
+	}
+
+	private static class MetadataBuildWrapperImpl 
+			implements MetadataBuildWrapper, RevengListener {
+
+		private final Consumer<MetadataBuildWrapper> progressListener;
+		private final CountDownLatch finished = new CountDownLatch(1);
+		private final AtomicInteger tablesRead = new AtomicInteger();
+		private volatile int entitiesBound = 0;
+		private volatile int entityCount = 0;
+		private volatile boolean done = false;
+		private volatile boolean cancelled = false;
+		private volatile Throwable failure = null;
+
+		private MetadataBuildWrapperImpl(Consumer<MetadataBuildWrapper> progressListener) {
+			this.progressListener = progressListener;
+		}
+
+		private void run(ExtendedConfiguration configuration, MetadataBuildWrapper previous) {
+			try {
+				if (previous != null) {
+					while (!previous.waitFor(Long.MAX_VALUE)) {
+						// keep waiting
+					}
+				}
+				MetadataHelper.checkCancelled(this);
+				configuration.buildMappings(this);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				LOGGER.debug("Building the metadata was interrupted");
+				cancelled = true;
+			}
+			catch (CancellationException e) {
+				LOGGER.debug("Building the metadata was cancelled");
+			}
+			catch (Throwable t) {
+				LOGGER.warn("Problem while building the metadata", t);
+				failure = t;
+			}
+			finally {
+				// the last notification sees the build done, waiting threads only resume after it
+				done = true;
+				try {
+					notifyProgress();
+				}
+				finally {
+					finished.countDown();
+				}
+			}
+		}
+
+		@Override
+		public boolean isDone() {
+			return done;
+		}
+
+		@Override
+		public boolean cancel() {
+			if (isDone()) {
+				return false;
+			}
+			cancelled = true;
+			return true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		@Override
+		public boolean waitFor(long timeoutMillis) throws InterruptedException {
+			return finished.await(timeoutMillis, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public Throwable getFailure() {
+			return failure;
+		}
+
+		@Override
+		public int getTablesRead() {
+			return tablesRead.get();
+		}
+
+		@Override
+		public int getEntitiesBound() {
+			return entitiesBound;
+		}
+
+		@Override
+		public int getEntityCount() {
+			return entityCount;
+		}
+
+		@Override
+		public void tableRead(String catalog, String schema, String table, int count) {
+			tablesRead.set(count);
+			notifyProgress();
+		}
+
+		@Override
+		public void entityBound(String entityName, int bound, int count) {
+			entitiesBound = bound;
+			entityCount = count;
+			notifyProgress();
+		}
+
+		private void notifyProgress() {
+			if (progressListener != null) {
+				progressListener.accept(this);
+			}
+		}
+
+	}
+
+}
@@ -31,6 +31,8 @@ import org.hibernate.tool.orm.jbt.internal.util.DummyMetadataBuildingContext;
 import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class PersistentClassWrapperFactory {
+
+	private static final WrapperCache<PersistentClass, PersistentClassWrapper> WRAPPERS = new WrapperCache<PersistentClass, PersistentClassWrapper>(PersistentClassWrapperImpl::new);
 	
 	public static PersistentClassWrapper createRootClassWrapper() {
 		return createPersistentClassWrapper(new RootClass(DummyMetadataBuildingContext.INSTANCE));
@@ -53,7 +55,7 @@ public class PersistentClassWrapperFactory {
 	}
 
 	public static PersistentClassWrapper createPersistentClassWrapper(PersistentClass wrappedPersistentClass) {
-		return new PersistentClassWrapperImpl(wrappedPersistentClass);
+		return WRAPPERS.get(wrappedPersistentClass);
 	}
 
 	private static class SpecialRootClassWrapperImpl extends PersistentClassWrapperImpl {
@@ -31,8 +31,10 @@ import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class PrimaryKeyWrapperFactory {
 
+	private static final WrapperCache<PrimaryKey, PrimaryKeyWrapper> WRAPPERS = new WrapperCache<PrimaryKey, PrimaryKeyWrapper>(PrimaryKeyWrapperImpl::new);
+
 	public static PrimaryKeyWrapper createPrimaryKeyWrapper(PrimaryKey wrappedPrimaryKey) {
-		return new PrimaryKeyWrapperImpl(wrappedPrimaryKey);
+		return WRAPPERS.get(wrappedPrimaryKey);
 	}
 	
 	private static class PrimaryKeyWrapperImpl 
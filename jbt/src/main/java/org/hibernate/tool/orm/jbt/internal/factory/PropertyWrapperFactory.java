@@ -29,12 +29,14 @@ import org.hibernate.type.Type;
 
 public class PropertyWrapperFactory {
 
+	private static final WrapperCache<Property, PropertyWrapper> WRAPPERS = new WrapperCache<Property, PropertyWrapper>(PropertyWrapperImpl::new);
+
 	public static PropertyWrapper createPropertyWrapper() {
 		return createPropertyWrapper(new Property());
 	}
 	
 	static PropertyWrapper createPropertyWrapper(Property wrappedProperty) {
-		return new PropertyWrapperImpl(wrappedProperty);
+		return WRAPPERS.get(wrappedProperty);
 	}
 	
 	private static class PropertyWrapperImpl 
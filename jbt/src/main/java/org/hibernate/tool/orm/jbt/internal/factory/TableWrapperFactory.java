@@ -32,6 +32,8 @@ import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class TableWrapperFactory {
 
+	private static final WrapperCache<Table, TableWrapper> WRAPPERS = new WrapperCache<Table, TableWrapper>(TableWrapperImpl::new);
+
 	public static TableWrapper createTableWrapper(String name) {
 		Table t = new Table("Hibernate Tools", name);
 		t.setPrimaryKey(new PrimaryKey(t));
@@ -39,7 +41,7 @@ public class TableWrapperFactory {
 	}
 
 	static TableWrapper createTableWrapper(Table wrappedTable) {
-		return new TableWrapperImpl(wrappedTable);
+		return WRAPPERS.get(wrappedTable);
 	}
 	
 	private static class TableWrapperImpl 
@@ -32,8 +32,10 @@ import org.hibernate.type.descriptor.java.JavaType;
 
 public class TypeWrapperFactory {
 
+	private static final WrapperCache<Type, TypeWrapper> WRAPPERS = new WrapperCache<Type, TypeWrapper>(TypeWrapperImpl::new);
+
 	public static TypeWrapper createTypeWrapper(Type wrappedType) {
-		return new TypeWrapperImpl(wrappedType);
+		return WRAPPERS.get(wrappedType);
 	}
 	
 	private static class TypeWrapperImpl 
@@ -58,6 +58,8 @@ import org.hibernate.tool.orm.jbt.internal.wrp.AbstractWrapper;
 
 public class ValueWrapperFactory {
 
+	private static final WrapperCache<Value, ValueWrapper> WRAPPERS = new WrapperCache<Value, ValueWrapper>(ValueWrapperImpl::new);
+
 	public static ValueWrapper createArrayWrapper(PersistentClassWrapper persistentClassWrapper) {
 		return createValueWrapper(
 				new Array(
@@ -157,7 +159,7 @@ public class ValueWrapperFactory {
 	}
 
 	public static ValueWrapper createValueWrapper(Value wrappedArrayValue) {
-		return new ValueWrapperImpl(wrappedArrayValue);
+		return WRAPPERS.get(wrappedArrayValue);
 	}
 	
 	private static class ValueWrapperImpl 
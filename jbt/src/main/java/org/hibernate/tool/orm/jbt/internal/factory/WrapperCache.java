@@ -0,0 +1,99 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.orm.jbt.internal.factory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hands out the same wrapper for the same wrapped object for as long as both are in use, 
+ * so browsing a mapping does not create a new wrapper on every call. The wrapped objects 
+ * are compared by identity, as mapping objects such as columns and tables are equal by name.
+ * Both the wrapped objects and the wrappers are weakly referenced, as a wrapper references 
+ * the object it wraps.
+ */
+final class WrapperCache<K, W> {
+
+	private final Map<Object, Reference<W>> wrappers = new HashMap<Object, Reference<W>>();
+	private final ReferenceQueue<K> queue = new ReferenceQueue<K>();
+	private final Function<K, W> factory;
+
+	WrapperCache(Function<K, W> factory) {
+		this.factory = factory;
+	}
+
+	synchronized W get(K wrapped) {
+		if (wrapped == null) {
+			return factory.apply(null);
+		}
+		expungeStaleEntries();
+		IdentityKey<K> key = new IdentityKey<K>(wrapped, null);
+		Reference<W> reference = wrappers.get(key);
+		W result = reference == null ? null : reference.get();
+		if (result == null) {
+			result = factory.apply(wrapped);
+			wrappers.put(new IdentityKey<K>(wrapped, queue), new WeakReference<W>(result));
+		}
+		return result;
+	}
+
+	synchronized int size() {
+		expungeStaleEntries();
+		return wrappers.size();
+	}
+
+	private void expungeStaleEntries() {
+		Reference<? extends K> stale;
+		while ((stale = queue.poll()) != null) {
+			wrappers.remove(stale);
+		}
+	}
+
+	private static class IdentityKey<K> extends WeakReference<K> {
+
+		private final int hash;
+
+		IdentityKey(K referent, ReferenceQueue<K> queue) {
+			super(referent, queue);
+			hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+			if (!(o instanceof IdentityKey)) {
+				return false;
+			}
+			Object referent = get();
+			return referent != null && referent == ((IdentityKey<?>)o).get();
+		}
+
+	}
+
+}
@@ -23,6 +23,7 @@ import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
@@ -37,6 +38,16 @@ public interface ExtendedConfiguration {
 	
 	void buildMappings();
 	
+	/**
+	 * (Re)build the metadata, reporting the progress to <code>listener</code>. The previous 
+	 * metadata keeps being served until the new one is built, and is not replaced when the 
+	 * listener cancels the build, in which case a {@link java.util.concurrent.CancellationException} 
+	 * is thrown. Only reverse engineering reports the tables read and the classes bound and 
+	 * stops at the next table or class, the other configurations check the listener once 
+	 * the metadata is built.
+	 */
+	void buildMappings(RevengListener listener);
+	
 	Iterator<PersistentClass> getClassMappings();
 	
 	void setPreferBasicCompositeIds(boolean b);
@@ -29,6 +29,7 @@ import org.hibernate.cfg.Configuration;
 import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
@@ -37,8 +38,8 @@ import jakarta.persistence.EntityManagerFactory;
 
 public class JpaConfiguration extends Configuration implements ExtendedConfiguration {
 
-	Metadata metadata = null;
-	SessionFactory sessionFactory;
+	volatile Metadata metadata = null;
+	volatile SessionFactory sessionFactory;
 	
 	String persistenceUnit;
 	
@@ -86,6 +87,10 @@ public class JpaConfiguration extends Configuration implements ExtendedConfigura
 		initialize();
 	}
 	
+	public void buildMappings(RevengListener listener) {
+		initialize(listener);
+	}
+	
 	@Override
 	public Configuration addFile(File file) {
 		throw new RuntimeException(
@@ -179,6 +184,10 @@ public class JpaConfiguration extends Configuration implements ExtendedConfigura
 	}
 	
 	void initialize() {
+		initialize(null);
+	}
+	
+	private void initialize(RevengListener listener) {
 		EntityManagerFactoryBuilderImpl entityManagerFactoryBuilder = 
 				HibernateToolsPersistenceProvider
 					.createEntityManagerFactoryBuilder(
@@ -186,9 +195,18 @@ public class JpaConfiguration extends Configuration implements ExtendedConfigura
 							getProperties());
 		EntityManagerFactory entityManagerFactory = 
 				entityManagerFactoryBuilder.build();
-		sessionFactory = (SessionFactory)entityManagerFactory;
+		if (listener != null && listener.isCancelled()) {
+			entityManagerFactory.close();
+			MetadataHelper.checkCancelled(listener);
+		}
+		SessionFactory previous = sessionFactory;
 		metadata = entityManagerFactoryBuilder.getMetadata();
+		sessionFactory = (SessionFactory)entityManagerFactory;
 		getProperties().putAll(entityManagerFactory.getProperties());
+		// the rebuilt factory replaces the previous one, which would otherwise keep its connections
+		if (previous != null && previous.isOpen()) {
+			previous.close();
+		}
 	}
 
 }
@@ -0,0 +1,228 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.orm.jbt.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Component;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Join;
+import org.hibernate.mapping.OneToMany;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.ToOne;
+import org.hibernate.mapping.Value;
+import org.hibernate.tool.orm.jbt.api.wrp.ConfigurationWrapper;
+import org.hibernate.type.Type;
+
+/**
+ * Reads the complete mapping of a configuration into one immutable structure that only holds 
+ * strings, numbers, booleans, lists and maps, so a tool can render it without going through 
+ * a wrapper for every class, property, table and column.
+ * <p>
+ * The keys of the structure are described by {@link ConfigurationWrapper#getMappingSnapshot()}.
+ */
+public class MappingSnapshot {
+
+	public static Map<String, Object> create(Iterator<PersistentClass> classMappings, Iterator<Table> tableMappings) {
+		MappingSnapshot snapshot = new MappingSnapshot();
+		while (tableMappings != null && tableMappings.hasNext()) {
+			snapshot.getTableIndex(tableMappings.next());
+		}
+		while (classMappings != null && classMappings.hasNext()) {
+			snapshot.addClass(classMappings.next());
+		}
+		Map<String, Object> result = new LinkedHashMap<String, Object>();
+		result.put(ConfigurationWrapper.CLASSES, Collections.unmodifiableList(snapshot.classes));
+		result.put(ConfigurationWrapper.PROPERTIES, Collections.unmodifiableList(snapshot.properties));
+		result.put(ConfigurationWrapper.TABLES, Collections.unmodifiableList(snapshot.tables));
+		result.put(ConfigurationWrapper.COLUMNS, Collections.unmodifiableList(snapshot.columns));
+		return Collections.unmodifiableMap(result);
+	}
+
+	private final List<Map<String, Object>> classes = new ArrayList<Map<String, Object>>();
+	private final List<Map<String, Object>> properties = new ArrayList<Map<String, Object>>();
+	private final List<Map<String, Object>> tables = new ArrayList<Map<String, Object>>();
+	private final List<Map<String, Object>> columns = new ArrayList<Map<String, Object>>();
+	private final Map<Table, Integer> tableIndexes = new IdentityHashMap<Table, Integer>();
+
+	private MappingSnapshot() {}
+
+	private void addClass(PersistentClass persistentClass) {
+		int index = classes.size();
+		Map<String, Object> row = new LinkedHashMap<String, Object>();
+		classes.add(Collections.unmodifiableMap(row));
+		row.put("entityName", persistentClass.getEntityName());
+		row.put("className", persistentClass.getClassName());
+		row.put("superclass", persistentClass.getSuperclass() == null ? null : persistentClass.getSuperclass().getEntityName());
+		row.put("abstract", persistentClass.isAbstract());
+		row.put("table", getTableIndex(persistentClass.getTable()));
+		Property identifier = persistentClass.getIdentifierProperty();
+		row.put("identifierProperty", identifier == null ? null : addProperty(index, null, identifier, null));
+		Property version = persistentClass.getVersion();
+		row.put("versionProperty", version == null ? null : addProperty(index, null, version, null));
+		for (Property property : persistentClass.getProperties()) {
+			addProperty(index, null, property, null);
+		}
+		for (Join join : persistentClass.getJoins()) {
+			for (Property property : join.getProperties()) {
+				addProperty(index, null, property, getTableIndex(join.getTable()));
+			}
+		}
+	}
+
+	private Integer addProperty(int classIndex, Integer parent, Property property, Integer joinTable) {
+		Integer index = properties.size();
+		Map<String, Object> row = new LinkedHashMap<String, Object>();
+		properties.add(Collections.unmodifiableMap(row));
+		row.put("class", classIndex);
+		row.put("parent", parent);
+		row.put("name", property.getName());
+		row.put("joinTable", joinTable);
+		Value value = property.getValue();
+		row.put("value", value == null ? null : value.getClass().getSimpleName());
+		row.put("type", value == null ? null : getTypeName(value));
+		row.put("referencedEntity", value == null ? null : getReferencedEntityName(value));
+		row.put("columns", value == null ? Collections.emptyList() : getColumnNames(value));
+		row.put("insertable", property.isInsertable());
+		row.put("updatable", property.isUpdatable());
+		row.put("optional", property.isOptional());
+		row.put("lazy", property.isLazy());
+		Component component = getComponent(value);
+		row.put("componentClassName", component == null ? null : component.getComponentClassName());
+		if (component != null) {
+			for (Property componentProperty : component.getProperties()) {
+				addProperty(classIndex, index, componentProperty, joinTable);
+			}
+		}
+		return index;
+	}
+
+	private Integer getTableIndex(Table table) {
+		if (table == null) {
+			return null;
+		}
+		Integer result = tableIndexes.get(table);
+		if (result == null) {
+			result = tables.size();
+			tableIndexes.put(table, result);
+			addTable(table, result);
+		}
+		return result;
+	}
+
+	private void addTable(Table table, int index) {
+		Map<String, Object> row = new LinkedHashMap<String, Object>();
+		tables.add(Collections.unmodifiableMap(row));
+		row.put("name", table.getName());
+		row.put("catalog", table.getCatalog());
+		row.put("schema", table.getSchema());
+		row.put("abstract", table.isAbstract());
+		row.put("comment", table.getComment());
+		row.put("primaryKey", table.getPrimaryKey() == null ? 
+				Collections.emptyList() : getNames(table.getPrimaryKey().getColumns()));
+		List<Map<String, Object>> foreignKeys = new ArrayList<Map<String, Object>>();
+		for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+			Map<String, Object> foreignKeyRow = new LinkedHashMap<String, Object>();
+			foreignKeyRow.put("name", foreignKey.getName());
+			foreignKeyRow.put("columns", getNames(foreignKey.getColumns()));
+			foreignKeyRow.put("referencedEntity", foreignKey.getReferencedEntityName());
+			foreignKeyRow.put("referencedTable", 
+					foreignKey.getReferencedTable() == null ? null : foreignKey.getReferencedTable().getName());
+			foreignKeyRow.put("referencedColumns", getNames(foreignKey.getReferencedColumns()));
+			foreignKeys.add(Collections.unmodifiableMap(foreignKeyRow));
+		}
+		row.put("foreignKeys", Collections.unmodifiableList(foreignKeys));
+		for (Column column : table.getColumns()) {
+			addColumn(index, column);
+		}
+	}
+
+	private void addColumn(int tableIndex, Column column) {
+		Map<String, Object> row = new LinkedHashMap<String, Object>();
+		columns.add(Collections.unmodifiableMap(row));
+		row.put("table", tableIndex);
+		row.put("name", column.getName());
+		row.put("sqlType", column.getSqlType());
+		row.put("sqlTypeCode", column.getSqlTypeCode());
+		row.put("length", column.getLength());
+		row.put("precision", column.getPrecision());
+		row.put("scale", column.getScale());
+		row.put("nullable", column.isNullable());
+		row.put("unique", column.isUnique());
+		row.put("comment", column.getComment());
+	}
+
+	private static String getTypeName(Value value) {
+		try {
+			Type type = value.getType();
+			return type == null ? null : type.getName();
+		}
+		catch (RuntimeException e) {
+			// the type cannot always be resolved for a mapping that is being edited
+			return null;
+		}
+	}
+
+	private static String getReferencedEntityName(Value value) {
+		if (value instanceof Collection) {
+			value = ((Collection)value).getElement();
+		}
+		if (value instanceof ToOne) {
+			return ((ToOne)value).getReferencedEntityName();
+		}
+		if (value instanceof OneToMany) {
+			return ((OneToMany)value).getReferencedEntityName();
+		}
+		return null;
+	}
+
+	private static Component getComponent(Value value) {
+		if (value instanceof Collection) {
+			value = ((Collection)value).getElement();
+		}
+		return value instanceof Component ? (Component)value : null;
+	}
+
+	private static List<String> getColumnNames(Value value) {
+		List<String> result = new ArrayList<String>();
+		for (Selectable selectable : value.getSelectables()) {
+			result.add(selectable.getText());
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	private static List<String> getNames(List<Column> columns) {
+		List<String> result = new ArrayList<String>(columns.size());
+		for (Column column : columns) {
+			result.add(column.getName());
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+}
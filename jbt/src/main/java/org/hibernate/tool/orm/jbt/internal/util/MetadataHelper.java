@@ -20,15 +20,23 @@ package org.hibernate.tool.orm.jbt.internal.util;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.tool.api.reveng.RevengListener;
 
 public class MetadataHelper {
 	
+	public static void checkCancelled(RevengListener listener) {
+		if (listener != null && listener.isCancelled()) {
+			throw new CancellationException("Building the metadata was cancelled");
+		}
+	}
+	
 	public static Metadata getMetadata(Configuration configuration) {
 		Metadata result = getMetadataFromMethod(configuration);
 		if (result == null) {
@@ -17,10 +17,10 @@
  */
 package org.hibernate.tool.orm.jbt.internal.util;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.InputStream;
 import java.util.Iterator;
 
 import javax.xml.transform.Transformer;
@@ -31,21 +31,33 @@ import javax.xml.transform.stream.StreamResult;
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.cfgxml.internal.JaxbCfgProcessor;
+import org.hibernate.boot.cfgxml.spi.LoadedConfig;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.cfg.spi.JaxbCfgHibernateConfiguration;
 import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
 
 public class NativeConfiguration extends Configuration implements ExtendedConfiguration {
 	
+	private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+	
 	private EntityResolver entityResolver = null;
 	
 	private ImplicitNamingStrategy namingStrategy = null;
 	
-	private Metadata metadata = null;
+	private volatile Metadata metadata = null;
+	
+	// keeps the cfg.xml schema and StAX factory loaded between calls of configure(Document)
+	private JaxbCfgProcessor cfgProcessor = null;
 	
 	public void setEntityResolver(EntityResolver entityResolver) {
 		// This method is not supported anymore in class Configuration from Hibernate 5+
@@ -75,33 +87,59 @@ public class NativeConfiguration extends Configuration implements ExtendedConfig
 	}
 	
 	public Configuration configure(Document document) {
-		File tempFile = null;
-		Configuration result = null;
+		// bind the serialized document in memory, as Configuration.configure(File) binds the file
 		metadata = null;
-		try {
-			tempFile = File.createTempFile(document.toString(), "cfg.xml");
-			DOMSource domSource = new DOMSource(document);
-			StringWriter stringWriter = new StringWriter();
-			StreamResult stream = new StreamResult(stringWriter);
-		    TransformerFactory tf = TransformerFactory.newInstance();
-		    Transformer transformer = tf.newTransformer();
-		    transformer.transform(domSource, stream);
-		    FileWriter fileWriter = new FileWriter(tempFile);
-		    fileWriter.write(stringWriter.toString());
-		    fileWriter.close();
-			result = configure(tempFile);
+		try (InputStream inputStream = serialize(document).toInputStream()) {
+			String name = document.getDocumentURI() == null ? Origin.UNKNOWN_FILE_PATH : document.getDocumentURI();
+			JaxbCfgHibernateConfiguration jaxbCfg = getCfgProcessor().unmarshal(
+					inputStream, 
+					new Origin(SourceType.DOM, name));
+			getStandardServiceRegistryBuilder().configure(LoadedConfig.consume(jaxbCfg));
+			getProperties().putAll(getStandardServiceRegistryBuilder().getSettings());
 		} catch(IOException | TransformerException e) {
 			throw new RuntimeException("Problem while configuring", e);
-		} finally {
-			tempFile.delete();
 		}
+		return this;
+	}
+	
+	private JaxbCfgProcessor getCfgProcessor() {
+		if (cfgProcessor == null) {
+			cfgProcessor = new JaxbCfgProcessor(
+					getStandardServiceRegistryBuilder()
+						.getBootstrapServiceRegistry()
+						.requireService(ClassLoaderService.class));
+		}
+		return cfgProcessor;
+	}
+	
+	private static DocumentBuffer serialize(Document document) throws TransformerException {
+		Transformer transformer = null;
+		// factories are not guaranteed to be thread safe, the transformers they create are used by one thread
+		synchronized (TRANSFORMER_FACTORY) {
+			transformer = TRANSFORMER_FACTORY.newTransformer();
+		}
+		DocumentBuffer result = new DocumentBuffer();
+		transformer.transform(new DOMSource(document), new StreamResult(result));
 		return result;
 	}
 	
+	private static class DocumentBuffer extends ByteArrayOutputStream {
+		InputStream toInputStream() {
+			// reads the buffer itself instead of a copy of it
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+	}
+	
 	public void buildMappings() {
 		buildMetadata();
 	}
 	
+	public void buildMappings(RevengListener listener) {
+		Metadata result = createMetadata();
+		MetadataHelper.checkCancelled(listener);
+		metadata = result;
+	}
+	
 	public Iterator<PersistentClass> getClassMappings() {
 		return getMetadata().getEntityBindings().iterator();
 	}
@@ -140,9 +178,13 @@ public class NativeConfiguration extends Configuration implements ExtendedConfig
 	}
 	
 	private void buildMetadata() {
+		metadata = createMetadata();
+	}
+	
+	private Metadata createMetadata() {
 		MetadataSources metadataSources = MetadataHelper.getMetadataSources(this);
 		getStandardServiceRegistryBuilder().applySettings(getProperties());
-		metadata = metadataSources.buildMetadata(getStandardServiceRegistryBuilder().build());
+		return metadataSources.buildMetadata(getStandardServiceRegistryBuilder().build());
 	}
 	
 }
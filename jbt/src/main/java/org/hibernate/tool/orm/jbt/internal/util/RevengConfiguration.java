@@ -20,6 +20,7 @@ package org.hibernate.tool.orm.jbt.internal.util;
 import java.io.File;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Properties;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -29,14 +30,16 @@ import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.metadata.MetadataConstants;
 import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
 import org.w3c.dom.Document;
 import org.xml.sax.EntityResolver;
 
 public class RevengConfiguration extends Configuration implements ExtendedConfiguration {
 
 	RevengStrategy revengStrategy;
-	Metadata metadata;
+	volatile Metadata metadata;
 
 	public Object getReverseEngineeringStrategy() {
 		return revengStrategy;
@@ -140,6 +143,23 @@ public class RevengConfiguration extends Configuration implements ExtendedConfig
 		}
 	}
 	
+	public void buildMappings(RevengListener listener) {
+		Properties properties = new Properties();
+		properties.putAll(getProperties());
+		// the listener set by the user keeps being notified
+		RevengListener chained = RevengInstrumentation.chain(
+				RevengInstrumentation.createListener(properties), 
+				listener);
+		if (chained != null) {
+			properties.put(MetadataConstants.REVENG_LISTENER, chained);
+		}
+		Metadata result = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(revengStrategy, properties)
+				.createMetadata();
+		MetadataHelper.checkCancelled(listener);
+		metadata = result;
+	}
+	
 	public SessionFactory buildSessionFactory() {
 		throw new RuntimeException(
 				"Method 'buildSessionFactory' should not be called on instances of " +
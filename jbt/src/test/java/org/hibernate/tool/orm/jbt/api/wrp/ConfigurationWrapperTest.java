@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -36,8 +37,14 @@ import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 
@@ -48,6 +55,8 @@ import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
 import org.hibernate.boot.model.naming.ImplicitNamingStrategyJpaCompliantImpl;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.hibernate.tool.orm.jbt.internal.factory.ConfigurationWrapperFactory;
 import org.hibernate.tool.orm.jbt.internal.factory.NamingStrategyWrapperFactory;
@@ -714,6 +723,83 @@ public class ConfigurationWrapperTest {
 		}
 	}
 	
+	@Test
+	public void testBuildMappingsInBackground() throws Exception {
+		Connection connection = DriverManager.getConnection("jdbc:h2:mem:test");
+		Statement statement = connection.createStatement();
+		statement.execute("CREATE TABLE FOO(id int primary key, bar varchar(255))");
+		wrappedRevengConfiguration.setProperty("hibernate.connection.url", "jdbc:h2:mem:test");
+		wrappedRevengConfiguration.setProperty("hibernate.default_schema", "PUBLIC");
+		// cancelled once the table is read
+		MetadataBuildWrapper cancelledBuild = revengConfigurationWrapper.buildMappingsInBackground(b -> b.cancel());
+		assertTrue(cancelledBuild.waitFor(10000));
+		assertTrue(cancelledBuild.isDone());
+		assertTrue(cancelledBuild.isCancelled());
+		assertNull(cancelledBuild.getFailure());
+		assertEquals(1, cancelledBuild.getTablesRead());
+		assertEquals(0, cancelledBuild.getEntitiesBound());
+		assertNull(((RevengConfiguration)wrappedRevengConfiguration).getMetadata());
+		// completed
+		List<Integer> progress = Collections.synchronizedList(new ArrayList<Integer>());
+		MetadataBuildWrapper build = revengConfigurationWrapper.buildMappingsInBackground(
+				b -> progress.add(b.getEntitiesBound()));
+		assertTrue(build.waitFor(10000));
+		assertFalse(build.isCancelled());
+		assertFalse(build.cancel());
+		assertNull(build.getFailure());
+		assertEquals(1, build.getTablesRead());
+		assertEquals(1, build.getEntitiesBound());
+		assertEquals(1, build.getEntityCount());
+		assertEquals(List.of(0, 1, 1), progress);
+		Metadata metadata = ((RevengConfiguration)wrappedRevengConfiguration).getMetadata();
+		assertNotNull(metadata.getEntityBinding("Foo"));
+		statement.execute("DROP TABLE FOO");
+		statement.close();
+		connection.close();
+	}
+	
+	@Test
+	public void testBuildMappingsInBackgroundOneAtATime() throws Exception {
+		Connection connection = DriverManager.getConnection("jdbc:h2:mem:test");
+		Statement statement = connection.createStatement();
+		statement.execute("CREATE TABLE FOO(id int primary key, bar varchar(255))");
+		wrappedRevengConfiguration.setProperty("hibernate.connection.url", "jdbc:h2:mem:test");
+		wrappedRevengConfiguration.setProperty("hibernate.default_schema", "PUBLIC");
+		// the listener of the user is notified as well, the first build blocks in it
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> tablesRead = Collections.synchronizedList(new ArrayList<String>());
+		wrappedRevengConfiguration.getProperties().put(MetadataConstants.REVENG_LISTENER, new RevengListener() {
+			public void tableRead(String catalog, String schema, String table, int count) {
+				tablesRead.add(table);
+				if (tablesRead.size() == 1) {
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		});
+		MetadataBuildWrapper first = revengConfigurationWrapper.buildMappingsInBackground(null);
+		while (tablesRead.isEmpty()) {
+			Thread.onSpinWait();
+		}
+		MetadataBuildWrapper second = revengConfigurationWrapper.buildMappingsInBackground(null);
+		assertTrue(first.isCancelled());
+		// the second build waits for the first one
+		assertFalse(second.waitFor(100));
+		assertEquals(1, tablesRead.size());
+		release.countDown();
+		assertTrue(second.waitFor(10000));
+		assertTrue(first.isDone());
+		assertNull(second.getFailure());
+		assertEquals(2, tablesRead.size());
+		assertNotNull(((RevengConfiguration)wrappedRevengConfiguration).getMetadata().getEntityBinding("Foo"));
+		statement.execute("DROP TABLE FOO");
+		statement.close();
+		connection.close();
+	}
+	
 	@Test
 	public void testGetClassMapping() throws Exception {
 		// For native configuration
@@ -863,6 +949,43 @@ public class ConfigurationWrapperTest {
 		assertEquals(fooTableFacade.getName(), "ConfigurationWrapperTest$FooBar");
 	}
 	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testGetMappingSnapshot() throws Exception {
+		String fooHbmXmlFilePath = "org/hibernate/tool/orm/jbt/api/wrp";
+		String fooHbmXmlFileName = "ConfigurationWrapperTest$Foo.hbm.xml";
+		URL url = getClass().getProtectionDomain().getCodeSource().getLocation();
+		File hbmXmlFileDir = new File(new File(url.toURI()),fooHbmXmlFilePath);
+		hbmXmlFileDir.deleteOnExit();
+		hbmXmlFileDir.mkdirs();
+		File hbmXmlFile = new File(hbmXmlFileDir, fooHbmXmlFileName);
+		hbmXmlFile.deleteOnExit();
+		FileWriter fileWriter = new FileWriter(hbmXmlFile);
+		fileWriter.write(TEST_HBM_XML_STRING);
+		fileWriter.close();
+		wrappedNativeConfiguration.addClass(Foo.class);
+		Map<String, Object> snapshot = nativeConfigurationWrapper.getMappingSnapshot();
+		List<Map<String, Object>> classes = (List<Map<String, Object>>)snapshot.get(ConfigurationWrapper.CLASSES);
+		List<Map<String, Object>> properties = (List<Map<String, Object>>)snapshot.get(ConfigurationWrapper.PROPERTIES);
+		List<Map<String, Object>> tables = (List<Map<String, Object>>)snapshot.get(ConfigurationWrapper.TABLES);
+		List<Map<String, Object>> columns = (List<Map<String, Object>>)snapshot.get(ConfigurationWrapper.COLUMNS);
+		assertEquals(1, classes.size());
+		Map<String, Object> fooClass = classes.get(0);
+		assertEquals(Foo.class.getName(), fooClass.get("entityName"));
+		Map<String, Object> idProperty = properties.get((Integer)fooClass.get("identifierProperty"));
+		assertEquals("id", idProperty.get("name"));
+		assertEquals(0, idProperty.get("class"));
+		assertEquals(List.of("id"), idProperty.get("columns"));
+		Map<String, Object> fooTable = tables.get((Integer)fooClass.get("table"));
+		assertEquals("ConfigurationWrapperTest$Foo", fooTable.get("name"));
+		assertEquals(List.of("id"), fooTable.get("primaryKey"));
+		assertEquals(1, columns.size());
+		assertEquals("id", columns.get(0).get("name"));
+		assertEquals(fooClass.get("table"), columns.get(0).get("table"));
+		assertThrows(UnsupportedOperationException.class, () -> classes.clear());
+		assertThrows(UnsupportedOperationException.class, () -> fooClass.put("entityName", "Bar"));
+	}
+	
 	private void createPersistenceXml() throws Exception {
 		File metaInf = new File(tempRoot, "META-INF");
 		metaInf.mkdirs();
@@ -231,6 +231,19 @@ public class PersistentClassWrapperTest {
 		assertSame(property, propertyClosureIterator.next().getWrappedObject());
 	}
 	
+	@Test
+	public void testWrappersAreShared() {
+		Property property = new Property();
+		rootClassTarget.addProperty(property);
+		assertSame(rootClassWrapper, PersistentClassWrapperFactory.createPersistentClassWrapper(rootClassTarget));
+		PropertyWrapper propertyWrapper = rootClassWrapper.getProperties().get(0);
+		assertSame(property, propertyWrapper.getWrappedObject());
+		assertSame(propertyWrapper, rootClassWrapper.getProperties().get(0));
+		assertSame(propertyWrapper, rootClassWrapper.getPropertyClosure().get(0));
+		assertSame(propertyWrapper, singleTableSubclassWrapper.getPropertyClosure().get(0));
+		assertSame(rootClassWrapper.getTable(), rootClassWrapper.getTable());
+	}
+	
 	@Test
 	public void testGetSuperclass() {
 		assertNull(rootClassWrapper.getSuperclass());
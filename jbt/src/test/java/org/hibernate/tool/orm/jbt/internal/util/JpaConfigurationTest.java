@@ -21,8 +21,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -37,6 +39,7 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.util.Iterator;
 import java.util.Properties;
+import java.util.concurrent.CancellationException;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.boot.Metadata;
@@ -45,6 +48,7 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -182,6 +186,31 @@ public class JpaConfigurationTest {
 		assertEquals("bar", jpaConfiguration.getProperties().get("foo"));
 	}
 	
+	@Test
+	public void testBuildMappingsWithListener() {
+		JpaConfiguration jpaConfiguration = new JpaConfiguration("foobar", null);
+		jpaConfiguration.buildMappings(null);
+		SessionFactory previous = jpaConfiguration.sessionFactory;
+		assertTrue(previous.isOpen());
+		jpaConfiguration.buildMappings(null);
+		assertNotSame(previous, jpaConfiguration.sessionFactory);
+		assertFalse(previous.isOpen());
+		assertTrue(jpaConfiguration.sessionFactory.isOpen());
+		SessionFactory current = jpaConfiguration.sessionFactory;
+		Metadata metadata = jpaConfiguration.metadata;
+		assertThrows(
+				CancellationException.class, 
+				() -> jpaConfiguration.buildMappings(new RevengListener() {
+					@Override
+					public boolean isCancelled() {
+						return true;
+					}
+				}));
+		assertSame(current, jpaConfiguration.sessionFactory);
+		assertSame(metadata, jpaConfiguration.metadata);
+		assertTrue(current.isOpen());
+	}
+	
 	@Test
 	public void testGetClassMappings() {
 		JpaConfiguration jpaConfiguration = new JpaConfiguration("foobar", null);
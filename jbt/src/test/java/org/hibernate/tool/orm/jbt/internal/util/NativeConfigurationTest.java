@@ -20,6 +20,7 @@ package org.hibernate.tool.orm.jbt.internal.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -103,6 +104,10 @@ public class NativeConfigurationTest {
 		Element sessionFactory = document.createElement("session-factory");
 		sessionFactory.setAttribute("name", "bar");
 		hibernateConfiguration.appendChild(sessionFactory);
+		Element property = document.createElement("property");
+		property.setAttribute("name", "foo");
+		property.setTextContent("bar");
+		sessionFactory.appendChild(property);
 		Element mapping = document.createElement("mapping");
 		mapping.setAttribute("resource", "Foo.hbm.xml");
 		sessionFactory.appendChild(mapping);
@@ -119,8 +124,13 @@ public class NativeConfigurationTest {
 		Metadata metadata = MetadataHelper.getMetadata(nativeConfiguration);
 		assertNull(metadata.getEntityBinding(fooClassName));
 		nativeConfiguration.configure(document);
+		assertEquals("bar", nativeConfiguration.getProperty("foo"));
 		metadata = MetadataHelper.getMetadata(nativeConfiguration);
 		assertNotNull(metadata.getEntityBinding(fooClassName));
+		property.setTextContent("baz");
+		nativeConfiguration.configure(document);
+		assertEquals("baz", nativeConfiguration.getProperty("foo"));
+		assertNotSame(metadata, MetadataHelper.getMetadata(nativeConfiguration));
 	}
 	
 	@Test
@@ -30,13 +30,22 @@ import jakarta.persistence.metamodel.MapAttribute;
 import jakarta.persistence.metamodel.MappedSuperclassType;
 import jakarta.persistence.metamodel.Metamodel;
 import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.persistence.metamodel.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 /**
  * Implementation of {@link MetamodelSerializer} that represents the {@link Metamodel} as a JSON array of mapped objects.
@@ -44,11 +53,16 @@ import java.util.Set;
 public class MetamodelJsonSerializerImpl implements MetamodelSerializer {
 	public static MetamodelJsonSerializerImpl INSTANCE = new MetamodelJsonSerializerImpl();
 
+	private static final String EMPTY_JSON = "{\"entities\":[],\"mappedSuperclasses\":[],\"embeddables\":[]}";
+
+	private final Map<Metamodel, SerializedMetamodel> cache = Collections.synchronizedMap( new WeakHashMap<>() );
+
 	/**
 	 * Utility method that generates a JSON string representation of the mapping information
 	 * contained in the provided {@link Metamodel metamodel} instance. The representation
 	 * does not follow a strict scheme, and is more akin to natural language, as it's
-	 * mainly meant for consumption by a LLM.
+	 * mainly meant for consumption by a LLM. It is only built the first time it is
+	 * requested for a given metamodel.
 	 *
 	 * @param metamodel the metamodel instance containing information on the persistence structures
 	 *
@@ -56,23 +70,36 @@ public class MetamodelJsonSerializerImpl implements MetamodelSerializer {
 	 */
 	@Override
 	public String toString(Metamodel metamodel) {
-		final List<Map<String, Object>> entities = new ArrayList<>();
-		final List<Map<String, Object>> embeddables = new ArrayList<>();
-		final List<Map<String, Object>> mappedSupers = new ArrayList<>();
-		for ( ManagedType<?> managedType : metamodel.getManagedTypes() ) {
-			switch ( managedType.getPersistenceType() ) {
-				case ENTITY -> entities.add( getEntityTypeDescription( (EntityType<?>) managedType ) );
-				case EMBEDDABLE -> embeddables.add( getEmbeddableTypeDescription( (EmbeddableType<?>) managedType ) );
-				case MAPPED_SUPERCLASS -> mappedSupers.add( getMappedSuperclassTypeDescription( (MappedSuperclassType<?>) managedType ) );
-				default ->
-						throw new IllegalStateException( "Unexpected persistence type for managed type [" + managedType + "]" );
-			}
-		}
-		return toJson( Map.of(
-				"entities", entities,
-				"mappedSuperclasses", mappedSupers,
-				"embeddables", embeddables
-		) );
+		return serialize( metamodel ).json;
+	}
+
+	/**
+	 * Generates a JSON string representation of the entities mentioned by name in the {@code prompt},
+	 * of the entities reachable from those within {@code maxHops} associations (in either direction),
+	 * and of the mapped superclasses and embeddables these entities use. The entities are added in
+	 * the order of their distance to the mentioned ones, until adding the next one would make the
+	 * representation longer than {@code maxLength}. When no entity is mentioned all of them are
+	 * candidates, in the order of the metamodel.
+	 *
+	 * @throws IllegalArgumentException if {@code maxLength} is shorter than the representation
+	 * without any entity
+	 */
+	@Override
+	public String toString(Metamodel metamodel, String prompt, int maxHops, int maxLength) {
+		if ( maxLength < EMPTY_JSON.length() ) {
+			throw new IllegalArgumentException( "The maximum length must be at least " + EMPTY_JSON.length()
+					+ " characters, was: " + maxLength );
+		}
+		final SerializedMetamodel serialized = serialize( metamodel );
+		return serialized.compose( serialized.getRelevantEntities( prompt, maxHops ), maxLength );
+	}
+
+	/**
+	 * The serialized form is kept for as long as the metamodel is in use, as it only
+	 * depends on the (immutable) metamodel.
+	 */
+	private SerializedMetamodel serialize(Metamodel metamodel) {
+		return cache.computeIfAbsent( metamodel, SerializedMetamodel::new );
 	}
 
 	private static String toJson(Map<String, Object> map) {
@@ -193,4 +220,189 @@ public class MetamodelJsonSerializerImpl implements MetamodelSerializer {
 			);
 		} ).toList();
 	}
+
+	/**
+	 * The JSON representation of a metamodel, together with the JSON of every entity, mapped
+	 * superclass and embeddable and the associations between the entities, to compose the
+	 * representation of a part of the metamodel. It only holds strings, so it does not keep
+	 * the metamodel it is cached for from being garbage collected.
+	 */
+	private static class SerializedMetamodel {
+
+		private final String json;
+		private final Map<String, String> entities = new LinkedHashMap<>();
+		private final Map<String, String> mappedSupers = new HashMap<>();
+		private final Map<String, String> embeddables = new HashMap<>();
+		private final Map<String, String> entityNames = new HashMap<>();
+		private final Map<String, Set<String>> associations = new HashMap<>();
+		private final Map<String, Set<String>> usedMappedSupers = new HashMap<>();
+		private final Map<String, Set<String>> usedEmbeddables = new HashMap<>();
+
+		SerializedMetamodel(Metamodel metamodel) {
+			final List<Map<String, Object>> entityList = new ArrayList<>();
+			final List<Map<String, Object>> embeddableList = new ArrayList<>();
+			final List<Map<String, Object>> mappedSuperList = new ArrayList<>();
+			for ( ManagedType<?> managedType : metamodel.getManagedTypes() ) {
+				switch ( managedType.getPersistenceType() ) {
+					case ENTITY -> {
+						final EntityType<?> entityType = (EntityType<?>) managedType;
+						final Map<String, Object> description = getEntityTypeDescription( entityType );
+						entityList.add( description );
+						entities.put( entityType.getName(), toJson( description ) );
+						entityNames.put( entityType.getName().toLowerCase( Locale.ROOT ), entityType.getName() );
+						collectUsedTypes( entityType );
+					}
+					case EMBEDDABLE -> {
+						final Map<String, Object> description = getEmbeddableTypeDescription( (EmbeddableType<?>) managedType );
+						embeddableList.add( description );
+						embeddables.put( managedType.getJavaType().getTypeName(), toJson( description ) );
+					}
+					case MAPPED_SUPERCLASS -> {
+						final Map<String, Object> description = getMappedSuperclassTypeDescription( (MappedSuperclassType<?>) managedType );
+						mappedSuperList.add( description );
+						mappedSupers.put( managedType.getJavaType().getTypeName(), toJson( description ) );
+					}
+					default ->
+							throw new IllegalStateException( "Unexpected persistence type for managed type [" + managedType + "]" );
+				}
+			}
+			json = toJson( Map.of(
+					"entities", entityList,
+					"mappedSuperclasses", mappedSuperList,
+					"embeddables", embeddableList
+			) );
+		}
+
+		private void collectUsedTypes(EntityType<?> entityType) {
+			final String name = entityType.getName();
+			final Set<String> supers = usedMappedSupers.computeIfAbsent( name, n -> new LinkedHashSet<>() );
+			ManagedDomainType<?> superType = ( (ManagedDomainType<?>) entityType ).getSuperType();
+			while ( superType != null ) {
+				if ( superType instanceof EntityType<?> superEntity ) {
+					associate( name, superEntity.getName() );
+				}
+				else if ( superType.getPersistenceType() == Type.PersistenceType.MAPPED_SUPERCLASS ) {
+					supers.add( superType.getJavaType().getTypeName() );
+				}
+				superType = superType.getSuperType();
+			}
+			collectUsedTypes( name, entityType, usedEmbeddables.computeIfAbsent( name, n -> new LinkedHashSet<>() ) );
+		}
+
+		private void collectUsedTypes(String entityName, ManagedType<?> managedType, Set<String> embeddableNames) {
+			for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+				for ( Type<?> type : getTypes( attribute ) ) {
+					if ( type instanceof EntityType<?> target ) {
+						associate( entityName, target.getName() );
+					}
+					else if ( type instanceof EmbeddableType<?> embeddable
+							&& embeddableNames.add( embeddable.getJavaType().getTypeName() ) ) {
+						collectUsedTypes( entityName, embeddable, embeddableNames );
+					}
+				}
+			}
+		}
+
+		private static List<Type<?>> getTypes(Attribute<?, ?> attribute) {
+			if ( attribute instanceof MapAttribute<?, ?, ?> mapAttribute ) {
+				return List.of( mapAttribute.getKeyType(), mapAttribute.getElementType() );
+			}
+			else if ( attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute ) {
+				return List.of( pluralAttribute.getElementType() );
+			}
+			else if ( attribute instanceof SingularAttribute<?, ?> singularAttribute ) {
+				return List.of( singularAttribute.getType() );
+			}
+			return List.of();
+		}
+
+		private void associate(String entityName, String otherEntityName) {
+			if ( !entityName.equals( otherEntityName ) ) {
+				associations.computeIfAbsent( entityName, n -> new LinkedHashSet<>() ).add( otherEntityName );
+				associations.computeIfAbsent( otherEntityName, n -> new LinkedHashSet<>() ).add( entityName );
+			}
+		}
+
+		/**
+		 * Returns the names of the entities mentioned in the prompt (also in plural form), followed by
+		 * the entities reachable from these, in the order of their distance to the mentioned ones.
+		 */
+		Collection<String> getRelevantEntities(String prompt, int maxHops) {
+			final Set<String> result = new LinkedHashSet<>();
+			for ( String word : prompt.toLowerCase( Locale.ROOT ).split( "[^\\p{L}\\p{N}_$]+" ) ) {
+				String name = entityNames.get( word );
+				if ( name == null && word.endsWith( "s" ) ) {
+					name = entityNames.get( word.substring( 0, word.length() - 1 ) );
+					if ( name == null && word.endsWith( "es" ) ) {
+						name = entityNames.get( word.substring( 0, word.length() - 2 ) );
+					}
+				}
+				if ( name != null ) {
+					result.add( name );
+				}
+			}
+			if ( result.isEmpty() ) {
+				return entities.keySet();
+			}
+			Deque<String> frontier = new ArrayDeque<>( result );
+			for ( int hop = 0; hop < maxHops && !frontier.isEmpty(); hop++ ) {
+				final Deque<String> next = new ArrayDeque<>();
+				for ( String name : frontier ) {
+					for ( String associated : associations.getOrDefault( name, Set.of() ) ) {
+						if ( result.add( associated ) ) {
+							next.add( associated );
+						}
+					}
+				}
+				frontier = next;
+			}
+			return result;
+		}
+
+		String compose(Collection<String> entityNames, int maxLength) {
+			final List<String> entityList = new ArrayList<>();
+			final List<String> mappedSuperList = new ArrayList<>();
+			final List<String> embeddableList = new ArrayList<>();
+			final Set<String> included = new HashSet<>();
+			int length = EMPTY_JSON.length();
+			for ( String name : entityNames ) {
+				final List<String> superFragments = getFragments( usedMappedSupers.get( name ), mappedSupers, included );
+				final List<String> embeddableFragments = getFragments( usedEmbeddables.get( name ), embeddables, included );
+				final int added = getLength( entityList, List.of( entities.get( name ) ) )
+						+ getLength( mappedSuperList, superFragments )
+						+ getLength( embeddableList, embeddableFragments );
+				if ( length + added > maxLength ) {
+					break;
+				}
+				length += added;
+				entityList.add( entities.get( name ) );
+				mappedSuperList.addAll( superFragments );
+				embeddableList.addAll( embeddableFragments );
+				included.addAll( usedMappedSupers.get( name ) );
+				included.addAll( usedEmbeddables.get( name ) );
+			}
+			return "{\"entities\":[" + String.join( ",", entityList )
+					+ "],\"mappedSuperclasses\":[" + String.join( ",", mappedSuperList )
+					+ "],\"embeddables\":[" + String.join( ",", embeddableList ) + "]}";
+		}
+
+		private static List<String> getFragments(Set<String> typeNames, Map<String, String> fragments, Set<String> included) {
+			final List<String> result = new ArrayList<>();
+			for ( String typeName : typeNames ) {
+				final String fragment = fragments.get( typeName );
+				if ( fragment != null && !included.contains( typeName ) ) {
+					result.add( fragment );
+				}
+			}
+			return result;
+		}
+
+		private static int getLength(List<String> list, List<String> added) {
+			int result = 0;
+			for ( String fragment : added ) {
+				result += fragment.length() + ( list.isEmpty() && result == 0 ? 0 : 1 );
+			}
+			return result;
+		}
+	}
 }
@@ -21,6 +21,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.metamodel.mapping.MappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.ValuedModelPart;
 import org.hibernate.persister.entity.EntityPersister;
@@ -36,18 +37,24 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.tool.language.spi.ResultsSerializer;
+import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.jdbc.spi.DescriptiveJsonGeneratingVisitor;
 import org.hibernate.type.format.StringJsonDocumentWriter;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.Selection;
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.hibernate.internal.util.NullnessUtil.castNonNull;
 
 /**
  * Utility class to serialize query results into a JSON string format.
+ * <p>
+ * The selections of the query are resolved against the mapping metamodel only once,
+ * into a {@link RenderPlan} holding a {@link ColumnRenderer} per selected item, and the
+ * rows are then rendered without any further metamodel lookups.
  */
 public class ResultsJsonSerializerImpl implements ResultsSerializer {
 
@@ -66,87 +73,113 @@ public class ResultsJsonSerializerImpl implements ResultsSerializer {
 		}
 
 		final StringBuilder sb = new StringBuilder();
-		final StringJsonDocumentWriter writer = new StringJsonDocumentWriter( sb );
+		write( values, query, sb );
+		return sb.toString();
+	}
+
+	@Override
+	public <T> void write(Iterable<? extends T> values, SelectionQuery<T> query, Appendable out) throws IOException {
+		final Iterator<? extends T> iterator = values.iterator();
+		if ( !iterator.hasNext() ) {
+			out.append( "[]" );
+			return;
+		}
+
+		final RowWriter rowWriter = createRowWriter( query );
 		char separator = '[';
-		for ( final T value : values ) {
-			sb.append( separator );
-			//noinspection unchecked
-			renderValue( value, (SqmQuery<? super T>) query, writer );
+		while ( iterator.hasNext() ) {
+			out.append( separator );
+			rowWriter.write( iterator.next(), out );
 			separator = ',';
 		}
-		sb.append( ']' );
-		return sb.toString();
+		out.append( ']' );
+	}
+
+	/**
+	 * Resolves the selections of the given query once, and returns a writer rendering
+	 * the rows returned by the query one at a time, e.g. to write them as JSON lines.
+	 * Only a single row is ever buffered.
+	 *
+	 * @param query query object, used to determine the type of the rows
+	 *
+	 * @return a writer of the JSON representation of a single row
+	 */
+	public RowWriter createRowWriter(SelectionQuery<?> query) {
+		final RenderPlan plan = compile( query );
+		final StringBuilder buffer = new StringBuilder();
+		return (row, out) -> {
+			buffer.setLength( 0 );
+			plan.render( row, new StringJsonDocumentWriter( buffer ) );
+			out.append( buffer );
+		};
 	}
 
-	private <T> void renderValue(T value, SqmQuery<? super T> query, StringJsonDocumentWriter writer)
-			throws IOException {
-		final SqmStatement<?> sqm = query.getSqmStatement();
+	private RenderPlan compile(SelectionQuery<?> query) {
+		final SqmStatement<?> sqm = ( (SqmQuery<?>) query ).getSqmStatement();
 		if ( !( sqm instanceof SqmSelectStatement<?> sqmSelect ) ) {
 			throw new IllegalArgumentException( "Query is not a select statement." );
 		}
 		final List<SqmSelection<?>> selections = sqmSelect.getQuerySpec().getSelectClause().getSelections();
 		assert !selections.isEmpty();
-		if ( selections.size() == 1 ) {
-			renderValue( value, selections.get( 0 ).getSelectableNode(), writer );
-		}
-		else {
-			// wrap each result tuple in square brackets
-			writer.startArray();
-			for ( int i = 0; i < selections.size(); i++ ) {
-				final SqmSelection<?> selection = selections.get( i );
-				if ( value instanceof Object[] array ) {
-					renderValue( array[i], selection.getSelectableNode(), writer );
-				}
-				else if ( value instanceof Tuple tuple ) {
-					renderValue( tuple.get( i ), selection.getSelectableNode(), writer );
-				}
-				else {
-					renderValue( value, selection.getSelectableNode(), writer );
-				}
-			}
-			writer.endArray();
+		final WrapperOptions options = factory.getWrapperOptions();
+		final ColumnRenderer[] columns = new ColumnRenderer[selections.size()];
+		for ( int i = 0; i < columns.length; i++ ) {
+			columns[i] = compile( selections.get( i ).getSelectableNode(), options );
 		}
+		return new RenderPlan( columns );
 	}
 
-	private void renderValue(Object value, Selection<?> selection, StringJsonDocumentWriter writer) throws IOException {
+	private ColumnRenderer compile(Selection<?> selection, WrapperOptions options) {
 		if ( selection instanceof SqmRoot<?> root ) {
 			final EntityPersister persister = factory.getMappingMetamodel()
 					.getEntityDescriptor( root.getEntityName() );
-			JSON_VISITOR.visit( persister.getEntityMappingType(), value, factory.getWrapperOptions(), writer );
+			final MappingType mappingType = persister.getEntityMappingType();
+			return (value, writer) -> JSON_VISITOR.visit( mappingType, value, options, writer );
 		}
 		else if ( selection instanceof SqmPath<?> path ) {
 			// extract the attribute from the path
 			final ValuedModelPart subPart = getSubPart( path.getLhs(), path.getNavigablePath().getLocalName() );
 			if ( subPart != null ) {
-				JSON_VISITOR.visit( subPart.getMappedType(), value, factory.getWrapperOptions(), writer );
+				final MappingType mappingType = subPart.getMappedType();
+				return (value, writer) -> JSON_VISITOR.visit( mappingType, value, options, writer );
 			}
 			else {
-				expressibleToString( path, value, writer );
+				return expressibleRenderer( path );
 			}
 		}
 		else if ( selection instanceof SqmJpaCompoundSelection<?> compoundSelection ) {
 			final List<Selection<?>> compoundSelectionItems = compoundSelection.getCompoundSelectionItems();
 			assert compoundSelectionItems.size() > 1;
-			writer.startArray();
-			for ( int j = 0; j < compoundSelectionItems.size(); j++ ) {
-				renderValue( getValue( value, j ), compoundSelectionItems.get( j ), writer );
+			final ColumnRenderer[] items = new ColumnRenderer[compoundSelectionItems.size()];
+			for ( int j = 0; j < items.length; j++ ) {
+				items[j] = compile( compoundSelectionItems.get( j ), options );
 			}
-			writer.endArray();
+			return (value, writer) -> {
+				writer.startArray();
+				for ( int j = 0; j < items.length; j++ ) {
+					items[j].render( getValue( value, j ), writer );
+				}
+				writer.endArray();
+			};
 		}
 		else if ( selection instanceof SqmExpressibleAccessor<?> node ) {
-			expressibleToString( node, value, writer );
+			return expressibleRenderer( node );
 		}
 		else {
-			writer.stringValue( String.valueOf( value ) );
+			return (value, writer) -> writer.stringValue( String.valueOf( value ) );
 		}
 	}
 
+	private static ColumnRenderer expressibleRenderer(SqmExpressibleAccessor<?> node) {
+		//noinspection unchecked
+		final SqmExpressible<Object> expressible = (SqmExpressible<Object>) node.getExpressible();
+		return (value, writer) -> expressibleToString( expressible, value, writer );
+	}
+
 	private static void expressibleToString(
-			SqmExpressibleAccessor<?> node,
+			SqmExpressible<Object> expressible,
 			Object value,
 			StringJsonDocumentWriter writer) {
-		//noinspection unchecked
-		final SqmExpressible<Object> expressible = (SqmExpressible<Object>) node.getExpressible();
 		final String result = expressible != null ?
 				expressible.getExpressibleJavaType().toString( value ) :
 				value.toString(); // best effort
@@ -206,4 +239,48 @@ public class ResultsJsonSerializerImpl implements ResultsSerializer {
 		}
 		return null;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Writes the JSON representation of one row returned by a query.
+	 */
+	@FunctionalInterface
+	public interface RowWriter {
+		void write(Object row, Appendable out) throws IOException;
+	}
+
+	/**
+	 * Renders the value of one selected item.
+	 */
+	@FunctionalInterface
+	private interface ColumnRenderer {
+		void render(Object value, StringJsonDocumentWriter writer) throws IOException;
+	}
+
+	/**
+	 * The renderers of the selected items of a query, in the order of the select clause.
+	 */
+	private record RenderPlan(ColumnRenderer[] columns) {
+
+		void render(Object value, StringJsonDocumentWriter writer) throws IOException {
+			if ( columns.length == 1 ) {
+				columns[0].render( value, writer );
+			}
+			else {
+				// wrap each result tuple in square brackets
+				writer.startArray();
+				for ( int i = 0; i < columns.length; i++ ) {
+					if ( value instanceof Object[] array ) {
+						columns[i].render( array[i], writer );
+					}
+					else if ( value instanceof Tuple tuple ) {
+						columns[i].render( tuple.get( i ), writer );
+					}
+					else {
+						columns[i].render( value, writer );
+					}
+				}
+				writer.endArray();
+			}
+		}
+	}
+}
@@ -36,4 +36,25 @@ public interface MetamodelSerializer {
 	 * @return the textual representation of the provided {@link Metamodel metamodel}
 	 */
 	String toString(Metamodel metamodel);
+
+	/**
+	 * Generates a textual representation of the part of the provided {@link Metamodel metamodel}
+	 * that is relevant to the given {@code prompt}: the entities it mentions by name, and the
+	 * entities reachable from those within {@code maxHops} associations. The representation
+	 * is at most {@code maxLength} characters long, entities further away from the mentioned
+	 * ones are left out first.
+	 * <p>
+	 * The default implementation ignores the prompt and the limits, and represents the
+	 * complete metamodel.
+	 *
+	 * @param metamodel the metamodel instance containing information on the persistence structures
+	 * @param prompt the text used to select the relevant entities
+	 * @param maxHops the maximum number of associations between a mentioned entity and an included one
+	 * @param maxLength the maximum length of the representation
+	 *
+	 * @return the textual representation of the relevant part of the provided {@link Metamodel metamodel}
+	 */
+	default String toString(Metamodel metamodel, String prompt, int maxHops, int maxLength) {
+		return toString( metamodel );
+	}
 }
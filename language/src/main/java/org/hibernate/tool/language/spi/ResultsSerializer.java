@@ -20,6 +20,7 @@ package org.hibernate.tool.language.spi;
 import org.hibernate.query.SelectionQuery;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,4 +39,20 @@ public interface ResultsSerializer {
 	 * @return JSON string representation of the values
 	 */
 	<T> String toString(List<? extends T> values, SelectionQuery<T> query) throws IOException;
+
+	/**
+	 * Serialize the given {@code values}, that have been returned by the provided {@code query}, into a JSON string
+	 * format written to {@code out}. Implementations are expected to write the values as they are iterated, so
+	 * results streamed from the database can be serialized without holding them all in memory.
+	 *
+	 * @param values values returned by the query
+	 * @param query query object, used to determine the type of the values
+	 * @param out target of the JSON representation of the values
+	 * @param <T> the type of objects returned by the query
+	 */
+	default <T> void write(Iterable<? extends T> values, SelectionQuery<T> query, Appendable out) throws IOException {
+		final List<T> list = new ArrayList<>();
+		values.forEach( list::add );
+		out.append( toString( list, query ) );
+	}
 }
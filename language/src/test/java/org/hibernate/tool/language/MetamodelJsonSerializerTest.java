@@ -47,6 +47,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Fail.fail;
 
 public class MetamodelJsonSerializerTest {
@@ -191,6 +192,67 @@ public class MetamodelJsonSerializerTest {
 		}
 	}
 
+	@Test
+	public void testCachedSerialization() {
+		final Metadata metadata = new MetadataSources().addAnnotatedClass( Address.class )
+				.addAnnotatedClass( Company.class )
+				.addAnnotatedClass( Employee.class )
+				.buildMetadata();
+		try (final SessionFactory sf = metadata.buildSessionFactory()) {
+			final String first = MetamodelJsonSerializerImpl.INSTANCE.toString( sf.getMetamodel() );
+			assertThat( MetamodelJsonSerializerImpl.INSTANCE.toString( sf.getMetamodel() ) ).isSameAs( first );
+		}
+	}
+
+	@Test
+	public void testRelevantEntities() {
+		final Metadata metadata = new MetadataSources().addAnnotatedClass( Address.class )
+				.addAnnotatedClass( Company.class )
+				.addAnnotatedClass( Employee.class )
+				.buildMetadata();
+		try (final SessionFactory sf = metadata.buildSessionFactory()) {
+			final Metamodel metamodel = sf.getMetamodel();
+			final String prompt = "Which employees earn more than 100000?";
+
+			JsonNode root = mapper.readTree( MetamodelJsonSerializerImpl.INSTANCE.toString( metamodel, prompt, 0, 100_000 ) );
+			assertThat( root.get( "entities" ).size() ).isEqualTo( 1 );
+			assertThat( findByName( root.get( "entities" ), Employee.class.getSimpleName() ) ).isNotNull();
+			assertThat( root.get( "embeddables" ).isEmpty() ).isTrue();
+
+			root = mapper.readTree( MetamodelJsonSerializerImpl.INSTANCE.toString( metamodel, prompt, 1, 100_000 ) );
+			assertThat( root.get( "entities" ).size() ).isEqualTo( 2 );
+			assertThat( findByName( root.get( "entities" ), Company.class.getSimpleName() ) ).isNotNull();
+			assertThat( findByName( root.get( "embeddables" ), Address.class.getSimpleName() ) ).isNotNull();
+
+			final String bounded = MetamodelJsonSerializerImpl.INSTANCE.toString( metamodel, prompt, 1, 600 );
+			assertThat( bounded.length() ).isLessThanOrEqualTo( 600 );
+			root = mapper.readTree( bounded );
+			assertThat( root.get( "entities" ).size() ).isEqualTo( 1 );
+			assertThat( findByName( root.get( "entities" ), Employee.class.getSimpleName() ) ).isNotNull();
+		}
+		catch (JsonProcessingException e) {
+			fail( "Encountered an exception during JSON processing", e );
+		}
+	}
+
+	@Test
+	public void testMaxLengthBoundary() {
+		final Metadata metadata = new MetadataSources().addAnnotatedClass( Address.class )
+				.addAnnotatedClass( Company.class )
+				.addAnnotatedClass( Employee.class )
+				.buildMetadata();
+		try (final SessionFactory sf = metadata.buildSessionFactory()) {
+			final Metamodel metamodel = sf.getMetamodel();
+			final String prompt = "Which employees earn more than 100000?";
+			final String empty = "{\"entities\":[],\"mappedSuperclasses\":[],\"embeddables\":[]}";
+
+			assertThat( MetamodelJsonSerializerImpl.INSTANCE.toString( metamodel, prompt, 1, empty.length() ) )
+					.isEqualTo( empty );
+			assertThatThrownBy( () -> MetamodelJsonSerializerImpl.INSTANCE.toString( metamodel, prompt, 1, empty.length() - 1 ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		}
+	}
+
 	private static JsonNode toJson(Metamodel metamodel) throws JsonProcessingException {
 		final String result = MetamodelJsonSerializerImpl.INSTANCE.toString( metamodel );
 		final JsonNode jsonNode;
@@ -43,6 +43,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.Tuple;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.util.Date;
 import java.util.List;
@@ -50,6 +51,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -250,6 +252,31 @@ public class ResultsJsonSerializerTest {
 		} );
 	}
 
+	@Test
+	public void testWriteStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SelectionQuery<Tuple> q = query(
+					"SELECT c.name, c.address FROM Company c ORDER BY c.id",
+					Tuple.class,
+					session
+			);
+
+			try (Stream<Tuple> stream = q.getResultStream()) {
+				final StringWriter result = new StringWriter();
+				new ResultsJsonSerializerImpl( scope.getSessionFactory() ).write( stream::iterator, q, result );
+
+				assertThat( result.toString() ).isEqualTo( toString( q.getResultList(), q, scope.getSessionFactory() ) );
+				final JsonNode jsonNode = mapper.readTree( result.toString() );
+				assertThat( jsonNode.size() ).isEqualTo( 4 );
+				assertThat( jsonNode.get( 0 ).get( 0 ).asText() ).isEqualTo( "Red Hat" );
+				assertThat( jsonNode.get( 0 ).get( 1 ).get( "city" ).asText() ).isEqualTo( "Milan" );
+			}
+			catch (IOException e) {
+				fail( "Serialization failed with exception", e );
+			}
+		} );
+	}
+
 	@Test
 	public void testCompanyFetchEmployees(SessionFactoryScope scope) {
 		scope.inTransaction( session -> {
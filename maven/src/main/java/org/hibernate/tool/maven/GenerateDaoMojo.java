@@ -58,6 +58,10 @@ public class GenerateDaoMojo extends AbstractGenerationMojo {
     @Parameter
     private String templatePath;
 
+    /** Format the generated Java code after the export. */
+    @Parameter(defaultValue = "false")
+    private boolean formatJava;
+
     protected void executeExporter(MetadataDescriptor metadataDescriptor) {
         Exporter pojoExporter = ExporterFactory.createExporter(ExporterType.DAO);
         pojoExporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
@@ -68,6 +72,7 @@ public class GenerateDaoMojo extends AbstractGenerationMojo {
         }
         pojoExporter.getProperties().setProperty("ejb3", String.valueOf(ejb3));
         pojoExporter.getProperties().setProperty("jdk5", String.valueOf(jdk5));
+        pojoExporter.getProperties().setProperty(ExporterConstants.FORMAT_JAVA, String.valueOf(formatJava));
         getLog().info("Starting DAO export to directory: " + outputDirectory + "...");
         pojoExporter.start();
     }
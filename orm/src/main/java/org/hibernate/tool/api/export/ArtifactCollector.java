@@ -27,6 +27,21 @@ public interface ArtifactCollector {
 	 */
 	void addFile(File file, String type);
 
+	/**
+	 * Called to inform that a file has been created by the exporter, telling whether
+	 * its content was already formatted so {@link #formatFiles()} can leave it alone.
+	 */
+	default void addFile(File file, String type, boolean formatted) {
+		addFile(file, type);
+	}
+
+	/**
+	 * Called to inform about the data an exporter wrote to a file, such as the rows 
+	 * of a query result, and how long it took.
+	 */
+	default void addFileStatistics(File file, long rows, long bytes, long durationNanos) {
+	}
+
 	int getFileCount(String type);
 
 	File[] getFiles(String type);
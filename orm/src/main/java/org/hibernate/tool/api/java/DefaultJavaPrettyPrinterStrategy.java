@@ -19,26 +19,58 @@ package org.hibernate.tool.api.java;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
 
 public class DefaultJavaPrettyPrinterStrategy {
 	
+	// the formatter holds no state between calls and can be shared by threads
+	private final Formatter formatter = new Formatter();
+	
 	public DefaultJavaPrettyPrinterStrategy(Map<Object, Object> settings) {}
 
 	public boolean formatFile(File file) {
 		try {
-			Formatter formatter = new Formatter();
-			String toFormat = new String(Files.readAllBytes(file.toPath()));
+			String toFormat = Files.readString(file.toPath(), StandardCharsets.UTF_8);
 			String toWrite = formatter.formatSource(toFormat);
-			Files.write(file.toPath(), toWrite.getBytes());
+			if (!toWrite.equals(toFormat)) {
+				Files.writeString(file.toPath(), toWrite, StandardCharsets.UTF_8);
+			}
 			return true;
 		} catch (IOException | FormatterException e) {
 			throw new RuntimeException(e);
 		}
 	}
 	
-}	
+	/**
+	 * Formats the files in parallel on the common fork-join pool.
+	 * 
+	 * @return the files that could not be formatted, in the order they were given, 
+	 * with the reason why
+	 */
+	public Map<File, RuntimeException> formatFiles(Collection<File> files) {
+		Map<File, RuntimeException> failures = new ConcurrentHashMap<File, RuntimeException>();
+		files.parallelStream().forEach(file -> {
+			try {
+				formatFile(file);
+			} catch (RuntimeException e) {
+				failures.put(file, e);
+			}
+		});
+		Map<File, RuntimeException> result = new LinkedHashMap<File, RuntimeException>();
+		for (File file : files) {
+			if (failures.containsKey(file)) {
+				result.put(file, failures.get(file));
+			}
+		}
+		return result;
+	}
+	
+}
@@ -21,4 +21,80 @@ public interface MetadataConstants {
 
 	public static final String PREFER_BASIC_COMPOSITE_IDS = "org.hibernate.tool.api.metadata.MetadataConstants.PreferBasicCompositeIds";
 
+	/**
+	 * Number of workers used to read the per table metadata (columns, primary keys, 
+	 * indexes and foreign keys) concurrently. Each worker uses its own connection 
+	 * obtained from the configured connection provider. Values smaller than 2 
+	 * (the default) keep the serial behavior. The configured reverse engineering
+	 * strategy must be safe to be queried from multiple threads.
+	 */
+	public static final String METADATA_READER_THREADS = "org.hibernate.tool.api.metadata.MetadataConstants.MetadataReaderThreads";
+
+	/**
+	 * When true, the metadata of a complete schema is read with a single query per 
+	 * kind of metadata instead of one query per table, for those kinds the metadata 
+	 * dialect can read schema wide. Defaults to false. As the prefetching dialect is 
+	 * not shared between workers, the metadata is then read serially.
+	 */
+	public static final String PREFETCH_METADATA = "org.hibernate.tool.api.metadata.MetadataConstants.PrefetchMetadata";
+
+	/**
+	 * Path of a file in which the metadata read from the database is kept between runs.
+	 * When the file holds a valid snapshot, the metadata is taken from it instead of from
+	 * the database, which allows to reverse engineer without database access. Metadata
+	 * that is missing from the snapshot is read from the database and added to it.
+	 */
+	public static final String METADATA_SNAPSHOT_FILE = "org.hibernate.tool.api.metadata.MetadataConstants.MetadataSnapshotFile";
+
+	/**
+	 * Maximum age in seconds of the snapshot in {@link #METADATA_SNAPSHOT_FILE} before 
+	 * it is read again from the database. Values smaller than 1 (the default) mean the 
+	 * snapshot does not expire.
+	 */
+	public static final String METADATA_SNAPSHOT_MAX_AGE = "org.hibernate.tool.api.metadata.MetadataConstants.MetadataSnapshotMaxAge";
+
+	/**
+	 * Fingerprint of the database schema, e.g. the version of the last applied migration.
+	 * The snapshot in {@link #METADATA_SNAPSHOT_FILE} is discarded when it was written with
+	 * another fingerprint.
+	 */
+	public static final String METADATA_SNAPSHOT_FINGERPRINT = "org.hibernate.tool.api.metadata.MetadataConstants.MetadataSnapshotFingerprint";
+
+	/**
+	 * Path of a file in which the fingerprints of the tables read from the database are
+	 * kept between runs. When set, only the classes of the tables that changed since the
+	 * previous run of the same exporter, and of the tables related to them by a foreign key, 
+	 * are generated by the exporters, together with the classes whose output is missing. The 
+	 * other classes are still bound. The fingerprints are stored once an export succeeded, per 
+	 * destination, template, template path content and exporter settings, so several exporters 
+	 * can share the file. Remove it when the reverse engineering settings change.
+	 */
+	public static final String INCREMENTAL_FINGERPRINT_FILE = "org.hibernate.tool.api.metadata.MetadataConstants.IncrementalFingerprintFile";
+
+	/**
+	 * The {@link org.hibernate.tool.api.reveng.RevengListener} receiving the timings of reverse 
+	 * engineering, either as instance or as the name of a class with a public no-argument 
+	 * constructor. Exporters report their duration to the listener set in their own properties.
+	 */
+	public static final String REVENG_LISTENER = "org.hibernate.tool.api.metadata.MetadataConstants.RevengListener";
+
+	/**
+	 * Maximum number of answers of the reverse engineering strategy to naming and type 
+	 * mapping questions (class, property, type, composite id and association names) that 
+	 * are remembered during a run, as the binders ask them repeatedly. Defaults to 10000. 
+	 * Set it to 0 for strategies that may answer the same question differently.
+	 */
+	public static final String STRATEGY_CACHE_SIZE = "org.hibernate.tool.api.metadata.MetadataConstants.StrategyCacheSize";
+
+	/**
+	 * Number of threads asking the reverse engineering strategy for the class, property and 
+	 * type names of the tables before they are bound. The classes are then still created 
+	 * and registered one table after the other, in the order of the tables. Values smaller 
+	 * than 2 (the default) keep the serial behavior. The configured reverse engineering 
+	 * strategy must be safe to be queried from multiple threads. The answers are reused 
+	 * through the cache of {@link #STRATEGY_CACHE_SIZE}, so this setting is ignored when 
+	 * that cache is disabled.
+	 */
+	public static final String BINDING_THREADS = "org.hibernate.tool.api.metadata.MetadataConstants.BindingThreads";
+
 }
@@ -35,6 +35,18 @@ import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
  */
 public interface RevengDialect {
 
+	/**
+	 * The kinds of per table metadata that a dialect might be able to read for all 
+	 * the tables of a catalog and schema at once.
+	 */
+	public enum MetaDataKind {
+		COLUMNS,
+		PRIMARY_KEYS,
+		INDEX_INFO,
+		EXPORTED_KEYS,
+		SUGGESTED_PRIMARY_KEY_STRATEGY_NAME
+	}
+
 	/**
 	 * Configure the metadatadialect. 
 	 * @param connectionProvider a {@link ConnectionProvider} 
@@ -122,5 +134,19 @@ public interface RevengDialect {
 	 */
 	public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table);
 
+	/**
+	 * Can the metadata of the given kind be read for all the tables in a catalog and schema 
+	 * by passing null as the table name. The returned rows must identify their table with the 
+	 * "TABLE_NAME", "TABLE_SCHEM" and "TABLE_CAT" keys (or the "PKTABLE_" equivalents for 
+	 * exported keys). Used to prefetch the metadata of a complete schema instead of issuing 
+	 * one query per table.
+	 * 
+	 * @param kind the kind of metadata
+	 * @return true if a null table name returns the metadata of all the tables, false by default
+	 */
+	default boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return false;
+	}
+	
 	
 }
@@ -17,6 +17,7 @@
  */
 package org.hibernate.tool.api.reveng;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.util.Properties;
 
@@ -27,11 +28,15 @@ import org.hibernate.dialect.MySQLDialect;
 import org.hibernate.dialect.OracleDialect;
 import org.hibernate.dialect.SQLServerDialect;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.internal.reveng.dialect.CachedMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.H2MetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.HSQLMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.JDBCMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.MySQLMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.OracleMetaDataDialect;
+import org.hibernate.tool.internal.reveng.dialect.PrefetchMetaDataDialect;
 import org.hibernate.tool.internal.reveng.dialect.SQLServerMetaDataDialect;
 
 public class RevengDialectFactory {
@@ -50,6 +55,18 @@ public class RevengDialectFactory {
 		if(mdd==null) {
 			mdd = new JDBCMetaDataDialect();
 		}
+		String snapshot = cfg.getProperty(MetadataConstants.METADATA_SNAPSHOT_FILE);
+		if(snapshot!=null) {
+			CachedMetaDataDialect cached = new CachedMetaDataDialect(mdd);
+			cached.useSnapshot(
+					new File(snapshot), 
+					cfg.getProperty(MetadataConstants.METADATA_SNAPSHOT_FINGERPRINT),
+					ConfigurationHelper.getLong(MetadataConstants.METADATA_SNAPSHOT_MAX_AGE, cfg, 0) * 1000);
+			mdd = cached;
+		}
+		if(ConfigurationHelper.getBoolean(MetadataConstants.PREFETCH_METADATA, cfg, false)) {
+			mdd = new PrefetchMetaDataDialect(mdd);
+		}
 		return mdd;
 	}
 
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+/**
+ * Receives the timings and the progress of reverse engineering, e.g. to find out why reading 
+ * a schema is slow, and can cancel it.
+ * Register it with {@link org.hibernate.tool.api.metadata.MetadataConstants#REVENG_LISTENER}.
+ * Listeners are called from the metadata reader threads as well, so they must be thread safe.
+ * The same measurements are recorded as JDK Flight Recorder events.
+ * 
+ * @see RevengMetrics
+ */
+public interface RevengListener {
+
+	/**
+	 * Called when a phase completed. For {@link RevengPhase#COLUMNS}, {@link RevengPhase#PRIMARY_KEYS}
+	 * and {@link RevengPhase#INDEXES} the duration is the sum of the time spent on each table, 
+	 * which can exceed the elapsed time when the metadata is read by several workers.
+	 */
+	default void phaseCompleted(RevengPhase phase, long durationNanos) {}
+
+	/**
+	 * Called when the rows of a metadata query have been read. The table is null for the 
+	 * queries that read a complete schema.
+	 */
+	default void metaDataQueryCompleted(
+			RevengPhase phase, 
+			String catalog, 
+			String schema, 
+			String table, 
+			int rowCount, 
+			long durationNanos) {}
+
+	/**
+	 * Called when the metadata of a table has been read, with the number of tables read so far.
+	 */
+	default void tableRead(String catalog, String schema, String table, int tablesRead) {}
+
+	/**
+	 * Called when a persistent class has been bound to its table, with the number of classes 
+	 * bound so far and the number of classes to bind.
+	 */
+	default void entityBound(String entityName, int entitiesBound, int entityCount) {}
+
+	/**
+	 * Polled before each table is read and before each class is bound, reverse engineering 
+	 * stops with a {@link java.util.concurrent.CancellationException} once it returns true.
+	 */
+	default boolean isCancelled() { return false; }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.tool.internal.util.TableNameQualifier;
+
+/**
+ * Listener that keeps the phase durations, the number of metadata queries per table, 
+ * the number of rows read and a latency histogram per kind of metadata query.
+ */
+public class RevengMetrics implements RevengListener {
+
+	/**
+	 * Upper bounds (exclusive) in milliseconds of the buckets of the latency histograms. 
+	 * The last bucket holds the queries that took longer.
+	 */
+	public static final long[] LATENCY_BUCKETS_MILLIS = { 1, 10, 100, 1000 };
+
+	private final Map<RevengPhase, Long> phaseDurations = new EnumMap<RevengPhase, Long>(RevengPhase.class);
+	private final Map<RevengPhase, Long> rowCounts = new EnumMap<RevengPhase, Long>(RevengPhase.class);
+	private final Map<RevengPhase, long[]> latencyHistograms = new EnumMap<RevengPhase, long[]>(RevengPhase.class);
+	private final Map<String, Integer> callCounts = new TreeMap<String, Integer>();
+
+	@Override
+	public synchronized void phaseCompleted(RevengPhase phase, long durationNanos) {
+		phaseDurations.merge(phase, durationNanos, Long::sum);
+	}
+
+	@Override
+	public synchronized void metaDataQueryCompleted(
+			RevengPhase phase, 
+			String catalog, 
+			String schema, 
+			String table, 
+			int rowCount, 
+			long durationNanos) {
+		callCounts.merge(TableNameQualifier.qualify(catalog, schema, table == null ? "%" : table), 1, Integer::sum);
+		rowCounts.merge(phase, (long)rowCount, Long::sum);
+		long[] histogram = latencyHistograms.computeIfAbsent(phase, p -> new long[LATENCY_BUCKETS_MILLIS.length + 1]);
+		long millis = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+		int bucket = 0;
+		while (bucket < LATENCY_BUCKETS_MILLIS.length && millis >= LATENCY_BUCKETS_MILLIS[bucket]) {
+			bucket++;
+		}
+		histogram[bucket]++;
+	}
+
+	/** the total duration in nanoseconds of the phase, 0 if it was not reported */
+	public synchronized long getPhaseDuration(RevengPhase phase) {
+		return phaseDurations.getOrDefault(phase, 0L);
+	}
+
+	/** the number of rows read by the metadata queries of the given kind */
+	public synchronized long getRowCount(RevengPhase phase) {
+		return rowCounts.getOrDefault(phase, 0L);
+	}
+
+	/** 
+	 * the number of metadata queries per table name qualified with the catalog and schema 
+	 * the query was made for, with % as table name for the schema wide queries 
+	 */
+	public synchronized Map<String, Integer> getCallCounts() {
+		return new TreeMap<String, Integer>(callCounts);
+	}
+
+	/** the number of queries of the given kind per bucket of {@link #LATENCY_BUCKETS_MILLIS} */
+	public synchronized long[] getLatencyHistogram(RevengPhase phase) {
+		long[] histogram = latencyHistograms.get(phase);
+		return histogram == null ? new long[LATENCY_BUCKETS_MILLIS.length + 1] : histogram.clone();
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (RevengPhase phase : RevengPhase.values()) {
+			if (phaseDurations.containsKey(phase) || latencyHistograms.containsKey(phase)) {
+				sb.append(phase)
+					.append(": ").append(TimeUnit.NANOSECONDS.toMillis(getPhaseDuration(phase))).append(" ms");
+				if (latencyHistograms.containsKey(phase)) {
+					sb.append(", ").append(getRowCount(phase)).append(" rows")
+						.append(", latencies ").append(Arrays.toString(latencyHistograms.get(phase)));
+				}
+				sb.append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+/**
+ * The phases of reverse engineering and code generation reported to a {@link RevengListener}.
+ * The per table phases also identify the kind of the metadata queries.
+ */
+public enum RevengPhase {
+	/** scanning the tables of the schema selections, including the per table phases when read serially */
+	TABLES,
+	COLUMNS,
+	PRIMARY_KEYS,
+	INDEXES,
+	EXPORTED_KEYS,
+	/** creating the persistent classes from the tables */
+	BINDING,
+	/** running an exporter */
+	EXPORT
+}
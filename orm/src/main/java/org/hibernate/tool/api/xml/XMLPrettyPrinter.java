@@ -19,8 +19,8 @@ package org.hibernate.tool.api.xml;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
@@ -37,12 +37,13 @@ public final class XMLPrettyPrinter {
 	}
 
 	public static void prettyPrintFile(File file, XMLPrettyPrinterStrategy strategy) throws IOException {
-		String input = readFile(file.getAbsolutePath(), Charset.defaultCharset());
+		String input = readFile(file.getAbsolutePath(), StandardCharsets.UTF_8);
 		String output = prettyFormat(input, strategy);
-		PrintWriter writer = new PrintWriter(file);
-		writer.print(output);
-		writer.flush();
-		writer.close();
+		if (output.equals(input)) {
+			// leave the file (and its timestamp) alone
+			return;
+		}
+		Files.writeString(file.toPath(), output, StandardCharsets.UTF_8);
 	}
 
 	private static String readFile(String path, Charset encoding) throws IOException {
@@ -50,10 +51,17 @@ public final class XMLPrettyPrinter {
 		return new String(encoded, encoding);
 	}
 
+	/**
+	 * Formats the xml with the strategy reused by the current thread.
+	 */
+	public static String prettyPrint(String xml) {
+		return prettyFormat(xml, null);
+	}
+
 	private static String prettyFormat(String input, XMLPrettyPrinterStrategy strategy) {
 	    try {
 	    	if (strategy == null) {
-	    		strategy = XMLPrettyPrinterStrategyFactory.newXMLPrettyPrinterStrategy();
+	    		strategy = XMLPrettyPrinterStrategyFactory.getXMLPrettyPrinterStrategy();
 	    	}
 			return strategy.prettyPrint(input);
 	    } catch (Exception e) {
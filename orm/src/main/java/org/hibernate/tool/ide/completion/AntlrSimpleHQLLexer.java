@@ -17,7 +17,6 @@
  */
 package org.hibernate.tool.ide.completion;
 
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.Token;
 import org.hibernate.grammars.hql.HqlLexer;
 
@@ -34,7 +33,8 @@ public class AntlrSimpleHQLLexer implements SimpleHQLLexer {
 	private Token token;
 
 	public AntlrSimpleHQLLexer(char[] cs, int length) {
-		lexer = new HqlLexer(CharStreams.fromString(new String(cs)));
+		// lexes all the characters, as this lexer always did, whatever the length
+		lexer = HQLTokenBuffer.createLexer(cs, cs.length);
 		// Commenting out, not sure if this is still relevant and/or needed
 //		{
 //			public void newline() {
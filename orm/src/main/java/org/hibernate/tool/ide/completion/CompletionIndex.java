@@ -0,0 +1,88 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.ide.completion;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable index of completion candidates by their case folded name, to find the candidates 
+ * starting with a prefix with a binary search instead of a scan over all of them. The matching 
+ * candidates are reported in the order in which they were given.
+ */
+class CompletionIndex<T> {
+
+	private final List<String> names;
+	private final List<T> values;
+	private final String[] foldedNames;
+	private final int[] ordinals;
+
+	CompletionIndex(List<String> names, List<T> values) {
+		this.names = names;
+		this.values = values;
+		String[] folded = new String[names.size()];
+		Integer[] order = new Integer[names.size()];
+		for (int i = 0; i < folded.length; i++) {
+			folded[i] = names.get(i).toLowerCase();
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(i -> folded[i]));
+		foldedNames = new String[folded.length];
+		ordinals = new int[folded.length];
+		for (int i = 0; i < folded.length; i++) {
+			foldedNames[i] = folded[order[i]];
+			ordinals[i] = order[i];
+		}
+	}
+
+	/**
+	 * Passes the name and value of every candidate whose name starts with <code>prefix</code>, 
+	 * ignoring case, to <code>action</code>.
+	 */
+	void forEachMatch(String prefix, BiConsumer<String, T> action) {
+		if (prefix.length() == 0) {
+			for (int i = 0; i < names.size(); i++) {
+				action.accept(names.get(i), values.get(i));
+			}
+			return;
+		}
+		String foldedPrefix = prefix.toLowerCase();
+		int low = 0;
+		int high = foldedNames.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (foldedNames[middle].compareTo(foldedPrefix) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		int end = low;
+		while (end < foldedNames.length && foldedNames[end].startsWith(foldedPrefix)) {
+			end++;
+		}
+		int[] matches = Arrays.copyOfRange(ordinals, low, end);
+		Arrays.sort(matches);
+		for (int ordinal : matches) {
+			action.accept(names.get(ordinal), values.get(ordinal));
+		}
+	}
+
+}
@@ -17,14 +17,19 @@
  */
 package org.hibernate.tool.ide.completion;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.Metadata;
@@ -45,6 +50,13 @@ import org.hibernate.tool.internal.export.java.EntityPOJOClass;
 public class ConfigurationCompletion {
 
 	private final Metadata metadata;
+	
+	// the indexes are built on first use and then reused, as the metadata does not change
+	private volatile CompletionIndex<String> importIndex;
+	private final Map<String, CompletionIndex<Property>> entityPropertyIndexes = new ConcurrentHashMap<String, CompletionIndex<Property>>();
+	private final Map<Component, CompletionIndex<Property>> componentPropertyIndexes = 
+			Collections.synchronizedMap(new IdentityHashMap<Component, CompletionIndex<Property>>());
+	private final Map<String, Optional<Value>> attributeTypes = new ConcurrentHashMap<String, Optional<Value>>();
 
 	public ConfigurationCompletion(Metadata md) {
 		this.metadata = md;
@@ -55,20 +67,27 @@ public class ConfigurationCompletion {
 	}
 	
 	public void getMatchingImports(String prefix, int cursorPosition, IHQLCompletionRequestor collector) {
-		Iterator<Entry<String, String>> iterator = metadata.getImports().entrySet().iterator();
-		while ( iterator.hasNext() ) {
-			Entry<String, String> entry = iterator.next();
-			String entityImport = (String) entry.getKey();
-			String entityName = (String) entry.getValue();
-			
-			if(entityImport.toLowerCase().startsWith(prefix.toLowerCase())) {
-				HQLCompletionProposal proposal = createStartWithCompletionProposal( prefix, cursorPosition, HQLCompletionProposal.ENTITY_NAME, entityImport );
-				proposal.setShortEntityName( entityImport );
-				proposal.setEntityName( entityName );
-				collector.accept(proposal);				
-								
+		getImportIndex().forEachMatch( prefix, (entityImport, entityName) -> {
+			HQLCompletionProposal proposal = createStartWithCompletionProposal( prefix, cursorPosition, HQLCompletionProposal.ENTITY_NAME, entityImport );
+			proposal.setShortEntityName( entityImport );
+			proposal.setEntityName( entityName );
+			collector.accept(proposal);				
+		});
+	}
+	
+	private CompletionIndex<String> getImportIndex() {
+		CompletionIndex<String> result = importIndex;
+		if (result == null) {
+			List<String> entityImports = new ArrayList<String>();
+			List<String> entityNames = new ArrayList<String>();
+			for (Entry<String, String> entry : metadata.getImports().entrySet()) {
+				entityImports.add( entry.getKey() );
+				entityNames.add( entry.getValue() );
 			}
-		}		
+			result = new CompletionIndex<String>( entityImports, entityNames );
+			importIndex = result;
+		}
+		return result;
 	}
 	
 	public void getMatchingKeywords(String prefix, int cursorPosition, IHQLCompletionRequestor collector) {
@@ -184,26 +203,42 @@ public class ConfigurationCompletion {
             prefix = "";
         }
         
+        String propertyPrefix = prefix;
         // Add superclass's properties too
         while (cmd != null){
-        	EntityPOJOClass pc = new EntityPOJOClass(cmd, new Cfg2JavaTool()); // TODO: we should extract the needed functionallity from this hbm2java class.
-            
-        	Iterator<Property> allPropertiesIterator = pc.getAllPropertiesIterator();
-            while ( allPropertiesIterator.hasNext() ) {
-    			Property property = allPropertiesIterator.next();
-    			String candidate = property.getName();
-    		    if (prefix.length() == 0 || candidate.toLowerCase().startsWith(prefix.toLowerCase())) {
-    		    	HQLCompletionProposal proposal = createStartWithCompletionProposal( prefix, cursorPosition, HQLCompletionProposal.PROPERTY, candidate );
-    		    	proposal.setEntityName( cmd.getEntityName() );
-    		    	proposal.setProperty( property );
-    		    	proposal.setPropertyName( candidate );		    	
-    				hcc.accept( proposal);		    	                
-                }
-            }
+        	String entityName = cmd.getEntityName();
+        	getPropertyIndex(cmd).forEachMatch( propertyPrefix, (candidate, property) -> {
+		    	HQLCompletionProposal proposal = createStartWithCompletionProposal( propertyPrefix, cursorPosition, HQLCompletionProposal.PROPERTY, candidate );
+		    	proposal.setEntityName( entityName );
+		    	proposal.setProperty( property );
+		    	proposal.setPropertyName( candidate );		    	
+				hcc.accept( proposal);		    	                
+            });
             cmd = cmd.getSuperclass();
         }
            	
 	}
+	
+	private CompletionIndex<Property> getPropertyIndex(PersistentClass cmd) {
+		return entityPropertyIndexes.computeIfAbsent( cmd.getEntityName(), entityName -> {
+        	EntityPOJOClass pc = new EntityPOJOClass(cmd, new Cfg2JavaTool()); // TODO: we should extract the needed functionallity from this hbm2java class.
+        	List<Property> properties = new ArrayList<Property>();
+        	pc.getAllPropertiesIterator().forEachRemaining( properties::add );
+        	return createPropertyIndex( properties );
+		});
+	}
+	
+	private CompletionIndex<Property> getPropertyIndex(Component component) {
+		return componentPropertyIndexes.computeIfAbsent( component, c -> createPropertyIndex( c.getProperties() ) );
+	}
+	
+	private static CompletionIndex<Property> createPropertyIndex(List<Property> properties) {
+		List<String> names = new ArrayList<String>( properties.size() );
+		for (Property property : properties) {
+			names.add( property.getName() );
+		}
+		return new CompletionIndex<Property>( names, properties );
+	}
 
 	private HQLCompletionProposal createStartWithCompletionProposal(String prefix, int cursorPosition, int kind, String candidate) {
 		HQLCompletionProposal proposal = new HQLCompletionProposal(kind, cursorPosition);
@@ -285,10 +320,6 @@ public class ConfigurationCompletion {
     }
     
 	private Value getNextAttributeType(String type, String attributePath) {
-        PersistentClass cmd = getPersistentClass( type );
-        if (cmd == null) {
-            return null;
-        }
         String attribute;
         int idx = attributePath.indexOf('/');
         if (idx == -1) {
@@ -296,7 +327,16 @@ public class ConfigurationCompletion {
         } else {
             attribute = attributePath.substring(0, idx);
         }
-        
+        return attributeTypes
+        		.computeIfAbsent( type + "/" + attribute, key -> Optional.ofNullable( resolveAttributeType( type, attribute ) ) )
+        		.orElse( null );
+	}
+	
+	private Value resolveAttributeType(String type, String attribute) {
+        PersistentClass cmd = getPersistentClass( type );
+        if (cmd == null) {
+            return null;
+        }
         String idName = cmd.getIdentifierProperty()==null?null:cmd.getIdentifierProperty().getName();
         if (attribute.equals(idName)) {
             return cmd.getIdentifierProperty().getValue();
@@ -330,29 +370,25 @@ public class ConfigurationCompletion {
         if (t == null) {
             return;
         }
-        Iterator<?> props = t.getProperties().iterator();
-        while ( props.hasNext() ) {
-			Property element = (Property) props.next();			
-			String candidate = element.getName();
-			if (candidate.toLowerCase().startsWith(prefix.toLowerCase())) {
-				HQLCompletionProposal proposal = createStartWithCompletionProposal( prefix, cursorPosition, HQLCompletionProposal.PROPERTY, candidate );
-				//proposal.setEntityName( cmd.getEntityName() ); ...we don't know here..TODO: pass in the "path"
-		    	proposal.setPropertyName( candidate );
-		    	proposal.setProperty(element);
-				hcc.accept( proposal);				               
-            }
-        }
+        getPropertyIndex(t).forEachMatch( prefix, (candidate, element) -> {
+			HQLCompletionProposal proposal = createStartWithCompletionProposal( prefix, cursorPosition, HQLCompletionProposal.PROPERTY, candidate );
+			//proposal.setEntityName( cmd.getEntityName() ); ...we don't know here..TODO: pass in the "path"
+	    	proposal.setPropertyName( candidate );
+	    	proposal.setProperty(element);
+			hcc.accept( proposal);				               
+        });
     }
 	
 	private void findMatchingWords(int cursorPosition, String prefix, String[] words, int kind, IHQLCompletionRequestor hcc) {
-		int i = Arrays.binarySearch(words, prefix.toLowerCase());
+		String foldedPrefix = prefix.toLowerCase();
+		int i = Arrays.binarySearch(words, foldedPrefix);
 		if(i<0) {
 			i = Math.abs(i+1);
 		}
 		
 		for (int cnt = i; cnt < words.length; cnt++) {
 			String word = words[cnt];
-			if(word.toLowerCase().startsWith(prefix.toLowerCase())) {
+			if(word.toLowerCase().startsWith(foldedPrefix)) {
 				HQLCompletionProposal proposal = createStartWithCompletionProposal( prefix, cursorPosition, kind, word );
 				hcc.accept( proposal);				
 			} else {
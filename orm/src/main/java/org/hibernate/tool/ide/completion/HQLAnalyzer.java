@@ -106,14 +106,31 @@ public class HQLAnalyzer {
     	Arrays.sort(hqlKeywords);
     }
 
+    /**
+     * @deprecated the analyzer lexes a query once into a {@link HQLTokenBuffer}, 
+     * override {@link #tokenize(char[])} instead
+     */
+    @Deprecated
     protected SimpleHQLLexer getLexer(char chars[], int end) {
     	return new AntlrSimpleHQLLexer(chars,end);
     }
     
+    /**
+     * @deprecated see {@link #getLexer(char[], int)}
+     */
+    @Deprecated
     protected SimpleHQLLexer getLexer(char chars[]) {
     	return new AntlrSimpleHQLLexer(chars,chars.length);
     }
     
+    /**
+     * Lexes the query once, the returned buffer can be passed to all the other questions 
+     * about the same query.
+     */
+    public HQLTokenBuffer tokenize(char chars[]) {
+    	return HQLTokenBuffer.lex(chars);
+    }
+    
     /**
      * Returns true if the position is at a location where an entityname makes sense.
      * e.g. "from Pr| where x" 
@@ -126,14 +143,17 @@ public class HQLAnalyzer {
     }
     
     public boolean shouldShowEntityNames(char chars[], int cursorPosition) {
-    	SimpleHQLLexer lexer = getLexer( chars, cursorPosition );
-        int tokenId = -1;
+    	return shouldShowEntityNames( tokenize( chars ), cursorPosition );
+    }
+    
+    public boolean shouldShowEntityNames(HQLTokenBuffer tokens, int cursorPosition) {
         boolean show = false;
-        while ((tokenId = lexer.nextTokenId()) != HqlLexer.EOF) {
+        for (int i = 0; i < tokens.getTokenCount(); i++) {
+            int tokenId = tokens.getType(i);
             if ((tokenId == HqlLexer.FROM ||
                     tokenId == HqlLexer.DELETE ||
                     tokenId == HqlLexer.UPDATE) &&
-                    (lexer.getTokenOffset() + lexer.getTokenLength()) < cursorPosition) {
+                    (tokens.getOffset(i) + tokens.getLength(i)) < cursorPosition) {
                 show = true;
             } else if (tokenId != HqlLexer.DOT && tokenId != HqlLexer.AS && tokenId != HqlLexer.COMMA && tokenId != HqlLexer.IDENTIFIER && tokenId != HqlLexer.WS) {
                 show = false;                
@@ -143,7 +163,11 @@ public class HQLAnalyzer {
     }
     
     public List<SubQuery> getVisibleSubQueries(char[] chars, int position) {
-    	SubQueryList sqList = getSubQueries(chars, position);
+    	return getVisibleSubQueries( tokenize( chars ), position );
+    }
+    
+    public List<SubQuery> getVisibleSubQueries(HQLTokenBuffer tokens, int position) {
+    	SubQueryList sqList = getSubQueries(tokens, position);
         List<SubQuery> visible = new ArrayList<SubQuery>();
         for (Iterator<SubQuery> iter = sqList.subQueries.iterator(); iter.hasNext();) {
 			SubQuery sq = iter.next();
@@ -155,7 +179,11 @@ public class HQLAnalyzer {
     }
 
     public List<EntityNameReference> getVisibleEntityNames(char[] chars, int position) {
-        List<SubQuery> sqs = getVisibleSubQueries(chars, position);
+    	return getVisibleEntityNames( tokenize( chars ), position );
+    }
+
+    public List<EntityNameReference> getVisibleEntityNames(HQLTokenBuffer tokens, int position) {
+        List<SubQuery> sqs = getVisibleSubQueries(tokens, position);
         List<EntityNameReference> entityReferences = new ArrayList<EntityNameReference>();
         for (Iterator<SubQuery> iter = sqs.iterator(); iter.hasNext();) {
 			SubQuery sq = iter.next();
@@ -165,34 +193,37 @@ public class HQLAnalyzer {
     }
 
     public SubQueryList getSubQueries(char[] query, int position) {
-    	SimpleHQLLexer syntax = getLexer( query );
-    	int numericId = -1;
+    	return getSubQueries( tokenize( query ), position );
+    }
+
+    public SubQueryList getSubQueries(HQLTokenBuffer tokens, int position) {
         List<SubQuery> subQueries = new ArrayList<SubQuery>();
         int depth = 0;
         int caretDepth = 0;
         Map<Integer, SubQuery> level2SubQuery = new HashMap<Integer, SubQuery>();
         SubQuery current = null;
-        while ((numericId = syntax.nextTokenId()) != HqlLexer.EOF) {
+        for (int i = 0; i < tokens.getTokenCount(); i++) {
+            int numericId = tokens.getType(i);
+            int offset = tokens.getOffset(i);
             boolean tokenAdded = false;
             if (numericId == HqlLexer.LEFT_PAREN) {
                 depth++;
-                if (position > syntax.getTokenOffset()) {
+                if (position > offset) {
                     caretDepth = depth;
                 }
             } else if (numericId == HqlLexer.RIGHT_PAREN) {
-                SubQuery currentDepthQuery = level2SubQuery.get(Integer.valueOf(depth));
+                SubQuery currentDepthQuery = level2SubQuery.get(depth);
                 // We check if we have a query on the current depth.
                 // If yes, we'll have to close it
                 if (currentDepthQuery != null && currentDepthQuery.depth == depth) {
-                    currentDepthQuery.endOffset = syntax.getTokenOffset();
-                    currentDepthQuery.tokenIds.add(Integer.valueOf(numericId));
-                    currentDepthQuery.tokenText.add(String.valueOf(query, syntax.getTokenOffset(), syntax.getTokenLength()));
+                    currentDepthQuery.endOffset = offset;
+                    currentDepthQuery.addToken(i);
                     subQueries.add(currentDepthQuery);
-                    level2SubQuery.remove(Integer.valueOf(depth));
+                    level2SubQuery.remove(depth);
                     tokenAdded = true;
                 }
                 depth--;
-                if (position > syntax.getTokenOffset()) {
+                if (position > offset) {
                     caretDepth = depth;
                 }
             }
@@ -201,32 +232,30 @@ public class HQLAnalyzer {
                 case HqlLexer.UPDATE:
                 case HqlLexer.DELETE:
                 case HqlLexer.SELECT:
-                    if (!level2SubQuery.containsKey(Integer.valueOf(depth))) {
-                        current = new SubQuery();
+                    if (!level2SubQuery.containsKey(depth)) {
+                        current = new SubQuery(tokens);
                         current.depth = depth;
-                        current.startOffset = syntax.getTokenOffset();
-                        level2SubQuery.put(Integer.valueOf(depth), current);
+                        current.startOffset = offset;
+                        level2SubQuery.put(depth, current);
                     }
-                    current.tokenIds.add(Integer.valueOf(numericId));
-                    current.tokenText.add(String.valueOf(query, syntax.getTokenOffset(), syntax.getTokenLength()));
+                    current.addToken(i);
                     break;
                 default:
                     if (!tokenAdded) {
-                        SubQuery sq = level2SubQuery.get(Integer.valueOf(depth));
-                        int i = depth;
-                        while (sq == null && i >= 0) {
-                            sq = level2SubQuery.get(Integer.valueOf(i--));
+                        SubQuery sq = level2SubQuery.get(depth);
+                        int d = depth;
+                        while (sq == null && d >= 0) {
+                            sq = level2SubQuery.get(d--);
                         }
                         if (sq != null) {
-                            sq.tokenIds.add(Integer.valueOf(numericId));
-                            sq.tokenText.add(String.valueOf(query, syntax.getTokenOffset(), syntax.getTokenLength()));
+                            sq.addToken(i);
                         }
                     }
             }
         }
         for (Iterator<SubQuery> iter = level2SubQuery.values().iterator(); iter.hasNext();) {
 			SubQuery sq = iter.next();
-			sq.endOffset = syntax.getTokenOffset() + syntax.getTokenLength();
+			sq.endOffset = tokens.getTextLength();
             subQueries.add(sq);
         }
         Collections.sort(subQueries);
@@ -41,13 +41,27 @@ public class HQLCodeAssist implements IHQLCodeAssist {
 	}
 
 	public void codeComplete(String query, int position, IHQLCompletionRequestor collector) {
+		HQLAnalyzer analyzer = new HQLAnalyzer();
+		codeComplete( analyzer, analyzer.tokenize( query.toCharArray() ), position, collector );
+	}
+
+	/**
+	 * Completes the query lexed in <code>tokens</code>, for editors that keep the 
+	 * buffer of their document up to date with {@link HQLTokenBuffer#relex(char[], int, int, int)}.
+	 */
+	public void codeComplete(HQLTokenBuffer tokens, int position, IHQLCompletionRequestor collector) {
+		codeComplete( new HQLAnalyzer(), tokens, position, collector );
+	}
+
+	private void codeComplete(HQLAnalyzer analyzer, HQLTokenBuffer tokens, int position, IHQLCompletionRequestor collector) {
 		
+		CharSequence query = tokens.getCharSequence();
 		int prefixStart = findNearestWhiteSpace(query, position);
-		String prefix = query.substring( prefixStart, position );
+		String prefix = query.subSequence( prefixStart, position ).toString();
 		
 		boolean showEntityNames;
 		try {
-			showEntityNames = new HQLAnalyzer().shouldShowEntityNames( query, position );
+			showEntityNames = analyzer.shouldShowEntityNames( tokens, position );
 		
 		if(showEntityNames) {
 			if(hasMetadata()) {
@@ -56,7 +70,7 @@ public class HQLCodeAssist implements IHQLCodeAssist {
 				collector.completionFailure("Configuration not available nor open");
 			}
 		} else {
-			List<EntityNameReference> visible = new HQLAnalyzer().getVisibleEntityNames( query.toCharArray(), position );
+			List<EntityNameReference> visible = analyzer.getVisibleEntityNames( tokens, position );
 			int dotIndex = prefix.lastIndexOf(".");
             if (dotIndex == -1) {
                 // It's a simple path, not a dot separated one (find aliases that matches)
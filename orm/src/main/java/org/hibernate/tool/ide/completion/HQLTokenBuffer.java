@@ -0,0 +1,200 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.ide.completion;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.Token;
+import org.hibernate.grammars.hql.HqlLexer;
+
+/**
+ * The tokens of a HQL text, lexed once and kept as the type, offset and length of each 
+ * token so all the questions the {@link HQLAnalyzer} answers about the text can share them.
+ * Whitespace and comments are skipped by the lexer, the end of file is not stored.
+ * <p>
+ * A buffer keeps a reference to the characters it was lexed from, they must not be modified 
+ * afterwards. An editor can keep the buffer of its document and call 
+ * {@link #relex(char[], int, int, int)} with the new characters after each edit, so only the 
+ * tokens around the edited region are lexed again.
+ */
+public class HQLTokenBuffer {
+
+	public static HQLTokenBuffer lex(char[] chars) {
+		return lex(chars, chars.length);
+	}
+
+	public static HQLTokenBuffer lex(char[] chars, int length) {
+		HQLTokenBuffer result = new HQLTokenBuffer(chars, length, 16);
+		result.lexFrom(createLexer(chars, length), 0, null, 0, 0, 0);
+		return result;
+	}
+
+	private final char[] chars;
+	private final int length;
+	private int[] types;
+	private int[] offsets;
+	private int[] lengths;
+	private int count;
+
+	private HQLTokenBuffer(char[] chars, int length, int capacity) {
+		this.chars = chars;
+		this.length = length;
+		types = new int[capacity];
+		offsets = new int[capacity];
+		lengths = new int[capacity];
+	}
+
+	/**
+	 * Returns the buffer of <code>newChars</code>, which are the characters of this buffer in which 
+	 * the <code>removed</code> characters at <code>start</code> were replaced by <code>inserted</code> 
+	 * characters. The tokens before the edit are reused, lexing restarts at the token before the 
+	 * edited region and stops as soon as it meets a token of this buffer again, the tokens from 
+	 * there on are reused with their offsets shifted. This buffer is left unchanged.
+	 */
+	public HQLTokenBuffer relex(char[] newChars, int start, int removed, int inserted) {
+		int newLength = length - removed + inserted;
+		if (start < 0 || removed < 0 || inserted < 0 || start + removed > length || newLength > newChars.length) {
+			throw new IllegalArgumentException("Edit [" + start + ", " + removed + ", " + inserted + "] does not fit a text of length " + length);
+		}
+		// a token ending at the edit might grow, and the token before it might have looked ahead into it
+		int reused = 0;
+		while (reused < count && offsets[reused] + lengths[reused] < start) {
+			reused++;
+		}
+		reused = Math.max(0, reused - 1);
+		HQLTokenBuffer result = new HQLTokenBuffer(newChars, newLength, Math.max(16, count + 8));
+		System.arraycopy(types, 0, result.types, 0, reused);
+		System.arraycopy(offsets, 0, result.offsets, 0, reused);
+		System.arraycopy(lengths, 0, result.lengths, 0, reused);
+		result.count = reused;
+		int restart = reused > 0 ? offsets[reused] : 0;
+		result.lexFrom(createLexer(newChars, newLength), restart, this, start + inserted, inserted - removed, reused);
+		return result;
+	}
+
+	public int getTokenCount() {
+		return count;
+	}
+
+	public int getType(int index) {
+		checkIndex(index);
+		return types[index];
+	}
+
+	public int getOffset(int index) {
+		checkIndex(index);
+		return offsets[index];
+	}
+
+	public int getLength(int index) {
+		checkIndex(index);
+		return lengths[index];
+	}
+
+	public String getText(int index) {
+		checkIndex(index);
+		return String.valueOf(chars, offsets[index], lengths[index]);
+	}
+
+	/** The length of the lexed text, which is the offset of the end of file. */
+	public int getTextLength() {
+		return length;
+	}
+
+	/** The lexed text, without copying the characters. */
+	public CharSequence getCharSequence() {
+		return CharBuffer.wrap(chars, 0, length);
+	}
+
+	char[] getChars() {
+		return chars;
+	}
+
+	/**
+	 * Lexes from <code>restart</code> up to the end of file. When <code>previous</code> is given, lexing 
+	 * stops at the first token at or after <code>editEnd</code> that starts where a token of 
+	 * <code>previous</code> started before the edit, the remaining tokens of <code>previous</code> 
+	 * are then copied with their offsets shifted by <code>delta</code>.
+	 */
+	private void lexFrom(HqlLexer lexer, int restart, HQLTokenBuffer previous, int editEnd, int delta, int previousIndex) {
+		lexer.getInputStream().seek(restart);
+		Token token;
+		while ((token = lexer.nextToken()).getType() != Token.EOF) {
+			int offset = token.getStartIndex();
+			if (previous != null && offset >= editEnd) {
+				while (previousIndex < previous.count && previous.offsets[previousIndex] + delta < offset) {
+					previousIndex++;
+				}
+				if (previousIndex < previous.count && previous.offsets[previousIndex] + delta == offset) {
+					// the rest of the text is unchanged, and so are its tokens
+					copyShifted(previous, previousIndex, delta);
+					return;
+				}
+			}
+			add(token.getType(), offset, token.getStopIndex() - offset + 1);
+		}
+	}
+
+	private void copyShifted(HQLTokenBuffer previous, int from, int delta) {
+		int remaining = previous.count - from;
+		ensureCapacity(count + remaining);
+		System.arraycopy(previous.types, from, types, count, remaining);
+		System.arraycopy(previous.lengths, from, lengths, count, remaining);
+		for (int i = 0; i < remaining; i++) {
+			offsets[count + i] = previous.offsets[from + i] + delta;
+		}
+		count += remaining;
+	}
+
+	private void add(int type, int offset, int tokenLength) {
+		ensureCapacity(count + 1);
+		types[count] = type;
+		offsets[count] = offset;
+		lengths[count] = tokenLength;
+		count++;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > types.length) {
+			int newCapacity = Math.max(capacity, types.length * 2);
+			types = Arrays.copyOf(types, newCapacity);
+			offsets = Arrays.copyOf(offsets, newCapacity);
+			lengths = Arrays.copyOf(lengths, newCapacity);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexOutOfBoundsException("Token " + index + " out of " + count);
+		}
+	}
+
+	static HqlLexer createLexer(char[] chars, int length) {
+		return new HqlLexer(createCharStream(chars, length));
+	}
+
+	static CharStream createCharStream(char[] chars, int length) {
+		// reads the characters straight from the array instead of copying them to a string first
+		return CodePointCharStream.fromBuffer(CodePointBuffer.withChars(CharBuffer.wrap(chars, 0, length)));
+	}
+
+}
@@ -18,7 +18,7 @@
 package org.hibernate.tool.ide.completion;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringTokenizer;
 
@@ -30,9 +30,12 @@ public class SubQuery implements Comparable<SubQuery> {
         return startOffset - s.startOffset;
     }
     
-    List<Integer> tokenIds = new ArrayList<Integer>();
+    final HQLTokenBuffer tokens;
 
-    List<String> tokenText = new ArrayList<String>();
+    /** indexes in {@link #tokens} of the tokens of this query */
+    int[] tokenIndexes = new int[16];
+
+    int tokenCount;
 
     int startOffset;
 
@@ -40,16 +43,34 @@ public class SubQuery implements Comparable<SubQuery> {
     
     int depth;
 
+    SubQuery(HQLTokenBuffer tokens) {
+        this.tokens = tokens;
+    }
+
+    void addToken(int index) {
+        if (tokenCount == tokenIndexes.length) {
+            tokenIndexes = Arrays.copyOf(tokenIndexes, tokenCount * 2);
+        }
+        tokenIndexes[tokenCount++] = index;
+    }
+
     public int getTokenCount() {
-        return tokenIds.size();
+        return tokenCount;
     }
 
     public int getToken(int i) {
-        return tokenIds.get(i);
+        return tokens.getType(getTokenIndex(i));
     }
 
     public String getTokenText(int i) {
-        return (String) tokenText.get(i);
+        return tokens.getText(getTokenIndex(i));
+    }
+
+    private int getTokenIndex(int i) {
+        if (i < 0 || i >= tokenCount) {
+            throw new IndexOutOfBoundsException("Token " + i + " out of " + tokenCount);
+        }
+        return tokenIndexes[i];
     }
 
     public List<EntityNameReference> getEntityNames() {
@@ -57,12 +78,10 @@ public class SubQuery implements Comparable<SubQuery> {
         boolean afterJoin = false;
         StringBuffer tableNames = new StringBuffer();
         StringBuffer joins = new StringBuffer();
-        int i = 0;
         boolean cont = true;
         int lastToken = HqlLexer.EOF;
-        for (Iterator<Integer> iter = tokenIds.iterator(); iter.hasNext();) {
-			Integer typeInteger = (Integer) iter.next();
-			int type = typeInteger.intValue();
+        for (int i = 0; i < tokenCount; i++) {
+			int type = tokens.getType(tokenIndexes[i]);
 			if (!cont) {
                 break;
             }
@@ -96,7 +115,7 @@ public class SubQuery implements Comparable<SubQuery> {
                     	if(lastToken!=HqlLexer.DOT) {
                     		joins.append(" ");
                     	} 
-                        joins.append(tokenText.get(i));
+                        joins.append(getTokenText(i));
                         break;
                 }
             } else if (afterFrom) {
@@ -118,7 +137,7 @@ public class SubQuery implements Comparable<SubQuery> {
                     	if(lastToken!=HqlLexer.DOT) {
                     		tableNames.append(" ");
                     	} 
-                        tableNames.append(tokenText.get(i));
+                        tableNames.append(getTokenText(i));
                         break;
                     case HqlLexer.JOIN:
                     	tableNames.append(",");
@@ -128,7 +147,6 @@ public class SubQuery implements Comparable<SubQuery> {
                     	break;
                 }
             }
-            i++;
             lastToken = type;
         }
         List<EntityNameReference> tables = new ArrayList<EntityNameReference>();
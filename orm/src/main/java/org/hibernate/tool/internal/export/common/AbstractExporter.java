@@ -26,12 +26,16 @@ import java.util.Properties;
 import org.hibernate.boot.Metadata;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.tool.api.export.ArtifactCollector;
 import org.hibernate.tool.api.export.Exporter;
 import org.hibernate.tool.api.export.ExporterConstants;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.reveng.RevengPhase;
 import org.hibernate.tool.internal.export.hbm.Cfg2HbmTool;
 import org.hibernate.tool.internal.export.java.Cfg2JavaTool;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation.Measurement;
 import org.jboss.logging.Logger;
 
 /**
@@ -97,13 +101,41 @@ public abstract class AbstractExporter implements Exporter, ExporterConstants {
 	}
 	
 	public void start() {
+		Measurement measurement = RevengInstrumentation.create(getProperties()).startPhase(RevengPhase.EXPORT);
 		setTemplateHelper( new TemplateHelper() );
 		setupTemplates();
 		setupContext();
+		ArtifactManifest manifest = setupArtifactManifest();
 		doStart();
 		cleanUpContext();		
 		setTemplateHelper(null);
+		if (ConfigurationHelper.getBoolean(FORMAT_JAVA, getProperties(), false) 
+				&& getArtifactCollector() instanceof DefaultArtifactCollector) {
+			((DefaultArtifactCollector)getArtifactCollector()).setFormatJava(true);
+		}
 		getArtifactCollector().formatFiles();
+		if (manifest != null) {
+			manifest.save();
+		}
+		measurement.end();
+	}
+	
+	private ArtifactManifest setupArtifactManifest() {
+		if (!ConfigurationHelper.getBoolean(SKIP_UNCHANGED_FILES, getProperties(), false)) {
+			return null;
+		}
+		getTemplateHelper().setSkipUnchangedFiles(true);
+		Object manifestName = getProperties().get(ARTIFACT_MANIFEST);
+		if (manifestName == null) {
+			return null;
+		}
+		File manifestFile = new File(manifestName.toString());
+		if (!manifestFile.isAbsolute() && getOutputDirectory() != null) {
+			manifestFile = new File(getOutputDirectory(), manifestName.toString());
+		}
+		ArtifactManifest result = ArtifactManifest.load(manifestFile);
+		getTemplateHelper().setArtifactManifest(result);
+		return result;
 	}
 	
 	abstract protected void doStart();
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Hashes of the content generated for each artifact by the previous runs, so an
+ * artifact can be recognized as unchanged without reading it back.
+ */
+public class ArtifactManifest {
+
+	private static final Logger log = Logger.getLogger(ArtifactManifest.class);
+
+	public static ArtifactManifest load(File file) {
+		ArtifactManifest result = new ArtifactManifest(file);
+		if (file.isFile()) {
+			try (InputStream in = Files.newInputStream(file.toPath())) {
+				result.hashes.load(in);
+			}
+			catch (IOException e) {
+				log.warn("Ignoring artifact manifest " + file + " as it cannot be read", e);
+				result.hashes.clear();
+			}
+		}
+		return result;
+	}
+
+	public static String hash(String content) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+			StringBuilder result = new StringBuilder();
+			for (byte b : hash) {
+				result.append(String.format("%02x", b));
+			}
+			return result.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private final File file;
+	private final Properties hashes = new Properties();
+	private boolean modified = false;
+
+	private ArtifactManifest(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Record the hash of the content generated for <code>artifact</code>.
+	 *
+	 * @return true if the same hash was recorded by the previous run
+	 */
+	public synchronized boolean update(File artifact, String hash) {
+		Object previous = hashes.setProperty(getKey(artifact), hash);
+		if (hash.equals(previous)) {
+			return true;
+		}
+		modified = true;
+		return false;
+	}
+
+	public synchronized void save() {
+		if (!modified) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+			try (OutputStream out = Files.newOutputStream(file.toPath())) {
+				hashes.store(out, "Hibernate Tools artifact manifest");
+			}
+			modified = false;
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Problem while writing artifact manifest " + file, e);
+		}
+	}
+
+	private String getKey(File artifact) {
+		Path base = file.getAbsoluteFile().getParentFile().toPath().normalize();
+		Path path = artifact.getAbsoluteFile().toPath().normalize();
+		if (path.startsWith(base)) {
+			path = base.relativize(path);
+		}
+		return path.toString().replace(File.separatorChar, '/');
+	}
+
+}
@@ -20,14 +20,18 @@ package org.hibernate.tool.internal.export.common;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.hibernate.tool.api.export.ArtifactCollector;
+import org.hibernate.tool.api.java.DefaultJavaPrettyPrinterStrategy;
 import org.hibernate.tool.api.xml.XMLPrettyPrinter;
+import org.hibernate.tool.internal.util.ConcurrentTasks;
 
 /**
  * Callback class that all exporters are given to allow better feedback and
@@ -38,26 +42,90 @@ import org.hibernate.tool.api.xml.XMLPrettyPrinter;
  */
 public class DefaultArtifactCollector implements ArtifactCollector {
 
+	private static final List<String> XML_FILE_TYPES = List.of("xml", "hbm.xml", "cfg.xml");
+
 	final protected Map<String, List<File>> files = new HashMap<String, List<File>>();
 
+	private final Set<File> formattedFiles = new HashSet<File>();
+
+	// rows, bytes and nanoseconds per file
+	private final Map<File, long[]> fileStatistics = new HashMap<File, long[]>();
+
+	private DefaultJavaPrettyPrinterStrategy javaFormatter = null;
+
+	/**
+	 * Whether {@link #formatFiles()} also formats the generated java files.
+	 */
+	public synchronized void setFormatJava(boolean formatJava) {
+		javaFormatter = formatJava ? new DefaultJavaPrettyPrinterStrategy(null) : null;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.hibernate.tool.internal.export.ArtifactCollector#addFile(java.io.File, java.lang.String)
 	 */
 	@Override
-	public void addFile(File file, String type) {
+	public synchronized void addFile(File file, String type) {
+		addFile(file, type, false);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.hibernate.tool.internal.export.ArtifactCollector#addFile(java.io.File, java.lang.String, boolean)
+	 */
+	@Override
+	public synchronized void addFile(File file, String type, boolean formatted) {
 		List<File> existing = files.get(type);
 		if (existing == null) {
 			existing = new ArrayList<File>();
 			files.put(type, existing);
 		}
 		existing.add(file);
+		if (formatted) {
+			formattedFiles.add(file);
+		} else {
+			formattedFiles.remove(file);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.hibernate.tool.internal.export.ArtifactCollector#addFileStatistics(java.io.File, long, long, long)
+	 */
+	@Override
+	public synchronized void addFileStatistics(File file, long rows, long bytes, long durationNanos) {
+		long[] existing = fileStatistics.computeIfAbsent(file, f -> new long[3]);
+		existing[0] += rows;
+		existing[1] += bytes;
+		existing[2] += durationNanos;
+	}
+
+	/**
+	 * @return the number of rows written to the file, as reported with {@link #addFileStatistics(File, long, long, long)}
+	 */
+	public synchronized long getRowCount(File file) {
+		long[] existing = fileStatistics.get(file);
+		return existing == null ? 0 : existing[0];
+	}
+
+	/**
+	 * @return the number of bytes written to the file, as reported with {@link #addFileStatistics(File, long, long, long)}
+	 */
+	public synchronized long getByteCount(File file) {
+		long[] existing = fileStatistics.get(file);
+		return existing == null ? 0 : existing[1];
+	}
+
+	/**
+	 * @return the number of rows written to the file per second
+	 */
+	public synchronized double getRowsPerSecond(File file) {
+		long[] existing = fileStatistics.get(file);
+		return existing == null || existing[2] == 0 ? 0 : existing[0] * 1e9 / existing[2];
 	}
 
 	/* (non-Javadoc)
 	 * @see org.hibernate.tool.internal.export.ArtifactCollector#getFileCount(java.lang.String)
 	 */
 	@Override
-	public int getFileCount(String type) {
+	public synchronized int getFileCount(String type) {
 		List<File> existing = files.get(type);
 
 		return (existing == null) ? 0 : existing.size();
@@ -67,7 +135,7 @@ public class DefaultArtifactCollector implements ArtifactCollector {
 	 * @see org.hibernate.tool.internal.export.ArtifactCollector#getFiles(java.lang.String)
 	 */
 	@Override
-	public File[] getFiles(String type) {
+	public synchronized File[] getFiles(String type) {
 		List<File> existing = files.get(type);
 
 		if (existing == null) {
@@ -81,7 +149,7 @@ public class DefaultArtifactCollector implements ArtifactCollector {
 	 * @see org.hibernate.tool.internal.export.ArtifactCollector#getFileTypes()
 	 */
 	@Override
-	public Set<String> getFileTypes() {
+	public synchronized Set<String> getFileTypes() {
 		return files.keySet();
 	}
 
@@ -89,25 +157,71 @@ public class DefaultArtifactCollector implements ArtifactCollector {
 	 * @see org.hibernate.tool.internal.export.ArtifactCollector#formatFiles()
 	 */
 	@Override
-	public void formatFiles() {
+	public synchronized void formatFiles() {
+		List<File> xmlFiles = new ArrayList<File>();
+		for (String type : XML_FILE_TYPES) {
+			List<File> list = files.get(type);
+			if (list != null) {
+				for (File file : list) {
+					if (!formattedFiles.contains(file)) {
+						xmlFiles.add(file);
+					}
+				}
+			}
+		}
+		formatXml(xmlFiles);
+		formattedFiles.addAll(xmlFiles);
+		if (javaFormatter != null) {
+			formatJava();
+		}
+	}
 
-		formatXml("xml");
-		formatXml("hbm.xml");
-		formatXml("cfg.xml");
+	private void formatJava() {
+		List<File> javaFiles = new ArrayList<File>();
+		for (File file : files.getOrDefault("java", Collections.emptyList())) {
+			if (!formattedFiles.contains(file)) {
+				javaFiles.add(file);
+			}
+		}
+		Map<File, RuntimeException> failures = javaFormatter.formatFiles(javaFiles);
+		if (!failures.isEmpty()) {
+			Map.Entry<File, RuntimeException> failure = failures.entrySet().iterator().next();
+			throw new RuntimeException("Could not format Java file: " + failure.getKey(), failure.getValue());
+		}
+		formattedFiles.addAll(javaFiles);
+	}
 
+	static boolean isXmlFileType(String type) {
+		return XML_FILE_TYPES.contains(type);
 	}
 
-	private void formatXml(String type) {
-		List<File> list = files.get(type);
-		if (list != null && !list.isEmpty()) {
-			for (Iterator<File> iter = list.iterator(); iter.hasNext();) {
-				File xmlFile = iter.next();
-				try {
-					XMLPrettyPrinter.prettyPrintFile(xmlFile);
-				} catch (IOException e) {
-					throw new RuntimeException("Could not format XML file: " + xmlFile, e);
-				}
+	/**
+	 * Formats the files with one worker per available processor, each worker
+	 * reusing its own {@link org.hibernate.tool.api.xml.XMLPrettyPrinterStrategy}.
+	 */
+	private void formatXml(List<File> xmlFiles) {
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), xmlFiles.size());
+		if (threads < 2) {
+			for (File xmlFile : xmlFiles) {
+				formatXml(xmlFile);
 			}
+			return;
+		}
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (File xmlFile : xmlFiles) {
+			tasks.add(() -> {
+				formatXml(xmlFile);
+				return null;
+			});
+		}
+		ConcurrentTasks.runAll("hibernate-tools-formatter", threads, tasks);
+	}
+
+	private void formatXml(File xmlFile) {
+		try {
+			XMLPrettyPrinter.prettyPrintFile(xmlFile);
+		} catch (IOException e) {
+			throw new RuntimeException("Could not format XML file: " + xmlFile, e);
 		}
 	}
 
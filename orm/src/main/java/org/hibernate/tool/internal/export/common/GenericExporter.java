@@ -18,18 +18,34 @@
 package org.hibernate.tool.internal.export.common;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.version.Version;
 import org.hibernate.tool.internal.export.java.ComponentPOJOClass;
 import org.hibernate.tool.internal.export.java.POJOClass;
+import org.hibernate.tool.internal.reveng.TableFingerprints;
+import org.hibernate.tool.internal.util.ConcurrentTasks;
 
 
 public class GenericExporter extends AbstractExporter {
@@ -38,6 +54,10 @@ public class GenericExporter extends AbstractExporter {
 		abstract void process(GenericExporter ge);
 	}
 	
+	private volatile boolean concurrent = false;
+	
+	private Set<Table> changedTables = null;
+	
 	static Map<String, ModelIterator> modelIterators = new HashMap<String, ModelIterator>();
 	static {
 		modelIterators.put( "configuration", new ModelIterator() {
@@ -59,37 +79,98 @@ public class GenericExporter extends AbstractExporter {
 				Iterator<?> iterator = 
 						ge.getCfg2JavaTool().getPOJOIterator(
 								ge.getMetadata().getEntityBindings().iterator());
-				Map<String, Object> additionalContext = new HashMap<String, Object>();
+				List<POJOClass> elements = new ArrayList<POJOClass>();
 				while ( iterator.hasNext() ) {					
 					POJOClass element = (POJOClass) iterator.next();
-					ge.exportPersistentClass( additionalContext, element );					
+					if ( ge.isGenerated( element ) ) {
+						elements.add( element );
+					}
 				}
+				ge.exportAll( elements, ge::exportPersistentClass );
 			}
 		});
 		modelIterators.put("component", new ModelIterator() {
 			
 			void process(GenericExporter ge) {
 				Map<String, Component> components = new HashMap<String, Component>();
+				Map<String, Component> unchangedComponents = new HashMap<String, Component>();
 				
 				Iterator<?> iterator = 
 						ge.getCfg2JavaTool().getPOJOIterator(
 								ge.getMetadata().getEntityBindings().iterator());
-				Map<String, Object> additionalContext = new HashMap<String, Object>();
 				while ( iterator.hasNext() ) {					
 					POJOClass element = (POJOClass) iterator.next();
-					ConfigurationNavigator.collectComponents(components, element);											
+					ConfigurationNavigator.collectComponents(
+							ge.isGenerated( element ) ? components : unchangedComponents, 
+							element);
 				}
 						
+				List<POJOClass> elements = new ArrayList<POJOClass>();
 				iterator = components.values().iterator();
 				while ( iterator.hasNext() ) {					
 					Component component = (Component) iterator.next();
-					ComponentPOJOClass element = new ComponentPOJOClass(component,ge.getCfg2JavaTool());
-					ge.exportComponent( additionalContext, element );					
+					elements.add( new ComponentPOJOClass(component,ge.getCfg2JavaTool()) );
 				}
+				for ( Map.Entry<String, Component> entry : unchangedComponents.entrySet() ) {
+					POJOClass element = new ComponentPOJOClass(entry.getValue(),ge.getCfg2JavaTool());
+					if ( !components.containsKey( entry.getKey() ) && ge.isMissing( element ) ) {
+						elements.add( element );
+					}
+				}
+				ge.exportAll( elements, ge::exportComponent );
 			}
 		});
 	}
 	
+	// classes of tables unchanged since this exporter last ran are skipped by incremental reverse engineering,
+	// unless their output went missing in between
+	boolean isGenerated(POJOClass element) {
+		if ( changedTables != null && element.getDecoratedObject() instanceof PersistentClass ) {
+			return changedTables.contains( ((PersistentClass) element.getDecoratedObject()).getTable() ) 
+					|| isMissing( element );
+		}
+		return true;
+	}
+	
+	boolean isMissing(POJOClass element) {
+		return !new File( getOutputDirectory(), resolveFilename( element ) ).exists();
+	}
+	
+	// everything besides the tables the output depends on: the tool version, the destination, 
+	// the templates and the settings of the exporter
+	private String getFingerprintScope() {
+		StringBuilder sb = new StringBuilder()
+				.append( Version.versionString() ).append( '\n' )
+				.append( getOutputDirectory() == null ? null : getOutputDirectory().getAbsolutePath() ).append( '\n' )
+				.append( getTemplateName() ).append( '\n' )
+				.append( getFilePattern() ).append( '\n' );
+		for ( String key : new TreeSet<String>( getProperties().stringPropertyNames() ) ) {
+			sb.append( key ).append( '=' ).append( getProperties().getProperty( key ) ).append( '\n' );
+		}
+		String[] templatePath = (String[])getProperties().get( TEMPLATE_PATH );
+		if ( templatePath != null ) {
+			for ( String directory : templatePath ) {
+				appendTemplates( sb, new File( directory ) );
+			}
+		}
+		return sb.toString();
+	}
+	
+	private static void appendTemplates(StringBuilder sb, File directory) {
+		if ( !directory.isDirectory() ) {
+			return;
+		}
+		try ( Stream<Path> paths = Files.walk( directory.toPath() ) ) {
+			for ( Path path : paths.filter( Files::isRegularFile ).sorted().collect( Collectors.toList() ) ) {
+				sb.append( path.toAbsolutePath() ).append( '\n' )
+					.append( Files.readString( path, StandardCharsets.ISO_8859_1 ) ).append( '\n' );
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException( "Problem while reading the templates in " + directory, e );
+		}
+	}
+	
 	protected String getTemplateName() {
 		return (String)getProperties().get(ExporterConstants.TEMPLATE_NAME);
 	}
@@ -125,11 +206,56 @@ public class GenericExporter extends AbstractExporter {
 			}
 		}
 
-		Iterator<ModelIterator> it = exporters.iterator();
-		while(it.hasNext()) {
-			ModelIterator mit = it.next();
-			mit.process( this );
+		TableFingerprints fingerprints = TableFingerprints.get( getMetadata() );
+		changedTables = fingerprints == null ? null : fingerprints.getChangedTables( getFingerprintScope() );
+		try {
+			Iterator<ModelIterator> it = exporters.iterator();
+			while(it.hasNext()) {
+				ModelIterator mit = it.next();
+				mit.process( this );
+			}
 		}
+		finally {
+			changedTables = null;
+		}
+		// only written once the export succeeded, a failed export is retried completely by the next run
+		if ( fingerprints != null ) {
+			fingerprints.save( getFingerprintScope() );
+		}
+	}
+
+	/**
+	 * Export the elements one after the other, or with the number of workers set in 
+	 * {@link ExporterConstants#EXPORT_THREADS}. Each element is then rendered with its own 
+	 * additional context layered over the shared template context.
+	 */
+	protected void exportAll(List<POJOClass> elements, BiConsumer<Map<String, Object>, POJOClass> export) {
+		int threads = Math.min( ConfigurationHelper.getInt( EXPORT_THREADS, getProperties(), 1 ), elements.size() );
+		if ( threads < 2 ) {
+			Map<String, Object> additionalContext = new HashMap<String, Object>();
+			for ( POJOClass element : elements ) {
+				export.accept( additionalContext, element );
+			}
+			return;
+		}
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for ( POJOClass element : elements ) {
+			tasks.add( () -> {
+				export.accept( new HashMap<String, Object>(), element );
+				return null;
+			});
+		}
+		concurrent = true;
+		try {
+			ConcurrentTasks.runAll( "hibernate-tools-exporter", threads, tasks );
+		}
+		finally {
+			concurrent = false;
+		}
+	}
+	
+	protected TemplateProducer createTemplateProducer() {
+		return new TemplateProducer( getTemplateHelper(), getArtifactCollector(), concurrent );
 	}
 
 	protected void exportComponent(Map<String, Object> additionalContext, POJOClass element) {
@@ -141,7 +267,7 @@ public class GenericExporter extends AbstractExporter {
 	}
 
 	protected void exportPOJO(Map<String, Object> additionalContext, POJOClass element) {
-		TemplateProducer producer = new TemplateProducer(getTemplateHelper(),getArtifactCollector());					
+		TemplateProducer producer = createTemplateProducer();					
 		additionalContext.put("pojo", element);
 		additionalContext.put("clazz", element.getDecoratedObject());
 		String filename = resolveFilename( element );
@@ -23,16 +23,21 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.hibernate.tool.api.version.Version;
 import org.jboss.logging.Logger;
 
 import freemarker.cache.ClassTemplateLoader;
 import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.MruCacheStorage;
 import freemarker.cache.MultiTemplateLoader;
 import freemarker.cache.TemplateLoader;
 import freemarker.ext.beans.BeansWrapperBuilder;
@@ -41,6 +46,7 @@ import freemarker.template.SimpleDate;
 import freemarker.template.SimpleHash;
 import freemarker.template.Template;
 import freemarker.template.TemplateDateModel;
+import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
@@ -58,12 +64,27 @@ public class TemplateHelper {
     
 	static final Logger log = Logger.getLogger(TemplateHelper.class);
 	
+	private static final int MAX_ENGINES = 16;
+	private static final int MAX_STRONG_TEMPLATES = 100;
+	private static final int MAX_SOFT_TEMPLATES = 500;
+	
+	private static final Map<List<Object>, Configuration> ENGINES = new LinkedHashMap<List<Object>, Configuration>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, Configuration> eldest) {
+			return size() > MAX_ENGINES;
+		}
+	};
+	
     private String templatePrefix;
 	private File outputDirectory;
 
 	protected Configuration freeMarkerEngine;
 
 	protected SimpleHash context;
+	
+	private boolean skipUnchangedFiles = false;
+	private ArtifactManifest artifactManifest;
+	private String generationDate;
 
 	public TemplateHelper() {
 		
@@ -73,27 +94,52 @@ public class TemplateHelper {
         this.outputDirectory = outputDirectory;
         
         context = new SimpleHash(new BeansWrapperBuilder(Configuration.VERSION_2_3_0).build());
-    	freeMarkerEngine = new Configuration(Configuration.VERSION_2_3_0);
-        
-        List<TemplateLoader> loaders = new ArrayList<TemplateLoader>();
         
+        List<File> directories = new ArrayList<File>();
         for (int i = 0; i < templatePaths.length; i++) {
         	File file = new File(templatePaths[i]);
         	if(file.exists() && file.isDirectory()) {
-        		try {
-					loaders.add(new FileTemplateLoader(file));
-				}
-				catch (IOException e) {
-					throw new RuntimeException("Problems with templatepath " + file, e);
-				}
+        		directories.add(file.getAbsoluteFile());
         	} else {
         		log.warn("template path" + file + " either does not exist or is not a directory");
         	}
 		}
-        loaders.add(new ClassTemplateLoader(this.getClass(),"/")); // the template names are like pojo/Somewhere so have to be a rooted classpathloader
-        
-        freeMarkerEngine.setTemplateLoader(new MultiTemplateLoader((TemplateLoader[]) loaders.toArray(new TemplateLoader[loaders.size()])));
         
+        // the engine, and thus its parsed templates, is shared by all the helpers using the same loader chain
+        List<Object> key = new ArrayList<Object>();
+        key.add(this.getClass());
+        key.addAll(directories);
+        synchronized (ENGINES) {
+        	freeMarkerEngine = ENGINES.get(key);
+        	if (freeMarkerEngine == null) {
+        		freeMarkerEngine = createEngine(directories);
+        		ENGINES.put(key, freeMarkerEngine);
+        	}
+        }
+    }
+    
+    private Configuration createEngine(List<File> directories) {
+    	Configuration result = new Configuration(Configuration.VERSION_2_3_0);
+    	
+    	List<TemplateLoader> loaders = new ArrayList<TemplateLoader>();
+    	
+    	for (File file : directories) {
+    		try {
+    			loaders.add(new FileTemplateLoader(file));
+    		}
+    		catch (IOException e) {
+    			throw new RuntimeException("Problems with templatepath " + file, e);
+    		}
+    	}
+    	loaders.add(new ClassTemplateLoader(this.getClass(),"/")); // the template names are like pojo/Somewhere so have to be a rooted classpathloader
+    	
+    	result.setTemplateLoader(new MultiTemplateLoader((TemplateLoader[]) loaders.toArray(new TemplateLoader[loaders.size()])));
+    	result.setCacheStorage(new MruCacheStorage(MAX_STRONG_TEMPLATES, MAX_SOFT_TEMPLATES));
+    	if (!directories.isEmpty()) {
+    		// check the custom templates for changes on every use so edits are picked up by the next run
+    		result.setTemplateUpdateDelayMilliseconds(0);
+    	}
+    	return result;
     }
     
     
@@ -150,7 +196,7 @@ public class TemplateHelper {
     		throw new RuntimeException("The path: " + dir.getAbsolutePath() + " exists, but is not a directory");
     	} 	// else make the directory and any non-existent parent directories
     	else if ( !dir.exists() ) {
-    		if ( !dir.mkdirs() ) {
+    		if ( !dir.mkdirs() && !dir.isDirectory() ) { // might have been created concurrently
     			if(dir.getName().equals(".")) { // Workaround that Linux/JVM apparently can't handle mkdirs of File's with current dir references.
     				if(dir.getParentFile().mkdirs()) {
     					return;
@@ -189,12 +235,41 @@ public class TemplateHelper {
 	}
 	
     public void setupContext() {
+    	setupContext(new Date());
+    }
+    
+    /** sets up the context with the given generation date */
+    void setupContext(Date generated) {
     	getContext().put("version", Version.versionString());
         getContext().put("ctx", getContext() ); //TODO: I would like to remove this, but don't know another way to actually get the list possible "root" keys for debugging.
         getContext().put("templates", new Templates());
         
-        getContext().put("date", new SimpleDate(new Date(), TemplateDateModel.DATETIME));        
+        getContext().put("date", new SimpleDate(generated, TemplateDateModel.DATETIME));        
         
+        StringWriter date = new StringWriter();
+        processString("${date}", date);
+        generationDate = date.toString();
+    }
+    
+    /** the generation date as rendered by the templates, or null if the context is not set up */
+    public String getGenerationDate() {
+    	return generationDate;
+    }
+    
+    public boolean isSkipUnchangedFiles() {
+    	return skipUnchangedFiles;
+    }
+    
+    public void setSkipUnchangedFiles(boolean skipUnchangedFiles) {
+    	this.skipUnchangedFiles = skipUnchangedFiles;
+    }
+    
+    public ArtifactManifest getArtifactManifest() {
+    	return artifactManifest;
+    }
+    
+    public void setArtifactManifest(ArtifactManifest artifactManifest) {
+    	this.artifactManifest = artifactManifest;
     }
     
     protected Object internalPutInContext(String key, Object value) {
@@ -223,13 +298,25 @@ public class TemplateHelper {
     
     /** look up the template named templateName via the paths and print the content to the output */
     public void processTemplate(String templateName, Writer output, String rootContext) {
+    	processTemplate(templateName, getContext(), output, rootContext);
+    }
+    
+    /** 
+     * like {@link #processTemplate(String, Writer, String)} but with the entries of additionalContext 
+     * layered over the context instead of put into it, so it can be called from multiple threads at once.
+     */
+    public void processTemplate(String templateName, Writer output, String rootContext, Map<String, Object> additionalContext) {
+    	processTemplate(templateName, new LayeredContext(additionalContext), output, rootContext);
+    }
+    
+    private void processTemplate(String templateName, TemplateHashModel model, Writer output, String rootContext) {
     	if(rootContext == null) {
     		rootContext = "Unknown context";
     	}
     	
     	try {
     		Template template = freeMarkerEngine.getTemplate(templateName);
-    		template.process(getContext(), output);            
+    		template.process(model, output);            
         } 
         catch (IOException e) {
             throw new RuntimeException("Error while processing " + rootContext + " with template " + templateName, e);
@@ -265,6 +352,38 @@ public class TemplateHelper {
 		throw new ExporterException("Could not find template with name: " + name);
     }*/
     
+    /**
+     * Per render data model: the local entries shadow the ones of the shared context,
+     * which is only read (and under its own lock as lookups may cache wrapped values).
+     */
+    private class LayeredContext implements TemplateHashModel {
+    	
+    	private final SimpleHash local;
+    	
+    	LayeredContext(Map<String, Object> additionalContext) {
+    		local = new SimpleHash(context.getObjectWrapper());
+    		for (Entry<String, Object> entry : additionalContext.entrySet()) {
+    			local.put(entry.getKey(), entry.getValue());
+    		}
+    		local.put("ctx", this);
+    	}
+
+		public TemplateModel get(String key) throws TemplateModelException {
+			TemplateModel result = local.get(key);
+			if (result == null) {
+				synchronized (context) {
+					result = context.get(key);
+				}
+			}
+			return result;
+		}
+
+		public boolean isEmpty() {
+			return false;
+		}
+		
+    }
+    
     public boolean templateExists(String templateName) {
     	TemplateLoader templateLoader = freeMarkerEngine.getTemplateLoader();
     	
@@ -17,80 +17,169 @@
  */
 package org.hibernate.tool.internal.export.common;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.tool.api.export.ArtifactCollector;
+import org.hibernate.tool.api.xml.XMLPrettyPrinter;
 import org.jboss.logging.Logger;
 
 
 public class TemplateProducer {
 
 	private static final Logger log = Logger.getLogger(TemplateProducer.class);
+	
+	/** the type under which artifacts that did not need to be written are reported */
+	public static final String UNCHANGED = "unchanged";
+	
 	private final TemplateHelper th;
 	private ArtifactCollector ac;
+	private final boolean concurrent;
 	
 	public TemplateProducer(TemplateHelper th, ArtifactCollector ac) {
+		this(th, ac, false);
+	}
+	
+	/**
+	 * @param concurrent when true the additional context is layered over the context of the 
+	 * template helper instead of put into it, so producers can run concurrently
+	 */
+	public TemplateProducer(TemplateHelper th, ArtifactCollector ac, boolean concurrent) {
 		this.th = th;
 		this.ac = ac;
+		this.concurrent = concurrent;
 	}
 	
 	public void produce(Map<String,Object> additionalContext, String templateName, File destination, String identifier, String fileType, String rootContext) {
 		
-		String tempResult = produceToString( additionalContext, templateName, rootContext );
-		
-		if(tempResult.trim().length()==0) {
-			log.warn("Generated output is empty. Skipped creation for file " + destination);
-			return;
-		}
-		FileWriter fileWriter = null;
+		th.ensureExistence( destination );
+		File tempFile = null;
 		try {
-			
-			th.ensureExistence( destination );    
-	     
-			ac.addFile(destination, fileType);
+			// render straight to a file next to the destination so it can be moved in place,
+			// except for xml that is formatted in memory before it is written
+			tempFile = Files.createTempFile( destination.getAbsoluteFile().getParentFile().toPath(), destination.getName(), ".tmp" ).toFile();
+			StringWriter xmlBuffer = DefaultArtifactCollector.isXmlFileType( fileType ) ? new StringWriter() : null;
+			ContentTrackingWriter writer = new ContentTrackingWriter( xmlBuffer != null ? xmlBuffer :
+					Files.newBufferedWriter( tempFile.toPath(), StandardCharsets.UTF_8 ) );
+			try {
+				render( additionalContext, templateName, rootContext, writer );
+			} finally {
+				writer.close();
+			}
+			if(!writer.hasContent()) {
+				log.warn("Generated output is empty. Skipped creation for file " + destination);
+				return;
+			}
+			if(xmlBuffer != null) {
+				Files.writeString( tempFile.toPath(), XMLPrettyPrinter.prettyPrint( xmlBuffer.toString() ), StandardCharsets.UTF_8 );
+			}
+			if(isUnchanged( tempFile, destination )) {
+				ac.addFile(destination, UNCHANGED);
+				log.debug("Skipping unchanged " + identifier + " in " + destination.getAbsolutePath() );
+				return;
+			}
+			ac.addFile(destination, fileType, xmlBuffer != null);
 			log.debug("Writing " + identifier + " to " + destination.getAbsolutePath() );
-			fileWriter = new FileWriter(destination);
-            fileWriter.write(tempResult);			
+			moveInPlace( tempFile, destination );
+			tempFile = null;
 		} 
-		catch (Exception e) {
+		catch (IOException e) {
 		    throw new RuntimeException("Error while writing result to file", e);	
 		} finally {
-			if(fileWriter!=null) {
-				try {
-					fileWriter.flush();
-					fileWriter.close();
-				}
-				catch (IOException e) {
-					log.warn("Exception while flushing/closing " + destination,e);
-				}				
+			if(tempFile!=null && !tempFile.delete()) {
+				log.warn("Could not delete temporary file " + tempFile);
 			}
 		}
 		
 	}
 
+	/**
+	 * Compares the rendered output with the hash recorded in the artifact manifest if there is
+	 * one (ignoring the generation date), or else with the content of the existing destination.
+	 */
+	private boolean isUnchanged(File rendered, File destination) throws IOException {
+		if(!th.isSkipUnchangedFiles()) {
+			return false;
+		}
+		ArtifactManifest manifest = th.getArtifactManifest();
+		if(manifest != null) {
+			String content = Files.readString( rendered.toPath(), StandardCharsets.UTF_8 );
+			String date = th.getGenerationDate();
+			if(date != null && date.length() > 0) {
+				content = content.replace( date, "" );
+			}
+			boolean sameHash = manifest.update( destination, ArtifactManifest.hash( content ) );
+			return sameHash && destination.isFile();
+		}
+		return destination.isFile() && Files.mismatch( rendered.toPath(), destination.toPath() ) == -1;
+	}
 
-	private String produceToString(Map<String,Object> additionalContext, String templateName, String rootContext) {
-		Map<String,Object> contextForFirstPass = additionalContext;
-		putInContext( th, contextForFirstPass );		
-		StringWriter tempWriter = new StringWriter();
-		BufferedWriter bw = new BufferedWriter(tempWriter);
-		// First run - writes to in-memory string
-		th.processTemplate(templateName, bw, rootContext);
-		removeFromContext( th, contextForFirstPass );
+	private void moveInPlace(File source, File destination) throws IOException {
 		try {
-			bw.flush();
+			Files.move( source.toPath(), destination.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
 		}
-		catch (IOException e) {
-			throw new RuntimeException("Error while flushing to string",e);
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move( source.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING );
+		}
+	}
+
+	private void render(Map<String,Object> additionalContext, String templateName, String rootContext, Writer writer) {
+		if(concurrent) {
+			th.processTemplate(templateName, writer, rootContext, additionalContext);
+			return;
+		}
+		putInContext( th, additionalContext );
+		try {
+			th.processTemplate(templateName, writer, rootContext);
+		} finally {
+			removeFromContext( th, additionalContext );
+		}
+	}
+
+	/**
+	 * Keeps track of whether anything else than whitespace (as in {@link String#trim()}) was written.
+	 */
+	private static class ContentTrackingWriter extends FilterWriter {
+		
+		private boolean content = false;
+
+		ContentTrackingWriter(Writer out) {
+			super(out);
+		}
+
+		boolean hasContent() {
+			return content;
+		}
+
+		public void write(int c) throws IOException {
+			content |= c > ' ';
+			super.write(c);
+		}
+
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			for (int i = off; !content && i < off + len; i++) {
+				content = cbuf[i] > ' ';
+			}
+			super.write(cbuf, off, len);
 		}
-		return tempWriter.toString();
+
+		public void write(String str, int off, int len) throws IOException {
+			for (int i = off; !content && i < off + len; i++) {
+				content = str.charAt(i) > ' ';
+			}
+			super.write(str, off, len);
+		}
+
 	}
 
 	private void removeFromContext(TemplateHelper templateHelper, Map<String,Object> context) {
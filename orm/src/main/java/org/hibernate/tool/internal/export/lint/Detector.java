@@ -17,6 +17,10 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.hibernate.boot.Metadata;
 
 public abstract class Detector {
@@ -33,5 +37,15 @@ public abstract class Detector {
 
 	abstract public void visit(IssueCollector collector);
 	
+	/**
+	 * Returns the independent parts of the visit, in the order in which {@link #visit(IssueCollector)} 
+	 * runs them, so they can run concurrently. By default the complete visit is a single part. 
+	 * Only used when {@link HbmLint} runs with more than one thread, subclasses that override 
+	 * {@link #visit(IssueCollector)} must override this method too for their visit to be split.
+	 */
+	public List<Consumer<IssueCollector>> getVisits() {
+		return Collections.singletonList(this::visit);
+	}
+	
 	abstract public String getName();
 }
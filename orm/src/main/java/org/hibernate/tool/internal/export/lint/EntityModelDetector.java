@@ -17,7 +17,10 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
@@ -31,6 +34,17 @@ public abstract class EntityModelDetector extends Detector {
 		}
 	}
 	
+	/**
+	 * Every entity is visited on its own.
+	 */
+	public List<Consumer<IssueCollector>> getVisits() {
+		List<Consumer<IssueCollector>> result = new ArrayList<Consumer<IssueCollector>>();
+		for (PersistentClass clazz : getMetadata().getEntityBindings()) {
+			result.add(collector -> visit(clazz, collector));
+		}
+		return result;
+	}
+	
 	protected void visit(PersistentClass clazz, IssueCollector collector) {
 		visitProperties(clazz, collector );
 	}
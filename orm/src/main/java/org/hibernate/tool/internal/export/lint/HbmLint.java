@@ -19,47 +19,128 @@ package org.hibernate.tool.internal.export.lint;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import org.hibernate.boot.Metadata;
+import org.hibernate.tool.internal.util.ConcurrentTasks;
 
 public class HbmLint implements IssueCollector {
 
 	
 	final Detector[] detectors;
 	
+	private final int threads;
+	
+	private IssueCollector listener;
+	
 	public HbmLint(Detector[] detectors) {
+		this(detectors, 1);
+	}
+	
+	/**
+	 * @param threads the number of workers running the visits of the detectors 
+	 * (see {@link Detector#getVisits()}) concurrently, with less than 2 the detectors are 
+	 * visited one after the other through {@link Detector#visit(IssueCollector)}
+	 */
+	public HbmLint(Detector[] detectors, int threads) {
 		this.detectors = detectors;
+		this.threads = threads;
 	}
 	
 	List<Issue> results = new ArrayList<Issue>();
 	
+	/**
+	 * Set a collector that gets the issues as soon as they are found, which is not 
+	 * necessarily in the order of {@link #getResults()} when the visits run concurrently.
+	 * It is never called by more than one thread at a time.
+	 */
+	public void setIssueListener(IssueCollector listener) {
+		this.listener = listener;
+	}
+	
+	/**
+	 * Runs the detectors one after the other, or runs their visits (see {@link Detector#getVisits()}) 
+	 * concurrently when more than one thread is configured. Either way the issues end up in the 
+	 * results in the order in which a sequential run would find them.
+	 */
 	public void analyze(Metadata metadata) {
 		for (int i = 0; i < detectors.length; i++) {
 			detectors[i].initialize(metadata);
-			detectors[i].visit(this);
 		}
-					
+		if (threads < 2) {
+			for (int i = 0; i < detectors.length; i++) {
+				detectors[i].visit(this);
+			}
+			return;
+		}
+		List<Consumer<IssueCollector>> visits = new ArrayList<Consumer<IssueCollector>>();
+		for (int i = 0; i < detectors.length; i++) {
+			visits.addAll(detectors[i].getVisits());
+		}
+		List<List<Issue>> issues = new ArrayList<List<Issue>>(visits.size());
+		for (int i = 0; i < visits.size(); i++) {
+			issues.add(new ArrayList<Issue>());
+		}
+		visitConcurrently(visits, issues, Math.max(1, Math.min(threads, visits.size())));
+		synchronized (this) {
+			for (List<Issue> visitIssues : issues) {
+				results.addAll(visitIssues);
+			}
+		}
+	}
+
+	private void visitConcurrently(List<Consumer<IssueCollector>> visits, List<List<Issue>> issues, int workers) {
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		for (int i = 0; i < visits.size(); i++) {
+			Consumer<IssueCollector> visit = visits.get(i);
+			List<Issue> visitIssues = issues.get(i);
+			tasks.add(() -> {
+				visit(visit, visitIssues);
+				return null;
+			});
+		}
+		ConcurrentTasks.runAll("hibernate-tools-lint", workers, tasks);
+	}
+	
+	private void visit(Consumer<IssueCollector> visit, List<Issue> visitIssues) {
+		visit.accept(issue -> {
+			visitIssues.add(issue);
+			publish(issue);
+		});
+	}
+	
+	private synchronized void publish(Issue issue) {
+		if (listener != null) {
+			listener.reportIssue(issue);
+		}
 	}
 	
 	/* (non-Javadoc)
 	 * @see org.hibernate.tool.hbmlint.IssueCollector#reportProblem(org.hibernate.tool.hbmlint.Issue)
 	 */
-	public void reportIssue(Issue analyze) {
+	public synchronized void reportIssue(Issue analyze) {
 		results.add(analyze);
+		publish(analyze);
 	}
 	
-	public List<Issue> getResults() {
+	public synchronized List<Issue> getResults() {
 		return results;	
 	}
 
 	public static HbmLint createInstance() {
+		return createInstance(1);
+	}
+
+	public static HbmLint createInstance(int threads) {
 		return new HbmLint( 
 			new Detector[] {
 					new BadCachingDetector(),
 					new InstrumentationDetector(),
 					new ShadowedIdentifierDetector(),
 					new SchemaByMetaDataDetector()
-			});
+			},
+			threads);
 		
 	}
 
@@ -17,6 +17,7 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.tool.internal.export.common.GenericExporter;
 
 public class HbmLintExporter extends GenericExporter {
@@ -29,7 +30,8 @@ public class HbmLintExporter extends GenericExporter {
     	super.start();
     }
 	protected void setupContext() {
-		HbmLint hbmlint = HbmLint.createInstance();
+		HbmLint hbmlint = HbmLint.createInstance( ConfigurationHelper.getInt( LINT_THREADS, getProperties(), 1 ) );
+		hbmlint.setIssueListener( issue -> log.debug( "Found " + issue ) );
 		hbmlint.analyze( getMetadata() );
 		getProperties().put("lintissues", hbmlint.getResults());
 		super.setupContext();		
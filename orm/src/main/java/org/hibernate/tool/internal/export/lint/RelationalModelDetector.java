@@ -17,7 +17,10 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Table;
@@ -31,6 +34,17 @@ public abstract class RelationalModelDetector extends Detector {
 		}					
 	}
 	
+	/**
+	 * Every table is visited on its own.
+	 */
+	public List<Consumer<IssueCollector>> getVisits() {
+		List<Consumer<IssueCollector>> result = new ArrayList<Consumer<IssueCollector>>();
+		for (Table table : getMetadata().collectTableMappings()) {
+			result.add(collector -> visit(table, collector));
+		}
+		return result;
+	}
+	
 	abstract protected void visit(Table table, Column col, IssueCollector collector);
 
 	protected void visitColumns(Table table, IssueCollector collector) {
@@ -17,11 +17,17 @@
  */
 package org.hibernate.tool.internal.export.lint;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.TreeMap;
 
 import org.hibernate.HibernateException;
@@ -75,8 +81,12 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 	
 	private Properties properties;
 	
-	/** current table as read from the database */
-	Table currentDbTable = null;
+	/** all the tables of the mapped schemas as read from the database */
+	private SchemaSnapshot snapshot;
+	
+	private Set<List<String>> readScopes = new HashSet<List<String>>();
+	
+	private List<Generator> generators;
 
 	public void initialize(Metadata metadata) {
 		super.initialize( metadata);
@@ -106,12 +116,19 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 		visitGenerators(collector);				
 	}
 	
+	public List<Consumer<IssueCollector>> getVisits() {
+		List<Consumer<IssueCollector>> result = new ArrayList<Consumer<IssueCollector>>( super.getVisits() );
+		result.add( this::visitGenerators );
+		return result;
+	}
+	
 	public void visitGenerators(IssueCollector collector) {
-		Iterator<?> iter = iterateGenerators();
+		readGeneratorSchemas();
+		Iterator<?> iter = getGenerators().iterator();
 		
 		Set<?> sequences = Collections.EMPTY_SET;
 		if(dialect.getSequenceSupport().supportsSequences()) {
-			sequences = sequenceCollector.readSequences(dialect.getQuerySequencesString());
+			sequences = readSequences();
 		}
 
 		// TODO: move this check into something that could check per class or collection instead.
@@ -125,6 +142,10 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 		
 	}
 
+	private synchronized Set<String> readSequences() {
+		return sequenceCollector.readSequences(dialect.getQuerySequencesString());
+	}
+
 	private boolean isSequence(Object key, Set<?> sequences) {
 		if(key instanceof String) {
 			if ( sequences.contains( key ) ) {
@@ -142,24 +163,14 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 	}
 
 	private boolean isTable(Object key) throws HibernateException {
-		// BIG HACK - should probably utilize the table cache before going to the jdbcreader :(
 		if(key instanceof String) {
 			String[] strings = StringHelper.split(".", (String) key);
 			if(strings.length==1) {
-				tableSelector.clearSchemaSelections();
-				tableSelector.addSchemaSelection( createSchemaSelection(null,null, strings[0]) );
-				Collection<Table> collection = readFromDatabase();
-				return !collection.isEmpty();
+				return !getSnapshot().findTables(null, null, strings[0]).isEmpty();
 			} else if(strings.length==3) {
-				tableSelector.clearSchemaSelections();
-				tableSelector.addSchemaSelection( createSchemaSelection(strings[0],strings[1], strings[2]) );
-				Collection<Table> collection = readFromDatabase();
-				return !collection.isEmpty();
+				return !getSnapshot().findTables(strings[0], strings[1], strings[2]).isEmpty();
 			} else if (strings.length==2) {
-				tableSelector.clearSchemaSelections();
-				tableSelector.addSchemaSelection( createSchemaSelection(null,strings[0], strings[1]) );
-				Collection<Table> collection = readFromDatabase();
-				return !collection.isEmpty();
+				return !getSnapshot().findTables(null, strings[0], strings[1]).isEmpty();
 			}
 		}
 		return false;
@@ -168,9 +179,10 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 	public void visit(Table table, IssueCollector pc) {
 
 		if ( table.isPhysicalTable() ) {
-			setSchemaSelection( table );
-
-			Collection<Table> collection = readFromDatabase();
+			Collection<Table> collection = getSnapshot().findTables( 
+					table.getCatalog(), 
+					table.getSchema(), 
+					table.getName() );
 
 			if ( collection.isEmpty() ) {
 				pc.reportIssue( new Issue( "SCHEMA_TABLE_MISSING",
@@ -189,8 +201,10 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 				return;
 			}
 			else {
-				currentDbTable = collection.iterator().next();
-				visitColumns(table,pc);				
+				Table dbTable = collection.iterator().next();
+				for ( Column col : table.getColumns() ) {
+					visit( table, dbTable, col, pc );
+				}
 			}
 		}
 		else {
@@ -206,11 +220,21 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 			Table table, 
 			Column col,
 			IssueCollector pc) {
-		if ( currentDbTable == null ) {
-			return;
+		List<Table> dbTables = getSnapshot().findTables( 
+				table.getCatalog(), 
+				table.getSchema(), 
+				table.getName() );
+		if ( dbTables.size() == 1 ) {
+			visit( table, dbTables.get( 0 ), col, pc );
 		}
+	}
 
-		Column dbColumn = currentDbTable
+	private void visit(
+			Table table, 
+			Table dbTable,
+			Column col,
+			IssueCollector pc) {
+		Column dbColumn = dbTable
 				.getColumn( new Column( col.getName() ) );
 
 		if ( dbColumn == null ) {
@@ -233,12 +257,87 @@ public class SchemaByMetaDataDetector extends RelationalModelDetector {
 		}
 	}
 
-	private void setSchemaSelection(Table table) {
+	/**
+	 * Reads all the tables of the schemas used by the mapped tables, and the mapped tables 
+	 * without a schema, with a single pass over the database metadata, the first time they 
+	 * are needed. The database is only 
+	 * accessed while holding the lock of the detector, so the concurrent visits of the 
+	 * tables do not use more than one connection at a time.
+	 */
+	private synchronized SchemaSnapshot getSnapshot() {
+		if ( snapshot == null ) {
+			snapshot = SchemaSnapshot.create();
+			Set<List<String>> scopes = new LinkedHashSet<List<String>>();
+			for ( Table table : getMetadata().collectTableMappings() ) {
+				if ( table.isPhysicalTable() ) {
+					addScope( scopes, table.getCatalog(), table.getSchema(), table.getName() );
+				}
+			}
+			readSchemas( scopes );
+		}
+		return snapshot;
+	}
+	
+	/**
+	 * Adds the tables of the schemas used by the table generators that were not read yet
+	 * to the snapshot, again with a single pass over the database metadata.
+	 */
+	private synchronized void readGeneratorSchemas() {
+		Set<List<String>> scopes = new LinkedHashSet<List<String>>();
+		for ( Generator generator : getGenerators() ) {
+			Object key = getGeneratorKey( (PersistentIdentifierGenerator) generator );
+			if ( key instanceof String ) {
+				String[] strings = StringHelper.split( ".", (String) key );
+				if ( strings.length == 3 ) {
+					addScope( scopes, strings[0], strings[1], strings[2] );
+				} else if ( strings.length == 2 ) {
+					addScope( scopes, null, strings[0], strings[1] );
+				} else {
+					addScope( scopes, null, null, strings[0] );
+				}
+			}
+		}
+		getSnapshot();
+		readSchemas( scopes );
+	}
+	
+	/**
+	 * Tables and generators without a schema are looked up in the default schema. If there 
+	 * is no default schema either, only the tables with the given name are read, in all the 
+	 * schemas, rather than all the tables of the database.
+	 */
+	private void addScope(Set<List<String>> scopes, String catalog, String schema, String name) {
+		if ( catalog == null && schema == null ) {
+			catalog = properties.getProperty( Environment.DEFAULT_CATALOG );
+			schema = properties.getProperty( Environment.DEFAULT_SCHEMA );
+		}
+		if ( catalog == null && schema == null ) {
+			scopes.add( Arrays.asList( null, null, name ) );
+		}
+		else {
+			scopes.add( Arrays.asList( catalog, schema, null ) );
+		}
+	}
+	
+	private void readSchemas(Set<List<String>> scopes) {
+		scopes.removeAll( readScopes );
+		if ( scopes.isEmpty() ) {
+			return;
+		}
 		tableSelector.clearSchemaSelections();
-		tableSelector.addSchemaSelection( createSchemaSelection(
-				table.getCatalog(), 
-				table.getSchema(), 
-				table.getName() ) );
+		for ( List<String> scope : scopes ) {
+			tableSelector.addSchemaSelection( createSchemaSelection( scope.get( 0 ), scope.get( 1 ), scope.get( 2 ) ) );
+		}
+		snapshot.addTables( readFromDatabase() );
+		readScopes.addAll( scopes );
+	}
+	
+	private synchronized List<Generator> getGenerators() {
+		if ( generators == null ) {
+			generators = new ArrayList<Generator>();
+			iterateGenerators().forEachRemaining( generators::add );
+		}
+		return generators;
 	}
 
 	/**
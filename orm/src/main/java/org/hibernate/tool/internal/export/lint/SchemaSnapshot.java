@@ -0,0 +1,100 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.lint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+
+/**
+ * The tables read from the database in one go, indexed by their (case insensitive)
+ * identifier so the tables of the mapping can be looked up in memory.
+ */
+public class SchemaSnapshot {
+
+	public static SchemaSnapshot create() {
+		return new SchemaSnapshot();
+	}
+
+	private final Set<TableIdentifier> identifiers = new HashSet<TableIdentifier>();
+	private final Map<TableIdentifier, List<Table>> tables = new HashMap<TableIdentifier, List<Table>>();
+	private final Map<String, List<Table>> tablesByName = new HashMap<String, List<Table>>();
+
+	private SchemaSnapshot() {}
+
+	/**
+	 * Adds the tables read from the database, skipping the ones that were added before.
+	 */
+	public synchronized void addTables(Collection<Table> tables) {
+		for (Table table : tables) {
+			if (identifiers.add(TableIdentifier.create(table))) {
+				this.tables.computeIfAbsent(getKey(table.getCatalog(), table.getSchema(), table.getName()), k -> new ArrayList<Table>()).add(table);
+				tablesByName.computeIfAbsent(normalize(table.getName()), k -> new ArrayList<Table>()).add(table);
+			}
+		}
+	}
+
+	/**
+	 * Returns the tables with the given name, in the given catalog and schema unless
+	 * these are null, in which case they do not narrow the search (as with the JDBC metadata).
+	 * Neither does the catalog or schema of a table when the database did not report it.
+	 */
+	public synchronized List<Table> findTables(String catalog, String schema, String name) {
+		if (catalog != null && schema != null) {
+			List<Table> result = tables.get(getKey(catalog, schema, name));
+			if (result != null) {
+				return new ArrayList<Table>(result);
+			}
+		}
+		List<Table> result = new ArrayList<Table>();
+		for (Table table : tablesByName.getOrDefault(normalize(name), Collections.emptyList())) {
+			if (matches(table.getCatalog(), catalog) && matches(table.getSchema(), schema)) {
+				result.add(table);
+			}
+		}
+		return result;
+	}
+
+	private static TableIdentifier getKey(String catalog, String schema, String name) {
+		return TableIdentifier.create(normalize(catalog), normalize(schema), normalize(name));
+	}
+
+	private static boolean matches(String value, String requested) {
+		return value == null || requested == null || normalize(requested).equals(normalize(value));
+	}
+
+	private static String normalize(String name) {
+		if (name == null) {
+			return null;
+		}
+		if (name.length() > 1 && name.charAt(0) == '`' && name.charAt(name.length() - 1) == '`') {
+			name = name.substring(1, name.length() - 1);
+		}
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+}
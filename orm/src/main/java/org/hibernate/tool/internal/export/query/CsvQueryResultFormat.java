@@ -0,0 +1,71 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Writes every row as a line of comma separated values, one value per selected item. 
+ * Values holding a comma, a quote or a line break are quoted as described in RFC 4180, 
+ * null values are left empty.
+ */
+public class CsvQueryResultFormat implements QueryResultFormat {
+
+	private static final String LINE_SEPARATOR = "\r\n";
+
+	public void writeRow(Object row, Writer writer) throws IOException {
+		Object[] values;
+		if (row instanceof Object[]) {
+			values = (Object[])row;
+		}
+		else if (row instanceof Tuple) {
+			values = ((Tuple)row).toArray();
+		}
+		else {
+			values = new Object[] { row };
+		}
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			if (values[i] != null) {
+				writeValue(values[i].toString(), writer);
+			}
+		}
+		writer.write(LINE_SEPARATOR);
+	}
+
+	private void writeValue(String value, Writer writer) throws IOException {
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+		}
+		if (!quote) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+}
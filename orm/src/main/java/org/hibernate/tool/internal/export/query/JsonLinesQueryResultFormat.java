@@ -0,0 +1,50 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.tool.language.internal.ResultsJsonSerializerImpl;
+
+/**
+ * Writes every row as a JSON value on a line of its own (JSON lines). The rows are rendered 
+ * by the results serializer of the language module, which resolves the selections of the 
+ * query against the mapping model once per query.
+ */
+public class JsonLinesQueryResultFormat implements QueryResultFormat {
+
+	private final ResultsJsonSerializerImpl serializer;
+	private ResultsJsonSerializerImpl.RowWriter rowWriter;
+
+	public JsonLinesQueryResultFormat(SessionFactoryImplementor factory) {
+		this.serializer = new ResultsJsonSerializerImpl(factory);
+	}
+
+	public void startQuery(SelectionQuery<?> query, Writer writer) {
+		rowWriter = serializer.createRowWriter(query);
+	}
+
+	public void writeRow(Object row, Writer writer) throws IOException {
+		rowWriter.write(row, writer);
+		writer.append('\n');
+	}
+
+}
@@ -17,25 +17,47 @@
  */
 package org.hibernate.tool.internal.export.query;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.Query;
 import org.hibernate.tool.internal.export.common.AbstractExporter;
+import org.hibernate.tool.util.ReflectionUtil;
 
 /** 
  * exporter for query execution.
  * 
+ * The results are streamed from the database and written as they are read, in the format 
+ * set with {@link #QUERY_OUTPUT_FORMAT}: <code>text</code> (the default, the 
+ * <code>toString()</code> of each row), <code>csv</code>, <code>json</code> (JSON lines) 
+ * or the name of a {@link QueryResultFormat} class. The session is cleared after every 
+ * {@link #QUERY_FETCH_SIZE} rows, so the entities read do not pile up in memory. Queries
+ * that cannot be scrolled, like polymorphic queries over unrelated entities, are read 
+ * completely before they are written.
  **/
 public class QueryExporter extends AbstractExporter {
 
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+	
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	public void doStart() {
 		Session session = null;
 		SessionFactory sessionFactory = null;
@@ -44,34 +66,30 @@ public class QueryExporter extends AbstractExporter {
 			sessionFactory = buildMetadata().buildSessionFactory();
 			session = sessionFactory.openSession();
 			transaction = session.beginTransaction();
-			for (Iterator<?> iter = getQueryList().iterator(); iter.hasNext();) {
-				String query = (String) iter.next();
-				
-				List<Object> list = session.createQuery(query, null).getResultList();
-				
-				if(getFileName()!=null) {
-					PrintWriter pw = null;
-					try {
-						File file = new File( getOutputDirectory(), getFileName() );
-						getTemplateHelper().ensureExistence( file );
-						pw = new PrintWriter( new FileWriter( file, true ) );			
-						getArtifactCollector().addFile( file, "query-output" );
-						
-						for (Iterator<Object> iter1 = list.iterator(); iter1.hasNext();) {
-							Object element = iter1.next();
-							pw.println(element);
-						}
-						
-					}
-					catch (IOException e) {
-						throw new RuntimeException("Could not write query output",e);
-					} finally {
-						if(pw!=null) {
-							pw.flush();
-							pw.close();
-						}
+			if(getFileName()!=null) {
+				File file = new File( getOutputDirectory(), getFileName() );
+				getTemplateHelper().ensureExistence( file );
+				getArtifactCollector().addFile( file, "query-output" );
+				QueryResultFormat format = createQueryResultFormat( (SessionFactoryImplementor) sessionFactory );
+				try (CountingOutputStream out = new CountingOutputStream( new FileOutputStream( file, true ) );
+						Writer writer = new BufferedWriter( new OutputStreamWriter( out, StandardCharsets.UTF_8 ), BUFFER_SIZE )) {
+					for (Iterator<?> iter = getQueryList().iterator(); iter.hasNext();) {
+						String query = (String) iter.next();
+						long start = System.nanoTime();
+						long bytes = out.getCount();
+						long rows = export( session, query, format, writer );
+						writer.flush();
+						report( file, query, rows, out.getCount() - bytes, System.nanoTime() - start );
 					}
 				}
+				catch (IOException e) {
+					throw new RuntimeException("Could not write query output",e);
+				}
+			}
+			else {
+				for (Iterator<?> iter = getQueryList().iterator(); iter.hasNext();) {
+					export( session, (String) iter.next(), null, null );
+				}
 			}
 			transaction.commit();
 		} catch(HibernateException he) {
@@ -89,6 +107,79 @@ public class QueryExporter extends AbstractExporter {
 			
 		}
 	}
+	
+	/**
+	 * Stream the result of the query to the writer, or only read it when there is no writer.
+	 * 
+	 * @return the number of rows
+	 */
+	private long export(Session session, String queryString, QueryResultFormat format, Writer writer) {
+		int fetchSize = getFetchSize();
+		Query<Object> query = session.createQuery( queryString, null );
+		query.setFetchSize( fetchSize );
+		query.setReadOnly( true );
+		long rows = 0;
+		try (Stream<Object> stream = openResultStream( query )) {
+			if(writer!=null) {
+				format.startQuery( query, writer );
+			}
+			for (Iterator<Object> iter = stream.iterator(); iter.hasNext();) {
+				Object row = iter.next();
+				if(writer!=null) {
+					format.writeRow( row, writer );
+				}
+				if(++rows % fetchSize == 0) {
+					session.clear();
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Could not write query output",e);
+		}
+		return rows;
+	}
+	
+	private Stream<Object> openResultStream(Query<Object> query) {
+		try {
+			return query.getResultStream();
+		}
+		catch (UnsupportedOperationException e) {
+			// polymorphic queries over several unrelated entities cannot be scrolled
+			log.debug( "Query [" + query.getQueryString() + "] cannot be streamed, reading the complete result" );
+			return query.getResultList().stream();
+		}
+	}
+	
+	private void report(File file, String query, long rows, long bytes, long durationNanos) {
+		getArtifactCollector().addFileStatistics( file, rows, bytes, durationNanos );
+		log.info( "Wrote " + rows + " rows (" + bytes + " bytes) of [" + query + "] to " + file 
+				+ String.format( " in %.3f s", durationNanos / 1e9 ) );
+	}
+	
+	private QueryResultFormat createQueryResultFormat(SessionFactoryImplementor sessionFactory) {
+		String format = (String)getProperties().getOrDefault( QUERY_OUTPUT_FORMAT, "text" );
+		switch (format) {
+		case "text":
+			return new TextQueryResultFormat();
+		case "csv":
+			return new CsvQueryResultFormat();
+		case "json":
+			return new JsonLinesQueryResultFormat( sessionFactory );
+		default:
+			try {
+				return (QueryResultFormat) ReflectionUtil.classForName( format )
+						.getConstructor()
+						.newInstance();
+			} catch (ClassNotFoundException | ClassCastException | NoSuchMethodException | 
+					InstantiationException | IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeException("A query result format '" + format + "' could not be created", e);
+			}
+		}
+	}
+
+	private int getFetchSize() {
+		return Math.max( 1, ConfigurationHelper.getInt( QUERY_FETCH_SIZE, getProperties(), DEFAULT_FETCH_SIZE ) );
+	}
 
 	private String getFileName() {
 		return (String)getProperties().get(OUTPUT_FILE_NAME);
@@ -101,5 +192,29 @@ public class QueryExporter extends AbstractExporter {
 	public void setQueries(List<String> queryStrings) {
 		getProperties().put(QUERY_LIST, queryStrings);		
 	}
+	
+	private static class CountingOutputStream extends FilterOutputStream {
+		
+		private long count = 0;
+		
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+		
+		long getCount() {
+			return count;
+		}
+		
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+		
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+		
+	}
 
 }
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.hibernate.query.SelectionQuery;
+
+/**
+ * Writes the rows of the results of the queries run by the {@link QueryExporter}. The rows 
+ * are passed one at a time as they are read, so a format should not hold on to them.
+ */
+public interface QueryResultFormat {
+
+	/**
+	 * Called before the rows of the query are written.
+	 */
+	default void startQuery(SelectionQuery<?> query, Writer writer) throws IOException {}
+
+	void writeRow(Object row, Writer writer) throws IOException;
+
+}
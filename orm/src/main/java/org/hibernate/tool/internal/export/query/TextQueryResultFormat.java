@@ -0,0 +1,35 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.query;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the <code>toString()</code> of every row on a line of its own.
+ */
+public class TextQueryResultFormat implements QueryResultFormat {
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	public void writeRow(Object row, Writer writer) throws IOException {
+		writer.write(String.valueOf(row));
+		writer.write(LINE_SEPARATOR);
+	}
+
+}
@@ -17,8 +17,11 @@
  */
 package org.hibernate.tool.internal.reveng;
 
-
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.internal.BootstrapContextImpl;
@@ -33,13 +36,22 @@ import org.hibernate.boot.spi.MetadataBuildingContext;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.metadata.MetadataConstants;
 import org.hibernate.tool.api.reveng.RevengDialect;
 import org.hibernate.tool.api.reveng.RevengDialectFactory;
+import org.hibernate.tool.api.reveng.RevengPhase;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.hibernate.tool.internal.reveng.binder.BinderContext;
 import org.hibernate.tool.internal.reveng.binder.RootClassBinder;
+import org.hibernate.tool.internal.reveng.binder.RootClassBinder.PreparedRootClass;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation.Measurement;
 import org.hibernate.tool.internal.reveng.reader.DatabaseReader;
+import org.hibernate.tool.internal.reveng.strategy.CachingStrategy;
+import org.hibernate.tool.internal.util.ConcurrentTasks;
 import org.jboss.logging.Logger;
 
 
@@ -57,12 +69,13 @@ public class RevengMetadataBuilder {
 	}
 	
 	private static final Logger LOGGER = Logger.getLogger(RevengMetadataBuilder.class);
-
+	
 	private final Properties properties;
 	private final MetadataBuildingContext metadataBuildingContext;	
 	private final InFlightMetadataCollectorImpl metadataCollector;	
 	private final RevengStrategy revengStrategy;
 	private final BinderContext binderContext;
+	private final RevengInstrumentation instrumentation;
 	
 	private final StandardServiceRegistry serviceRegistry;
 	
@@ -70,7 +83,8 @@ public class RevengMetadataBuilder {
 			Properties properties,
 			RevengStrategy reverseEngineeringStrategy) {
 		this.properties = properties;
-		this.revengStrategy = reverseEngineeringStrategy;
+		this.revengStrategy = CachingStrategy.wrap(reverseEngineeringStrategy, properties);
+		this.instrumentation = RevengInstrumentation.create(properties);
 		this.serviceRegistry = new StandardServiceRegistryBuilder()
 				.applySettings(properties)
 				.build();
@@ -95,16 +109,31 @@ public class RevengMetadataBuilder {
 				.create(
 						metadataBuildingContext, 
 						metadataCollector, 
-						reverseEngineeringStrategy, 
-						properties);
+						revengStrategy, 
+						properties,
+						instrumentation);
 	}
 
 	public Metadata build() {
 		Metadata result = createMetadata();		
-        createPersistentClasses(readFromDatabase()); 
+		RevengMetadataCollector revengMetadataCollector = readFromDatabase();
+		TableFingerprints fingerprints = createFingerprints();
+        createPersistentClasses(revengMetadataCollector); 
+        if (fingerprints != null) {
+        	TableFingerprints.register(result, fingerprints);
+        }
 		return result;
 	}
 	
+	private TableFingerprints createFingerprints() {
+		String file = properties.getProperty(MetadataConstants.INCREMENTAL_FINGERPRINT_FILE);
+		if (file == null) {
+			return null;
+		}
+		// computed before binding as the binders alter the catalog and schema of the tables
+		return TableFingerprints.create(metadataCollector.collectTableMappings(), new File(file));
+	}
+	
 	private MetadataImpl createMetadata() {
 		MetadataImpl result = metadataCollector.buildMetadataInstance(metadataBuildingContext);
 		result.getTypeConfiguration().scope(metadataBuildingContext);		
@@ -116,7 +145,7 @@ public class RevengMetadataBuilder {
 				.createMetaDataDialect(
 						serviceRegistry.getService(JdbcServices.class).getDialect(), 
 						properties );
-	    DatabaseReader reader = DatabaseReader.create(properties,revengStrategy,mdd, serviceRegistry);
+	    DatabaseReader reader = DatabaseReader.create(properties,revengStrategy,mdd, serviceRegistry, instrumentation);
 	    RevengMetadataCollector revengMetadataCollector = new RevengMetadataCollector(metadataBuildingContext);
         reader.readDatabaseSchema(revengMetadataCollector);
         return revengMetadataCollector;
@@ -130,7 +159,9 @@ public class RevengMetadataBuilder {
         // TODO: just create one big embedded composite id instead.
     }*/
 	private void createPersistentClasses(RevengMetadataCollector revengMetadataCollector) {
+		Measurement measurement = instrumentation.startPhase(RevengPhase.BINDING);
 		RootClassBinder rootClassBinder = RootClassBinder.create(binderContext);
+		List<Table> tables = new ArrayList<Table>();
 		for (Table table : metadataCollector.collectTableMappings()) {
 			if(table.getColumnSpan()==0) {
 				LOGGER.warn("Cannot create persistent class for " + table + " as no columns were found.");
@@ -140,9 +171,37 @@ public class RevengMetadataBuilder {
 				LOGGER.debug( "Ignoring " + table + " as class since rev.eng. says it is a many-to-many" );
 				continue;
 			}	    	
-			rootClassBinder.bind(table, revengMetadataCollector);
-		}		
+			tables.add(table);
+		}
+		List<PreparedRootClass> prepared = prepareRootClasses(rootClassBinder, tables);
+		for (int i = 0; i < tables.size(); i++) {
+			PersistentClass persistentClass = rootClassBinder.bind(tables.get(i), revengMetadataCollector, prepared == null ? null : prepared.get(i));
+			instrumentation.entityBound(persistentClass.getEntityName(), i + 1, tables.size());
+		}
 		metadataCollector.processSecondPasses(metadataBuildingContext);	
+		measurement.end();
+	}
+	
+	/**
+	 * Prepare the root classes concurrently if {@link MetadataConstants#BINDING_THREADS} is 
+	 * set, returning null otherwise. Apart from the class names the answers of the strategy 
+	 * are only reused through the {@link CachingStrategy}, so nothing is prepared without it.
+	 */
+	private List<PreparedRootClass> prepareRootClasses(RootClassBinder rootClassBinder, List<Table> tables) {
+		int threads = Math.min(ConfigurationHelper.getInt(MetadataConstants.BINDING_THREADS, properties, 1), tables.size());
+		if (threads < 2) {
+			return null;
+		}
+		if (!(revengStrategy instanceof CachingStrategy)) {
+			LOGGER.warn("Ignoring " + MetadataConstants.BINDING_THREADS + " as the answers of the strategy are not cached (see " 
+					+ MetadataConstants.STRATEGY_CACHE_SIZE + "), binding the classes serially");
+			return null;
+		}
+		List<Callable<PreparedRootClass>> tasks = new ArrayList<Callable<PreparedRootClass>>();
+		for (Table table : tables) {
+			tasks.add(() -> rootClassBinder.prepare(table));
+		}
+		return ConcurrentTasks.runAll("hibernate-tools-binder", threads, tasks);
 	}
 	
 	
@@ -52,7 +52,7 @@ public class RevengMetadataCollector {
 	}
 	
 	// TableIdentifier's catalog, schema and name should be quoted
-	public Table addTable(TableIdentifier tableIdentifier) {
+	public synchronized Table addTable(TableIdentifier tableIdentifier) {
 		Table result = null;
 		String catalog = tableIdentifier.getCatalog();
 		String schema = tableIdentifier.getSchema();
@@ -72,7 +72,7 @@ public class RevengMetadataCollector {
 		return result;
 	}
 	
-	public Table getTable(TableIdentifier tableIdentifier) {
+	public synchronized Table getTable(TableIdentifier tableIdentifier) {
 		return tables.get(tableIdentifier);
 	}
 
@@ -88,11 +88,11 @@ public class RevengMetadataCollector {
 		return oneToManyCandidates;
 	}
 
-	public String getSuggestedIdentifierStrategy(String catalog, String schema, String name) {
+	public synchronized String getSuggestedIdentifierStrategy(String catalog, String schema, String name) {
 		return (String) suggestedIdentifierStrategies.get(TableIdentifier.create(catalog, schema, name));
 	}
 
-	public void addSuggestedIdentifierStrategy(String catalog, String schema, String name, String idstrategy) {
+	public synchronized void addSuggestedIdentifierStrategy(String catalog, String schema, String name, String idstrategy) {
 		suggestedIdentifierStrategies.put(TableIdentifier.create(catalog, schema, name), idstrategy);
 	}
 	
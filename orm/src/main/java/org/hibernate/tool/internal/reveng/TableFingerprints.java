@@ -0,0 +1,272 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.UniqueKey;
+import org.jboss.logging.Logger;
+
+/**
+ * Fingerprints of the metadata (columns, primary key, foreign keys in both directions,
+ * indexes and unique keys) of the tables read from the database. Comparing them with the
+ * fingerprints stored by a previous run tells which tables changed in between. The stored
+ * fingerprints are kept per scope, so that each exporter only skips the tables it already
+ * generated, and are written by the exporter once its export succeeded.
+ */
+public class TableFingerprints {
+
+	private static final Logger LOGGER = Logger.getLogger(TableFingerprints.class);
+
+	// looked up by identity, as the metadata may be a proxy
+	private static final List<Registration> REGISTRY = new ArrayList<Registration>();
+
+	public static TableFingerprints create(Collection<Table> tables, File file) {
+		return new TableFingerprints(tables, file);
+	}
+
+	/**
+	 * Makes the fingerprints available to the exporters of <code>metadata</code>.
+	 */
+	public static void register(Metadata metadata, TableFingerprints fingerprints) {
+		synchronized (REGISTRY) {
+			REGISTRY.removeIf(registration -> registration.get() == null);
+			REGISTRY.add(new Registration(metadata, fingerprints));
+		}
+	}
+
+	/**
+	 * Returns the fingerprints of the tables <code>metadata</code> was reverse engineered 
+	 * from, or <code>null</code> if incremental generation is not enabled.
+	 */
+	public static TableFingerprints get(Metadata metadata) {
+		synchronized (REGISTRY) {
+			for (Registration registration : REGISTRY) {
+				if (registration.get() == metadata) {
+					return registration.fingerprints;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static class Registration extends WeakReference<Metadata> {
+		private final TableFingerprints fingerprints;
+		private Registration(Metadata metadata, TableFingerprints fingerprints) {
+			super(metadata);
+			this.fingerprints = fingerprints;
+		}
+	}
+
+	private final Collection<Table> tables;
+	private final File file;
+	private final Map<Table, String> keys = new IdentityHashMap<Table, String>();
+	private final Properties fingerprints = new Properties();
+
+	private TableFingerprints(Collection<Table> tables, File file) {
+		this.tables = tables;
+		this.file = file;
+		Map<Table, List<String>> incoming = new IdentityHashMap<Table, List<String>>();
+		for (Table table : tables) {
+			keys.put(table, getKey(table));
+		}
+		for (Table table : tables) {
+			for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+				Table referenced = foreignKey.getReferencedTable();
+				if (referenced != null) {
+					incoming.computeIfAbsent(referenced, t -> new ArrayList<String>())
+						.add(keys.get(table) + "." + foreignKey.getName());
+				}
+			}
+		}
+		for (Table table : tables) {
+			List<String> references = incoming.getOrDefault(table, Collections.emptyList());
+			fingerprints.setProperty(keys.get(table), digest(describe(table, references)));
+		}
+	}
+
+	/**
+	 * Returns the tables whose fingerprint differs from the one stored for <code>scope</code>,
+	 * together with the tables they reference or that reference them, as their mapping
+	 * depends on the changed table. All tables are returned if nothing was stored yet.
+	 */
+	public Set<Table> getChangedTables(String scope) {
+		Properties previous = load(file);
+		String prefix = digest(scope) + "|";
+		Set<Table> changed = Collections.newSetFromMap(new IdentityHashMap<Table, Boolean>());
+		for (Table table : tables) {
+			String key = keys.get(table);
+			if (!fingerprints.getProperty(key).equals(previous.getProperty(prefix + key))) {
+				changed.add(table);
+			}
+		}
+		Set<Table> result = Collections.newSetFromMap(new IdentityHashMap<Table, Boolean>());
+		result.addAll(changed);
+		for (Table table : tables) {
+			for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+				Table referenced = foreignKey.getReferencedTable();
+				if (changed.contains(table) && referenced != null && keys.containsKey(referenced)) {
+					result.add(referenced);
+				} else if (changed.contains(referenced)) {
+					result.add(table);
+				}
+			}
+		}
+		LOGGER.debug(changed.size() + " of " + tables.size() + " tables changed, " + result.size() + " need to be generated");
+		return result;
+	}
+
+	/**
+	 * Stores the fingerprints for <code>scope</code>, keeping the ones stored for other scopes.
+	 * The scope describes everything the generated output depends on besides the tables, only 
+	 * its digest is stored.
+	 */
+	public synchronized void save(String scope) {
+		Properties result = load(file);
+		String prefix = digest(scope) + "|";
+		result.keySet().removeIf(key -> ((String) key).startsWith(prefix));
+		for (String key : fingerprints.stringPropertyNames()) {
+			result.setProperty(prefix + key, fingerprints.getProperty(key));
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (OutputStream out = new FileOutputStream(file)) {
+			result.store(out, "Hibernate Tools table fingerprints");
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Problem while writing table fingerprints " + file, e);
+		}
+	}
+
+	private static Properties load(File file) {
+		Properties result = new Properties();
+		if (file.isFile()) {
+			try (InputStream in = new FileInputStream(file)) {
+				result.load(in);
+			}
+			catch (IOException e) {
+				LOGGER.warn("Ignoring table fingerprints " + file + " as they cannot be read", e);
+				result.clear();
+			}
+		}
+		return result;
+	}
+
+	private static String getKey(Table table) {
+		StringBuilder result = new StringBuilder();
+		if (table.getCatalog() != null) {
+			result.append(table.getCatalog()).append('.');
+		}
+		if (table.getSchema() != null) {
+			result.append(table.getSchema()).append('.');
+		}
+		return result.append(table.getName()).toString();
+	}
+
+	private String describe(Table table, List<String> incoming) {
+		StringBuilder sb = new StringBuilder();
+		for (Column column : table.getColumns()) {
+			sb.append("column ")
+				.append(column.getName()).append(' ')
+				.append(column.getSqlTypeCode()).append(' ')
+				.append(column.getSqlType()).append(' ')
+				.append(column.getLength()).append(' ')
+				.append(column.getPrecision()).append(' ')
+				.append(column.getScale()).append(' ')
+				.append(column.isNullable()).append(' ')
+				.append(column.isUnique()).append('\n');
+		}
+		if (table.getPrimaryKey() != null) {
+			sb.append("pk ").append(getColumnNames(table.getPrimaryKey().getColumns())).append('\n');
+		}
+		List<String> lines = new ArrayList<String>();
+		for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+			Table referenced = foreignKey.getReferencedTable();
+			lines.add("fk " + foreignKey.getName() + " "
+					+ getColumnNames(foreignKey.getColumns()) + " -> "
+					+ (referenced == null ? foreignKey.getReferencedEntityName() : keys.get(referenced)) + " "
+					+ getColumnNames(foreignKey.getReferencedColumns()));
+		}
+		for (String reference : incoming) {
+			lines.add("referenced by " + reference);
+		}
+		for (Index index : table.getIndexes().values()) {
+			List<String> selectables = new ArrayList<String>();
+			for (Selectable selectable : index.getSelectables()) {
+				selectables.add(selectable.getText());
+			}
+			lines.add("index " + index.getName() + " " + selectables);
+		}
+		for (UniqueKey uniqueKey : table.getUniqueKeys().values()) {
+			lines.add("unique " + uniqueKey.getName() + " " + getColumnNames(uniqueKey.getColumns()));
+		}
+		Collections.sort(lines);
+		for (String line : lines) {
+			sb.append(line).append('\n');
+		}
+		return sb.toString();
+	}
+
+	private static List<String> getColumnNames(List<Column> columns) {
+		List<String> result = new ArrayList<String>(columns.size());
+		for (Column column : columns) {
+			result.add(column.getName());
+		}
+		return result;
+	}
+
+	private static String digest(String description) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+			StringBuilder result = new StringBuilder();
+			for (byte b : hash) {
+				result.append(String.format("%02x", b));
+			}
+			return result.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
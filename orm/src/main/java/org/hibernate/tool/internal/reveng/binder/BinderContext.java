@@ -21,7 +21,9 @@ import java.util.Properties;
 
 import org.hibernate.boot.spi.InFlightMetadataCollector;
 import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.tool.api.reveng.RevengListener;
 import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
 
 public class BinderContext {
 	
@@ -30,27 +32,45 @@ public class BinderContext {
 			InFlightMetadataCollector metadataCollector,
 			RevengStrategy revengStrategy,
 			Properties properties) {
+		return create(
+				metadataBuildingContext, 
+				metadataCollector, 
+				revengStrategy, 
+				properties,
+				RevengInstrumentation.create((RevengListener)null));
+	}
+	
+	public static BinderContext create(
+			MetadataBuildingContext metadataBuildingContext,
+			InFlightMetadataCollector metadataCollector,
+			RevengStrategy revengStrategy,
+			Properties properties,
+			RevengInstrumentation instrumentation) {
 		return new BinderContext(
 				metadataBuildingContext, 
 				metadataCollector, 
 				revengStrategy, 
-				properties);
+				properties,
+				instrumentation);
 	}
 	
 	public final MetadataBuildingContext metadataBuildingContext;
 	public final InFlightMetadataCollector metadataCollector;
 	public final RevengStrategy revengStrategy;
 	public final Properties properties;
+	public final RevengInstrumentation instrumentation;
 	
 	private BinderContext(
 			MetadataBuildingContext metadataBuildingContext,
 			InFlightMetadataCollector metadataCollector,
 			RevengStrategy revengStrategy,
-			Properties properties) {
+			Properties properties,
+			RevengInstrumentation instrumentation) {
 		this.metadataBuildingContext = metadataBuildingContext;
 		this.metadataCollector = metadataCollector;
 		this.revengStrategy = revengStrategy;
 		this.properties = properties;
+		this.instrumentation = instrumentation;
 	}
 
 }
@@ -38,6 +38,7 @@ import org.hibernate.mapping.RootClass;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.reveng.TableIdentifier;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
 import org.hibernate.tool.internal.reveng.util.RevengUtils;
 
 public class RootClassBinder extends AbstractBinder {
@@ -53,19 +54,30 @@ public class RootClassBinder extends AbstractBinder {
 	private final VersionPropertyBinder versionPropertyBinder;
 	private final ForeignKeyBinder foreignKeyBinder;
 	private final BasicPropertyBinder basicPropertyBinder;
+	private final RevengInstrumentation instrumentation;
 	
 	private RootClassBinder(BinderContext binderContext) {
 		super(binderContext);
+		this.instrumentation = binderContext.instrumentation;
 		this.primaryKeyBinder = PrimaryKeyBinder.create(binderContext);
 		this.versionPropertyBinder = VersionPropertyBinder.create(binderContext);
 		this.foreignKeyBinder = ForeignKeyBinder.create(binderContext);
 		this.basicPropertyBinder = BasicPropertyBinder.create(binderContext);
 	}
 
-	public void bind(Table table, RevengMetadataCollector revengMetadataCollector) {
+	public RootClass bind(Table table, RevengMetadataCollector revengMetadataCollector) {
+		return bind(table, revengMetadataCollector, null);
+	}
+	
+	/**
+	 * Bind the table, using the answers of the strategy gathered by {@link #prepare(Table)} 
+	 * if <code>prepared</code> is not null.
+	 */
+	public RootClass bind(Table table, RevengMetadataCollector revengMetadataCollector, PreparedRootClass prepared) {
+		instrumentation.checkCancelled();
 		Set<Column> processed = new HashSet<Column>();
 		nullifyDefaultCatalogAndSchema(table);
-		RootClass rc = createRootClass(table);
+		RootClass rc = createRootClass(table, prepared);
 		addToMetadataCollector(rc, table);
 		PrimaryKeyInfo pki = bindPrimaryKey(table, rc, processed, revengMetadataCollector);		
 		bindVersionProperty(table, rc, processed);
@@ -73,6 +85,7 @@ public class RootClassBinder extends AbstractBinder {
 		bindColumnsToProperties(table, rc, processed);
 		bindIncomingForeignKeys(rc, processed, revengMetadataCollector);
 		updatePrimaryKey(rc, pki);	
+		return rc;
 	}
 	
 	private PrimaryKeyInfo bindPrimaryKey(
@@ -99,17 +112,63 @@ public class RootClassBinder extends AbstractBinder {
 		}
 	}
 	
-	private RootClass createRootClass(Table table) {
+	/**
+	 * Ask the strategy the questions about the table that binding it asks, without changing 
+	 * the table or the metadata, so several tables can be prepared concurrently. The class 
+	 * name and meta attributes are kept for {@link #bind(Table, RevengMetadataCollector, PreparedRootClass)},
+	 * the answers about the columns and the identifier are only remembered by a caching strategy.
+	 */
+	public PreparedRootClass prepare(Table table) {
+		instrumentation.checkCancelled();
+		TableIdentifier tableIdentifier = TableIdentifier.create(
+				isDefault(table.getCatalog(), getDefaultCatalog()) ? null : table.getCatalog(), 
+				isDefault(table.getSchema(), getDefaultSchema()) ? null : table.getSchema(), 
+				table.getName());
+		PreparedRootClass result = new PreparedRootClass(
+				getRevengStrategy().tableToClassName(tableIdentifier), 
+				getMetaAttributes(table, tableIdentifier));
+		getRevengStrategy().tableToIdentifierPropertyName(tableIdentifier);
+		getRevengStrategy().tableToCompositeIdName(tableIdentifier);
+		for (Column column : table.getColumns()) {
+			getColumnToPropertyNameInRevengStrategy(table, tableIdentifier, column);
+			if (column.getSqlTypeCode() != null) {
+				getRevengStrategy().columnToHibernateTypeName(
+						tableIdentifier, 
+						column.getName(), 
+						column.getSqlTypeCode().intValue(),
+						column.getLength() != null ? column.getLength().intValue() : TypeUtils.DEFAULT_COLUMN_LENGTH, 
+						column.getPrecision() != null ? column.getPrecision().intValue() : TypeUtils.DEFAULT_COLUMN_PRECISION, 
+						column.getScale() != null ? column.getScale().intValue() : TypeUtils.DEFAULT_COLUMN_SCALE,
+						column.isNullable(), 
+						false);
+			}
+		}
+		return result;
+	}
+	
+	public static class PreparedRootClass {
+		
+		private final String className;
+		private final Map<String,MetaAttribute> metaAttributes;
+		
+		private PreparedRootClass(String className, Map<String,MetaAttribute> metaAttributes) {
+			this.className = className;
+			this.metaAttributes = metaAttributes;
+		}
+		
+	}
+	
+	private RootClass createRootClass(Table table, PreparedRootClass prepared) {
 		RootClass rc = new RootClass(getMetadataBuildingContext());
 		TableIdentifier tableIdentifier = TableIdentifier.create(table);
-		String className = getRevengStrategy().tableToClassName( tableIdentifier );
+		String className = prepared != null ? prepared.className : getRevengStrategy().tableToClassName( tableIdentifier );
 		LOGGER.log(Level.INFO, "Building entity " + className + " based on " + tableIdentifier);
 		rc.setEntityName( className );
 		rc.setJpaEntityName( StringHelper.unqualify( className ) );
 		rc.setClassName( className );
 		rc.setProxyInterfaceName( rc.getEntityName() ); // TODO: configurable ?
 		rc.setLazy(true);
-		rc.setMetaAttributes(getMetaAttributes(table));
+		rc.setMetaAttributes(prepared != null ? prepared.metaAttributes : getMetaAttributes(table, tableIdentifier));
 		rc.setDiscriminatorValue( rc.getEntityName() );
 		rc.setTable(table);
 		rc.setOptimisticLockStyle(OptimisticLockStyle.NONE);
@@ -117,14 +176,18 @@ public class RootClassBinder extends AbstractBinder {
 	}
 	
 	private void nullifyDefaultCatalogAndSchema(Table table) {
-		if (table.getCatalog() != null && table.getCatalog().equals(getDefaultCatalog())) {
+		if (isDefault(table.getCatalog(), getDefaultCatalog())) {
 			table.setCatalog(null);
 		}
-		if (table.getSchema() != null && table.getSchema().equals(getDefaultSchema())) {
+		if (isDefault(table.getSchema(), getDefaultSchema())) {
 			table.setSchema(null);
 		}   		
 	}
 	
+	private static boolean isDefault(String name, String defaultName) {
+		return name != null && name.equals(defaultName);
+	}
+	
 	private void bindVersionProperty(
 			Table table, 
 			RootClass rc, 
@@ -161,7 +224,7 @@ public class RootClassBinder extends AbstractBinder {
 		for (Column column : table.getColumns()) {
 			if ( !processedColumns.contains(column) ) {
 				BinderUtils.checkColumnForMultipleBinding(column);
-				String propertyName = getColumnToPropertyNameInRevengStrategy(table, column);				
+				String propertyName = getColumnToPropertyNameInRevengStrategy(table, TableIdentifier.create(table), column);				
 				Property property = basicPropertyBinder.bind(
 						BinderUtils.makeUnique(rc,propertyName), 
 						table, 
@@ -181,10 +244,8 @@ public class RootClassBinder extends AbstractBinder {
         return false;
     }
 
-	private Map<String,MetaAttribute> getMetaAttributes(Table table) {
-		Map<String,MetaAttribute> result = null;
-		TableIdentifier tableIdentifier = TableIdentifier.create(table);
-		result = getRevengStrategy().tableToMetaAttributes(tableIdentifier);
+	private Map<String,MetaAttribute> getMetaAttributes(Table table, TableIdentifier tableIdentifier) {
+		Map<String,MetaAttribute> result = getRevengStrategy().tableToMetaAttributes(tableIdentifier);
 		if (result == null) {
 			tableIdentifier = RevengUtils.createTableIdentifier(
 					table, 
@@ -200,11 +261,10 @@ public class RootClassBinder extends AbstractBinder {
 	
 	private String getColumnToPropertyNameInRevengStrategy(
 			Table table,
+			TableIdentifier tableIdentifier,
 			Column column) {
-		String result = null;
 		String columnName = column.getName();
-		TableIdentifier tableIdentifier = TableIdentifier.create(table);
-		result = getRevengStrategy().columnToPropertyName(tableIdentifier, columnName);
+		String result = getRevengStrategy().columnToPropertyName(tableIdentifier, columnName);
 		if (result == null) {
 			tableIdentifier = RevengUtils.createTableIdentifier(table, getDefaultCatalog(), getDefaultSchema());
 			result = getRevengStrategy().columnToPropertyName(tableIdentifier, columnName);
@@ -17,18 +17,45 @@
  */
 package org.hibernate.tool.internal.reveng.dialect;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.jboss.logging.Logger;
 
 public class CachedMetaDataDialect implements RevengDialect {
 	
+	private static final Logger log = Logger.getLogger(CachedMetaDataDialect.class);
+	
+	private static final String SNAPSHOT_HEADER = "hibernate-tools-metadata-snapshot";
+	private static final int SNAPSHOT_VERSION = 1;
+	// the rows only hold the simple values returned by the jdbc drivers
+	private static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+			"java.lang.*;java.math.*;java.util.ArrayList;java.util.HashMap;java.util.Map$Entry;!*");
+	
 	RevengDialect delegate;
+	private File snapshotFile;
+	private String snapshotFingerprint;
+	private boolean modified;
 	private Map<StringKey, List<Map<String, Object>>> cachedTables = new HashMap<StringKey, List<Map<String, Object>>>();
 	private Map<StringKey, List<Map<String, Object>>> cachedColumns = new HashMap<StringKey, List<Map<String, Object>>>();
 	private Map<StringKey, List<Map<String, Object>>> cachedExportedKeys = new HashMap<StringKey, List<Map<String, Object>>>();
@@ -41,8 +68,117 @@ public class CachedMetaDataDialect implements RevengDialect {
 	}
 	
 	public void close() {
+		if (snapshotFile != null && modified) {
+			saveSnapshot(snapshotFile, snapshotFingerprint);
+		}
 		delegate.close();
 	}
+	
+	/**
+	 * Fill this cache from <code>file</code> when it holds a valid snapshot and write the
+	 * cache back to it on {@link #close()} whenever metadata had to be read from the database.
+	 * A snapshot is discarded when its fingerprint differs from <code>fingerprint</code> or when
+	 * it is older than <code>maxAgeMillis</code> (unless that is smaller than or equal to 0).
+	 * 
+	 * @return true if the cache was filled from the snapshot
+	 */
+	public boolean useSnapshot(File file, String fingerprint, long maxAgeMillis) {
+		this.snapshotFile = file;
+		this.snapshotFingerprint = fingerprint;
+		return file.isFile() && loadSnapshot(file, fingerprint, maxAgeMillis);
+	}
+	
+	/**
+	 * Write all the metadata cached so far to <code>file</code>, tagged with <code>fingerprint</code>.
+	 */
+	public void saveSnapshot(File file, String fingerprint) {
+		File parent = file.getAbsoluteFile().getParentFile();
+		try {
+			if (parent != null) {
+				Files.createDirectories(parent.toPath());
+			}
+			File temp = File.createTempFile(file.getName(), ".tmp", parent);
+			try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(temp))))) {
+				out.writeUTF(SNAPSHOT_HEADER);
+				out.writeInt(SNAPSHOT_VERSION);
+				out.writeLong(System.currentTimeMillis());
+				out.writeObject(fingerprint);
+				for (Map<StringKey, List<Map<String, Object>>> cache : getCaches()) {
+					out.writeInt(cache.size());
+					for (Entry<StringKey, List<Map<String, Object>>> entry : cache.entrySet()) {
+						out.writeObject(entry.getKey().keys);
+						out.writeObject(new ArrayList<Map<String, Object>>(entry.getValue()));
+					}
+				}
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			modified = false;
+			log.debug("Metadata snapshot written to " + file);
+		} 
+		catch (IOException e) {
+			throw new RuntimeException("Problem while writing metadata snapshot " + file, e);
+		}
+	}
+	
+	/**
+	 * Fill this cache from a snapshot written by {@link #saveSnapshot(File, String)}. Nothing is
+	 * loaded if the snapshot cannot be read, was written with another <code>fingerprint</code> or
+	 * is older than <code>maxAgeMillis</code> (unless that is smaller than or equal to 0).
+	 * 
+	 * @return true if the cache was filled from the snapshot
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean loadSnapshot(File file, String fingerprint, long maxAgeMillis) {
+		List<Map<StringKey, List<Map<String, Object>>>> caches = getCaches();
+		List<Map<StringKey, List<Map<String, Object>>>> loaded = new ArrayList<Map<StringKey, List<Map<String, Object>>>>();
+		try (ObjectInputStream in = new ObjectInputStream(
+				new BufferedInputStream(new GZIPInputStream(new FileInputStream(file))))) {
+			in.setObjectInputFilter(SNAPSHOT_FILTER);
+			if (!SNAPSHOT_HEADER.equals(in.readUTF()) || in.readInt() != SNAPSHOT_VERSION) {
+				log.info("Ignoring metadata snapshot " + file + " as it was written by another version");
+				return false;
+			}
+			long created = in.readLong();
+			if (maxAgeMillis > 0 && System.currentTimeMillis() - created > maxAgeMillis) {
+				log.info("Ignoring metadata snapshot " + file + " as it is expired");
+				return false;
+			}
+			if (!Objects.equals(fingerprint, in.readObject())) {
+				log.info("Ignoring metadata snapshot " + file + " as the schema fingerprint changed");
+				return false;
+			}
+			for (int i = 0; i < caches.size(); i++) {
+				Map<StringKey, List<Map<String, Object>>> cache = new HashMap<StringKey, List<Map<String, Object>>>();
+				int size = in.readInt();
+				for (int j = 0; j < size; j++) {
+					String[] keys = (String[]) in.readObject();
+					cache.put(new StringKey(keys), (List<Map<String, Object>>) in.readObject());
+				}
+				loaded.add(cache);
+			}
+		} 
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			log.warn("Ignoring metadata snapshot " + file + " as it cannot be read", e);
+			return false;
+		}
+		for (int i = 0; i < caches.size(); i++) {
+			caches.get(i).putAll(loaded.get(i));
+		}
+		log.debug("Metadata read from snapshot " + file);
+		return true;
+	}
+	
+	private List<Map<StringKey, List<Map<String, Object>>>> getCaches() {
+		// the order of the caches is part of the snapshot format
+		return List.of(
+				cachedTables, 
+				cachedColumns, 
+				cachedExportedKeys, 
+				cachedPrimaryKeys, 
+				cachedIndexInfo, 
+				cachedPrimaryKeyStrategyName);
+	}
 
 	public void configure(
 			ConnectionProvider connectionProvider) {
@@ -132,6 +268,10 @@ public class CachedMetaDataDialect implements RevengDialect {
 		return delegate.needQuote( name );
 	}
 	
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return delegate.supportsSchemaWideQuery( kind );
+	}
+	
 	private static class StringKey {
 		String[] keys;
 		
@@ -213,6 +353,7 @@ public class CachedMetaDataDialect implements RevengDialect {
 
 		public void store() {
 			destination.put( target, cache );
+			owner.modified = true;
 			if(realIterator.hasNext()) throw new IllegalStateException("CachedMetaDataDialect have not been fully initialized!");
 			cache = null;
 			target = null;
@@ -110,6 +110,13 @@ public class H2MetaDataDialect extends JDBCMetaDataDialect {
 		}
 	}
 	
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		if (kind == MetaDataKind.SUGGESTED_PRIMARY_KEY_STRATEGY_NAME) {
+			return suggested_primary_key_strategy_query != null;
+		}
+		return super.supportsSchemaWideQuery(kind);
+	}
+	
 	public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
 			try {			
 				catalog = caseForSearch( catalog );
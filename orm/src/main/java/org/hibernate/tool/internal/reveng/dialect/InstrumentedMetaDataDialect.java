@@ -0,0 +1,137 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengPhase;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation.QueryMeasurement;
+
+/**
+ * Metadata dialect that measures the queries of its delegate, from the call until
+ * the last row was read or the iterator was closed.
+ */
+public class InstrumentedMetaDataDialect implements RevengDialect {
+
+	private final RevengDialect delegate;
+	private final RevengInstrumentation instrumentation;
+
+	public InstrumentedMetaDataDialect(RevengDialect delegate, RevengInstrumentation instrumentation) {
+		this.delegate = delegate;
+		this.instrumentation = instrumentation;
+	}
+
+	public void configure(ConnectionProvider connectionProvider) {
+		delegate.configure(connectionProvider);
+	}
+
+	public void close() {
+		delegate.close();
+	}
+
+	public void close(Iterator<?> iterator) {
+		if (iterator instanceof MeasuredIterator) {
+			MeasuredIterator measuredIterator = (MeasuredIterator)iterator;
+			measuredIterator.end();
+			delegate.close(measuredIterator.delegate);
+		} else {
+			delegate.close(iterator);
+		}
+	}
+
+	public Iterator<Map<String, Object>> getTables(String catalog, String schema, String table) {
+		QueryMeasurement measurement = instrumentation.startQuery(RevengPhase.TABLES, catalog, schema, table);
+		return new MeasuredIterator(delegate.getTables(catalog, schema, table), measurement);
+	}
+
+	public Iterator<Map<String, Object>> getColumns(String catalog, String schema, String table, String column) {
+		QueryMeasurement measurement = instrumentation.startQuery(RevengPhase.COLUMNS, catalog, schema, table);
+		return new MeasuredIterator(delegate.getColumns(catalog, schema, table, column), measurement);
+	}
+
+	public Iterator<Map<String, Object>> getPrimaryKeys(String catalog, String schema, String table) {
+		QueryMeasurement measurement = instrumentation.startQuery(RevengPhase.PRIMARY_KEYS, catalog, schema, table);
+		return new MeasuredIterator(delegate.getPrimaryKeys(catalog, schema, table), measurement);
+	}
+
+	public Iterator<Map<String, Object>> getIndexInfo(String catalog, String schema, String table) {
+		QueryMeasurement measurement = instrumentation.startQuery(RevengPhase.INDEXES, catalog, schema, table);
+		return new MeasuredIterator(delegate.getIndexInfo(catalog, schema, table), measurement);
+	}
+
+	public Iterator<Map<String, Object>> getExportedKeys(String catalog, String schema, String table) {
+		QueryMeasurement measurement = instrumentation.startQuery(RevengPhase.EXPORTED_KEYS, catalog, schema, table);
+		return new MeasuredIterator(delegate.getExportedKeys(catalog, schema, table), measurement);
+	}
+
+	public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
+		QueryMeasurement measurement = instrumentation.startQuery(RevengPhase.PRIMARY_KEYS, catalog, schema, table);
+		return new MeasuredIterator(delegate.getSuggestedPrimaryKeyStrategyName(catalog, schema, table), measurement);
+	}
+
+	public boolean needQuote(String name) {
+		return delegate.needQuote(name);
+	}
+
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return delegate.supportsSchemaWideQuery(kind);
+	}
+
+	private static class MeasuredIterator implements Iterator<Map<String, Object>> {
+
+		final Iterator<Map<String, Object>> delegate;
+		private QueryMeasurement measurement;
+		private int rowCount = 0;
+
+		MeasuredIterator(Iterator<Map<String, Object>> delegate, QueryMeasurement measurement) {
+			this.delegate = delegate;
+			this.measurement = measurement;
+		}
+
+		public boolean hasNext() {
+			boolean result = delegate.hasNext();
+			if (!result) {
+				end();
+			}
+			return result;
+		}
+
+		public Map<String, Object> next() {
+			Map<String, Object> result = delegate.next();
+			rowCount++;
+			return result;
+		}
+
+		public void remove() {
+			delegate.remove();
+		}
+
+		void end() {
+			if (measurement != null) {
+				measurement.end(rowCount);
+				measurement = null;
+			}
+		}
+
+	}
+
+}
@@ -220,5 +220,13 @@ public class JDBCMetaDataDialect extends AbstractMetaDataDialect {
 		element.put( "KEY_SEQ", Short.valueOf(rs.getShort("KEY_SEQ")));
 	}
 	
+	/**
+	 * A null table name pattern is not used to narrow the search for columns, the 
+	 * other metadata methods require the name of the table.
+	 */
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return kind == MetaDataKind.COLUMNS;
+	}
+	
 	
 }
@@ -73,6 +73,11 @@ public class MySQLMetaDataDialect extends JDBCMetaDataDialect {
 			} 		
 		}
 	
+	@Override
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return kind == MetaDataKind.SUGGESTED_PRIMARY_KEY_STRATEGY_NAME || super.supportsSchemaWideQuery(kind);
+	}
+	
 	@Override
 	public Iterator<Map<String,Object>> getTables(
 			String xcatalog, 
@@ -491,6 +491,13 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
 		}
 	}	
 	
+	/**
+	 * All the data dictionary queries have a variant without table name.
+	 */
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return kind != MetaDataKind.SUGGESTED_PRIMARY_KEY_STRATEGY_NAME;
+	}
+	
 	public void close() {
 		try {
 			prepTableNone = close( prepTableNone );
@@ -540,7 +547,7 @@ public class OracleMetaDataDialect extends AbstractMetaDataDialect {
 	}
 	
 	private String escape(String str) {
-		return str.replace("_", "\\_");
+		return str == null ? null : str.replace("_", "\\_");
 	}
 
 	private ResultSet getPrimaryKeysResultSet(final String schem, final String tab) throws SQLException {
@@ -0,0 +1,238 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.dialect;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.jboss.logging.Logger;
+
+/**
+ * Metadata dialect that reads the metadata of a complete catalog and schema with one
+ * query per kind of metadata as soon as the tables of that schema are requested, and
+ * then serves the per table requests from memory. Kinds of metadata that the delegate
+ * cannot read for a complete schema (see {@link RevengDialect#supportsSchemaWideQuery(MetaDataKind)})
+ * are still read table by table.
+ */
+public class PrefetchMetaDataDialect implements RevengDialect {
+
+	private static final Logger log = Logger.getLogger(PrefetchMetaDataDialect.class);
+
+	RevengDialect delegate;
+	private List<PrefetchedSchema> prefetchedSchemas = new ArrayList<PrefetchedSchema>();
+	private Set<List<String>> prefetchedScopes = new HashSet<List<String>>();
+
+	public PrefetchMetaDataDialect(RevengDialect delegate) {
+		this.delegate = delegate;
+	}
+
+	public void configure(ConnectionProvider connectionProvider) {
+		delegate.configure(connectionProvider);
+	}
+
+	public void close() {
+		prefetchedSchemas.clear();
+		prefetchedScopes.clear();
+		delegate.close();
+	}
+
+	public void close(Iterator<?> iterator) {
+		delegate.close(iterator);
+	}
+
+	public Iterator<Map<String, Object>> getTables(String catalog, String schema, String table) {
+		if (table == null || "%".equals(table)) {
+			prefetch(catalog, schema);
+		}
+		return delegate.getTables(catalog, schema, table);
+	}
+
+	public Iterator<Map<String, Object>> getColumns(String catalog, String schema, String table, String column) {
+		if (column == null) {
+			List<Map<String, Object>> rows = getPrefetchedRows(MetaDataKind.COLUMNS, catalog, schema, table);
+			if (rows != null) {
+				return rows.iterator();
+			}
+		}
+		return delegate.getColumns(catalog, schema, table, column);
+	}
+
+	public Iterator<Map<String, Object>> getPrimaryKeys(String catalog, String schema, String table) {
+		List<Map<String, Object>> rows = getPrefetchedRows(MetaDataKind.PRIMARY_KEYS, catalog, schema, table);
+		return rows != null ? rows.iterator() : delegate.getPrimaryKeys(catalog, schema, table);
+	}
+
+	public Iterator<Map<String, Object>> getIndexInfo(String catalog, String schema, String table) {
+		List<Map<String, Object>> rows = getPrefetchedRows(MetaDataKind.INDEX_INFO, catalog, schema, table);
+		return rows != null ? rows.iterator() : delegate.getIndexInfo(catalog, schema, table);
+	}
+
+	public Iterator<Map<String, Object>> getExportedKeys(String catalog, String schema, String table) {
+		List<Map<String, Object>> rows = getPrefetchedRows(MetaDataKind.EXPORTED_KEYS, catalog, schema, table);
+		return rows != null ? rows.iterator() : delegate.getExportedKeys(catalog, schema, table);
+	}
+
+	public Iterator<Map<String, Object>> getSuggestedPrimaryKeyStrategyName(String catalog, String schema, String table) {
+		List<Map<String, Object>> rows = getPrefetchedRows(MetaDataKind.SUGGESTED_PRIMARY_KEY_STRATEGY_NAME, catalog, schema, table);
+		return rows != null ? rows.iterator() : delegate.getSuggestedPrimaryKeyStrategyName(catalog, schema, table);
+	}
+
+	public boolean needQuote(String name) {
+		return delegate.needQuote(name);
+	}
+
+	public boolean supportsSchemaWideQuery(MetaDataKind kind) {
+		return delegate.supportsSchemaWideQuery(kind);
+	}
+
+	/**
+	 * Read all the metadata the delegate can read schema wide for the given catalog and schema.
+	 * Nothing is prefetched if the columns cannot be read schema wide, as the columns are used
+	 * to decide which tables are covered by the prefetched metadata.
+	 */
+	public void prefetch(String catalog, String schema) {
+		if (!delegate.supportsSchemaWideQuery(MetaDataKind.COLUMNS)) {
+			return;
+		}
+		List<String> scope = new ArrayList<String>();
+		scope.add(catalog);
+		scope.add(schema);
+		if (!prefetchedScopes.add(scope)) {
+			return;
+		}
+		PrefetchedSchema prefetchedSchema = new PrefetchedSchema();
+		for (MetaDataKind kind : MetaDataKind.values()) {
+			if (delegate.supportsSchemaWideQuery(kind)) {
+				try {
+					prefetchedSchema.rows.put(kind, read(kind, catalog, schema));
+				} catch (RuntimeException e) {
+					if (kind == MetaDataKind.COLUMNS) {
+						log.warn("Could not prefetch the columns of " + catalog + "." + schema + ", reading them per table", e);
+						return;
+					}
+					log.debug("Could not prefetch " + kind + " of " + catalog + "." + schema + ", reading them per table", e);
+				}
+			}
+		}
+		prefetchedSchemas.add(prefetchedSchema);
+	}
+
+	private Map<String, List<Map<String, Object>>> read(MetaDataKind kind, String catalog, String schema) {
+		log.debug("Prefetching " + kind + " for " + catalog + "." + schema);
+		Map<String, List<Map<String, Object>>> result = new HashMap<String, List<Map<String, Object>>>();
+		Iterator<Map<String, Object>> iterator = null;
+		try {
+			iterator = open(kind, catalog, schema);
+			while (iterator.hasNext()) {
+				// need to copy since the delegate might reuse the row
+				Map<String, Object> row = new HashMap<String, Object>(iterator.next());
+				String table = (String)row.get(kind == MetaDataKind.EXPORTED_KEYS ? "PKTABLE_NAME" : "TABLE_NAME");
+				List<Map<String, Object>> rows = result.get(table);
+				if (rows == null) {
+					rows = new ArrayList<Map<String, Object>>();
+					result.put(table, rows);
+				}
+				rows.add(row);
+			}
+		} finally {
+			if (iterator != null) {
+				delegate.close(iterator);
+			}
+		}
+		return result;
+	}
+
+	private Iterator<Map<String, Object>> open(MetaDataKind kind, String catalog, String schema) {
+		switch (kind) {
+		case COLUMNS:
+			return delegate.getColumns(catalog, schema, null, null);
+		case PRIMARY_KEYS:
+			return delegate.getPrimaryKeys(catalog, schema, null);
+		case INDEX_INFO:
+			return delegate.getIndexInfo(catalog, schema, null);
+		case EXPORTED_KEYS:
+			return delegate.getExportedKeys(catalog, schema, null);
+		default:
+			return delegate.getSuggestedPrimaryKeyStrategyName(catalog, schema, null);
+		}
+	}
+
+	/**
+	 * Returns the prefetched rows for the table, or null if the table is not covered
+	 * by a prefetched schema or if the given kind of metadata was not prefetched.
+	 */
+	private List<Map<String, Object>> getPrefetchedRows(MetaDataKind kind, String catalog, String schema, String table) {
+		if (table == null) {
+			return null;
+		}
+		String name = unquote(table);
+		for (PrefetchedSchema prefetchedSchema : prefetchedSchemas) {
+			List<Map<String, Object>> columns = prefetchedSchema.getRows(MetaDataKind.COLUMNS, catalog, schema, name);
+			if (!columns.isEmpty()) {
+				return kind == MetaDataKind.COLUMNS ? columns : prefetchedSchema.getRows(kind, catalog, schema, name);
+			}
+		}
+		return null;
+	}
+
+	private static String unquote(String name) {
+		if (name != null && name.length() > 1 && name.charAt(0) == '`' && name.charAt(name.length() - 1) == '`') {
+			return name.substring(1, name.length() - 1);
+		}
+		return name;
+	}
+
+	private static boolean matches(Object rowValue, String requested) {
+		// as with the JDBC metadata a null value does not narrow the search
+		return rowValue == null || requested == null || rowValue.equals(unquote(requested));
+	}
+
+	private static class PrefetchedSchema {
+
+		final Map<MetaDataKind, Map<String, List<Map<String, Object>>>> rows =
+				new EnumMap<MetaDataKind, Map<String, List<Map<String, Object>>>>(MetaDataKind.class);
+
+		List<Map<String, Object>> getRows(MetaDataKind kind, String catalog, String schema, String table) {
+			Map<String, List<Map<String, Object>>> rowsPerTable = rows.get(kind);
+			if (rowsPerTable == null) {
+				return null;
+			}
+			List<Map<String, Object>> result = new ArrayList<Map<String, Object>>();
+			List<Map<String, Object>> candidates = rowsPerTable.get(table);
+			if (candidates != null) {
+				String prefix = kind == MetaDataKind.EXPORTED_KEYS ? "PKTABLE_" : "TABLE_";
+				for (Map<String, Object> row : candidates) {
+					if (matches(row.get(prefix + "CAT"), catalog) && matches(row.get(prefix + "SCHEM"), schema)) {
+						result.add(row);
+					}
+				}
+			}
+			return result;
+		}
+
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.hibernate.tool.reveng.MetaDataQuery")
+@Label("Metadata Query")
+@Description("A query of the database metadata, from the call until its rows have been read")
+@Category({ "Hibernate Tools", "Reverse Engineering" })
+class MetaDataQueryEvent extends jdk.jfr.Event {
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Catalog")
+	String catalog;
+
+	@Label("Schema")
+	String schema;
+
+	@Label("Table")
+	String table;
+
+	@Label("Rows")
+	int rows;
+
+}
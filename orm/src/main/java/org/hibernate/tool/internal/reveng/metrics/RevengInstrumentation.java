@@ -0,0 +1,249 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.api.reveng.RevengPhase;
+import org.hibernate.tool.internal.reveng.dialect.InstrumentedMetaDataDialect;
+import org.hibernate.tool.util.ReflectionUtil;
+
+/**
+ * Measures the phases of reverse engineering and the metadata queries, reporting them
+ * to the {@link RevengListener} if there is one and as JDK Flight Recorder events. 
+ * The progress is reported to the listener as well, and it is asked whether to cancel.
+ */
+public final class RevengInstrumentation {
+
+	/**
+	 * Create the instrumentation for the listener set in the properties with 
+	 * {@link MetadataConstants#REVENG_LISTENER}, either as instance or as class name.
+	 */
+	public static RevengInstrumentation create(Properties properties) {
+		return create(createListener(properties));
+	}
+
+	public static RevengInstrumentation create(RevengListener listener) {
+		return new RevengInstrumentation(listener);
+	}
+
+	/**
+	 * Returns the listener set in the properties with {@link MetadataConstants#REVENG_LISTENER}, 
+	 * creating it if it is set as class name, or null if there is none.
+	 */
+	public static RevengListener createListener(Properties properties) {
+		Object listener = properties == null ? null : properties.get(MetadataConstants.REVENG_LISTENER);
+		if (listener == null || listener instanceof RevengListener) {
+			return (RevengListener)listener;
+		}
+		try {
+			return (RevengListener)ReflectionUtil.classForName(listener.toString())
+					.getConstructor()
+					.newInstance();
+		} catch (ClassNotFoundException | ClassCastException | NoSuchMethodException | 
+				InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new RuntimeException("A reverse engineering listener of class '" + listener + "' could not be created", e);
+		}
+	}
+
+	/**
+	 * Returns a listener notifying both listeners, cancelling as soon as one of them does.
+	 */
+	public static RevengListener chain(RevengListener first, RevengListener second) {
+		if (first == null) {
+			return second;
+		}
+		if (second == null) {
+			return first;
+		}
+		return new RevengListener() {
+			public void phaseCompleted(RevengPhase phase, long durationNanos) {
+				first.phaseCompleted(phase, durationNanos);
+				second.phaseCompleted(phase, durationNanos);
+			}
+			public void metaDataQueryCompleted(RevengPhase phase, String catalog, String schema, String table, int rowCount, long durationNanos) {
+				first.metaDataQueryCompleted(phase, catalog, schema, table, rowCount, durationNanos);
+				second.metaDataQueryCompleted(phase, catalog, schema, table, rowCount, durationNanos);
+			}
+			public void tableRead(String catalog, String schema, String table, int tablesRead) {
+				first.tableRead(catalog, schema, table, tablesRead);
+				second.tableRead(catalog, schema, table, tablesRead);
+			}
+			public void entityBound(String entityName, int entitiesBound, int entityCount) {
+				first.entityBound(entityName, entitiesBound, entityCount);
+				second.entityBound(entityName, entitiesBound, entityCount);
+			}
+			public boolean isCancelled() {
+				return first.isCancelled() || second.isCancelled();
+			}
+		};
+	}
+
+	private final RevengListener listener;
+	private final Map<RevengPhase, LongAdder> accumulated = new EnumMap<RevengPhase, LongAdder>(RevengPhase.class);
+	private final AtomicInteger tablesRead = new AtomicInteger();
+
+	private RevengInstrumentation(RevengListener listener) {
+		this.listener = listener;
+		for (RevengPhase phase : RevengPhase.values()) {
+			accumulated.put(phase, new LongAdder());
+		}
+	}
+
+	/**
+	 * Start measuring a phase, reported to the listener when the returned measurement ends.
+	 */
+	public Measurement startPhase(RevengPhase phase) {
+		return new Measurement(phase, null, false);
+	}
+
+	/**
+	 * Start measuring the part of a phase that concerns one table. The durations of the 
+	 * steps are added up and reported by {@link #reportSteps()}.
+	 */
+	public Measurement startStep(RevengPhase phase, String table) {
+		return new Measurement(phase, table, true);
+	}
+
+	/**
+	 * Report the phases made of steps that were measured since the previous call.
+	 */
+	public void reportSteps() {
+		for (RevengPhase phase : RevengPhase.values()) {
+			long duration = accumulated.get(phase).sumThenReset();
+			if (duration > 0 && listener != null) {
+				listener.phaseCompleted(phase, duration);
+			}
+		}
+	}
+
+	/**
+	 * Start measuring a metadata query, ending when all its rows have been read.
+	 */
+	public QueryMeasurement startQuery(RevengPhase phase, String catalog, String schema, String table) {
+		return new QueryMeasurement(phase, catalog, schema, table);
+	}
+
+	/**
+	 * Report that the metadata of the table has been read.
+	 */
+	public void tableRead(Table table) {
+		int count = tablesRead.incrementAndGet();
+		if (listener != null) {
+			listener.tableRead(table.getCatalog(), table.getSchema(), table.getName(), count);
+		}
+	}
+
+	/**
+	 * Report that a persistent class has been bound.
+	 */
+	public void entityBound(String entityName, int entitiesBound, int entityCount) {
+		if (listener != null) {
+			listener.entityBound(entityName, entitiesBound, entityCount);
+		}
+	}
+
+	/**
+	 * Throws a {@link CancellationException} if the listener asks to cancel.
+	 */
+	public void checkCancelled() {
+		if (listener != null && listener.isCancelled()) {
+			throw new CancellationException("Reverse engineering was cancelled");
+		}
+	}
+
+	/**
+	 * Decorate the dialect so its queries are measured.
+	 */
+	public RevengDialect instrument(RevengDialect dialect) {
+		return new InstrumentedMetaDataDialect(dialect, this);
+	}
+
+	public class Measurement {
+
+		private final RevengPhase phase;
+		private final boolean step;
+		private final long start = System.nanoTime();
+		private final PhaseEvent event = new PhaseEvent();
+
+		private Measurement(RevengPhase phase, String table, boolean step) {
+			this.phase = phase;
+			this.step = step;
+			event.phase = phase.name();
+			event.table = table;
+			event.begin();
+		}
+
+		public void end() {
+			long duration = System.nanoTime() - start;
+			event.commit();
+			if (step) {
+				accumulated.get(phase).add(duration);
+			} else if (listener != null) {
+				listener.phaseCompleted(phase, duration);
+			}
+		}
+
+	}
+
+	public class QueryMeasurement {
+
+		private final RevengPhase phase;
+		private final String catalog;
+		private final String schema;
+		private final String table;
+		private final long start = System.nanoTime();
+		private final MetaDataQueryEvent event = new MetaDataQueryEvent();
+
+		private QueryMeasurement(RevengPhase phase, String catalog, String schema, String table) {
+			this.phase = phase;
+			this.catalog = catalog;
+			this.schema = schema;
+			this.table = table;
+			event.begin();
+		}
+
+		public void end(int rowCount) {
+			long duration = System.nanoTime() - start;
+			event.end();
+			if (event.shouldCommit()) {
+				event.kind = phase.name();
+				event.catalog = catalog;
+				event.schema = schema;
+				event.table = table;
+				event.rows = rowCount;
+				event.commit();
+			}
+			if (listener != null) {
+				listener.metaDataQueryCompleted(phase, catalog, schema, table, rowCount, duration);
+			}
+		}
+
+	}
+
+}
@@ -24,16 +24,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.function.Function;
 
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.ForeignKey;
 import org.hibernate.mapping.Table;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.tool.api.metadata.MetadataConstants;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengPhase;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation.Measurement;
 
 public class DatabaseReader {
 
@@ -42,24 +48,41 @@ public class DatabaseReader {
 			RevengStrategy revengStrategy,
 			RevengDialect mdd, 
 			ServiceRegistry serviceRegistry) {
+		return create(properties, revengStrategy, mdd, serviceRegistry, RevengInstrumentation.create(properties));
+	}
+
+	public static DatabaseReader create(
+			Properties properties, 
+			RevengStrategy revengStrategy,
+			RevengDialect mdd, 
+			ServiceRegistry serviceRegistry,
+			RevengInstrumentation instrumentation) {
 		ConnectionProvider connectionProvider = serviceRegistry.getService(ConnectionProvider.class);
-		return new DatabaseReader(properties, mdd, connectionProvider, revengStrategy);
+		return new DatabaseReader(properties, mdd, connectionProvider, revengStrategy, instrumentation);
 	}
 
 	private final RevengStrategy revengStrategy;
 
-	private RevengDialect metadataDialect;
+	private final RevengDialect metadataDialect;
+
+	/** the dialect reporting its queries to the instrumentation */
+	private final RevengDialect instrumentedDialect;
 
 	private final ConnectionProvider provider;
 
 	private final Properties properties;
 
+	private final RevengInstrumentation instrumentation;
+
 	private DatabaseReader(
 			Properties properties, 
 			RevengDialect dialect, 
 			ConnectionProvider provider, 
-			RevengStrategy reveng) {
+			RevengStrategy reveng,
+			RevengInstrumentation instrumentation) {
 		this.metadataDialect = dialect;
+		this.instrumentedDialect = instrumentation.instrument(dialect);
+		this.instrumentation = instrumentation;
 		this.provider = provider;
 		this.revengStrategy = reveng;
 		this.properties = properties;
@@ -69,20 +92,31 @@ public class DatabaseReader {
 	}
 	
 	public void readDatabaseSchema(RevengMetadataCollector revengMetadataCollector) {
+		MetaDataWorkerPool workerPool = null;
 		try {
 			metadataDialect.configure(provider);
+			workerPool = MetaDataWorkerPool.create(metadataDialect, provider, getMetadataReaderThreads(), instrumentation);
+			// the worker pool decides on the undecorated dialect whether it can be used per worker
 			TableCollector tableCollector = TableCollector.create(
-					metadataDialect, 
+					instrumentedDialect, 
 					revengStrategy, 
 					revengMetadataCollector, 
-					properties);
+					properties, 
+					workerPool,
+					instrumentation);
 			for (Iterator<SchemaSelection> iter = getSchemaSelections().iterator(); iter.hasNext();) {
 				tableCollector.processTables(iter.next());
 			}
-			revengMetadataCollector.setOneToManyCandidates(resolveForeignKeys(revengMetadataCollector));
+			instrumentation.reportSteps();
+			Measurement measurement = instrumentation.startPhase(RevengPhase.EXPORTED_KEYS);
+			revengMetadataCollector.setOneToManyCandidates(resolveForeignKeys(revengMetadataCollector, workerPool));
+			measurement.end();
 
 		} finally {
-			metadataDialect.close();
+			if (workerPool != null) {
+				workerPool.close();
+			}
+			instrumentedDialect.close();
 			revengStrategy.close();
 		}
 	}
@@ -96,23 +130,40 @@ public class DatabaseReader {
 	 * @param tables
 	 * @return
 	 */
-	private Map<String, List<ForeignKey>> resolveForeignKeys(RevengMetadataCollector revengMetadataCollector) {
+	private Map<String, List<ForeignKey>> resolveForeignKeys(
+			RevengMetadataCollector revengMetadataCollector, 
+			MetaDataWorkerPool workerPool) {
 		List<ForeignKeysInfo> fks = new ArrayList<ForeignKeysInfo>();
-		ForeignKeyProcessor foreignKeyProcessor = ForeignKeyProcessor.create(
-				metadataDialect, 
-				revengStrategy, 
-				getDefaultCatalog(), 
-				getDefaultSchema(), 
-				revengMetadataCollector);
-		for (Table table : revengMetadataCollector.getTables()) {
-			// Done here after the basic process of collections as we might not have touched
-			// all referenced tables (this ensure the columns are the same instances
-			// througout the basic JDBC derived model.
-			// after this stage it should be "ok" to divert from keeping columns in sync as
-			// it can be required if the same
-			// column is used with different aliases in the ORM mapping.
-			ForeignKeysInfo foreignKeys = foreignKeyProcessor.processForeignKeys(table);
-			fks.add(foreignKeys);
+		if (workerPool == null) {
+			ForeignKeyProcessor foreignKeyProcessor = ForeignKeyProcessor.create(
+					instrumentedDialect, 
+					revengStrategy, 
+					getDefaultCatalog(), 
+					getDefaultSchema(), 
+					revengMetadataCollector);
+			for (Table table : revengMetadataCollector.getTables()) {
+				// Done here after the basic process of collections as we might not have touched
+				// all referenced tables (this ensure the columns are the same instances
+				// througout the basic JDBC derived model.
+				// after this stage it should be "ok" to divert from keeping columns in sync as
+				// it can be required if the same
+				// column is used with different aliases in the ORM mapping.
+				ForeignKeysInfo foreignKeys = foreignKeyProcessor.processForeignKeys(table);
+				fks.add(foreignKeys);
+			}
+		} else {
+			// reading the exported keys does not alter the model, the foreign keys 
+			// themselves are still created serially below in the same table order
+			List<Function<RevengDialect, ForeignKeysInfo>> tasks = new ArrayList<Function<RevengDialect, ForeignKeysInfo>>();
+			for (Table table : revengMetadataCollector.getTables()) {
+				tasks.add(dialect -> ForeignKeyProcessor.create(
+						dialect, 
+						revengStrategy, 
+						getDefaultCatalog(), 
+						getDefaultSchema(), 
+						revengMetadataCollector).processForeignKeys(table));
+			}
+			fks.addAll(workerPool.invokeAll(tasks));
 		}
 
 		Map<String, List<ForeignKey>> oneToManyCandidates = new HashMap<String, List<ForeignKey>>();
@@ -163,6 +214,10 @@ public class DatabaseReader {
 		return result;
 	}
 	
+	private int getMetadataReaderThreads() {
+		return ConfigurationHelper.getInt(MetadataConstants.METADATA_READER_THREADS, properties, 1);
+	}
+	
 	private String getDefaultSchema() {
 		return properties.getProperty(AvailableSettings.DEFAULT_SCHEMA);
 	}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.internal.reveng.dialect.AbstractMetaDataDialect;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
+import org.hibernate.tool.internal.util.ConcurrentTasks;
+import org.jboss.logging.Logger;
+
+/**
+ * A fixed set of worker threads, each owning its own {@link RevengDialect} (and
+ * thus its own connection), used to read the per table metadata concurrently.
+ * Results are always handed back in the order the tasks were submitted so the
+ * resulting model does not depend on the scheduling of the workers.
+ */
+class MetaDataWorkerPool {
+
+	private static final Logger log = Logger.getLogger(MetaDataWorkerPool.class);
+
+	/**
+	 * Create a pool of <code>size</code> workers using fresh instances of the
+	 * class of <code>template</code>, instrumented with <code>instrumentation</code>. Returns null when the serial path should be
+	 * used, i.e. when <code>size</code> is smaller than 2 or when the dialect cannot
+	 * be instantiated per worker (decorating or custom dialects).
+	 */
+	static MetaDataWorkerPool create(
+			RevengDialect template,
+			ConnectionProvider connectionProvider,
+			int size,
+			RevengInstrumentation instrumentation) {
+		if (size < 2) {
+			return null;
+		}
+		if (!(template instanceof AbstractMetaDataDialect)) {
+			log.debug("Reading metadata serially as " + template.getClass().getName() + " cannot be used by multiple workers");
+			return null;
+		}
+		List<RevengDialect> created = new ArrayList<RevengDialect>(size);
+		List<RevengDialect> dialects = new ArrayList<RevengDialect>(size);
+		MetaDataWorkerPool result = null;
+		try {
+			for (int i = 0; i < size; i++) {
+				RevengDialect dialect = template.getClass().getConstructor().newInstance();
+				created.add(dialect);
+				dialect.configure(connectionProvider);
+				dialects.add(instrumentation.instrument(dialect));
+			}
+			log.debug("Reading metadata with " + size + " workers");
+			result = new MetaDataWorkerPool(dialects);
+			return result;
+		} catch (ReflectiveOperationException e) {
+			log.debug("Reading metadata serially as " + template.getClass().getName() + " cannot be instantiated", e);
+			return null;
+		} finally {
+			if (result == null) {
+				// release the connections of the workers created before the failure
+				closeAll(created);
+			}
+		}
+	}
+
+	private final BlockingQueue<RevengDialect> dialects;
+	private final List<RevengDialect> allDialects;
+	private final ExecutorService executor;
+
+	private MetaDataWorkerPool(List<RevengDialect> dialects) {
+		this.allDialects = dialects;
+		this.dialects = new ArrayBlockingQueue<RevengDialect>(dialects.size(), false, dialects);
+		this.executor = ConcurrentTasks.newExecutor("hibernate-tools-metadata-reader", dialects.size());
+	}
+
+	/**
+	 * Run all the tasks, each with a dialect that is not used by any other task at
+	 * the same time, and wait for them to complete. The results are returned in the
+	 * order of <code>tasks</code>. The first failure (in that same order) is rethrown.
+	 */
+	<T> List<T> invokeAll(List<Function<RevengDialect, T>> tasks) {
+		List<Callable<T>> callables = new ArrayList<Callable<T>>(tasks.size());
+		for (Function<RevengDialect, T> task : tasks) {
+			callables.add(() -> {
+				RevengDialect dialect = dialects.take();
+				try {
+					return task.apply(dialect);
+				} finally {
+					dialects.offer(dialect);
+				}
+			});
+		}
+		return ConcurrentTasks.runAll(executor, callables);
+	}
+
+	void close() {
+		executor.shutdownNow();
+		closeAll(allDialects);
+	}
+
+	private static void closeAll(List<RevengDialect> dialects) {
+		for (RevengDialect dialect : dialects) {
+			try {
+				dialect.close();
+			} catch (RuntimeException e) {
+				log.warn("Exception while closing metadata reader", e);
+			}
+		}
+	}
+
+}
@@ -17,19 +17,28 @@
  */
 package org.hibernate.tool.internal.reveng.reader;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.function.Function;
 
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.api.reveng.RevengPhase;
 import org.hibernate.tool.api.reveng.RevengStrategy;
 import org.hibernate.tool.api.reveng.RevengStrategy.SchemaSelection;
 import org.hibernate.tool.api.reveng.TableIdentifier;
 import org.hibernate.tool.internal.reveng.RevengMetadataCollector;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation;
+import org.hibernate.tool.internal.reveng.metrics.RevengInstrumentation.Measurement;
 import org.jboss.logging.Logger;
 
 public class TableCollector {
@@ -41,38 +50,64 @@ public class TableCollector {
 			RevengStrategy revengStrategy, 
 			RevengMetadataCollector revengMetadataCollector, 
 			Properties properties) {
+		return create(
+				metaDataDialect, 
+				revengStrategy, 
+				revengMetadataCollector, 
+				properties, 
+				null,
+				RevengInstrumentation.create((RevengListener)null));
+	}
+	
+	static TableCollector create(
+			RevengDialect metaDataDialect, 
+			RevengStrategy revengStrategy, 
+			RevengMetadataCollector revengMetadataCollector, 
+			Properties properties, 
+			MetaDataWorkerPool workerPool,
+			RevengInstrumentation instrumentation) {
 		return new TableCollector(
 				metaDataDialect, 
 				revengStrategy, 
 				revengMetadataCollector, 
-				properties);
+				properties, 
+				workerPool,
+				instrumentation);
 	}
 	
 	private RevengDialect metaDataDialect;
 	private RevengStrategy revengStrategy;
 	private RevengMetadataCollector revengMetadataCollector;
 	private Properties properties;
+	private MetaDataWorkerPool workerPool;
+	private RevengInstrumentation instrumentation;
 	
 	private TableCollector(
 			RevengDialect metaDataDialect, 
 			RevengStrategy revengStrategy, 
 			RevengMetadataCollector revengMetadataCollector, 
-			Properties properties) {
+			Properties properties, 
+			MetaDataWorkerPool workerPool,
+			RevengInstrumentation instrumentation) {
+		this.instrumentation = instrumentation;
 		this.metaDataDialect = metaDataDialect;
 		this.revengStrategy = revengStrategy;
 		this.revengMetadataCollector = revengMetadataCollector;
 		this.properties = properties;
+		this.workerPool = workerPool;
 	}
 
 	public Map<Table, Boolean> processTables(SchemaSelection schemaSelection) {
 		  Iterator<Map<String,Object>> tableIterator = null;
-		  HashMap<Table, Boolean> processedTables = new HashMap<Table, Boolean>();
+		  HashMap<Table, Boolean> processedTables = new LinkedHashMap<Table, Boolean>();
+		  Measurement measurement = instrumentation.startPhase(RevengPhase.TABLES);
 		  try {			  
 		     tableIterator = metaDataDialect.getTables(
 		    		 StringHelper.replace(schemaSelection.getMatchCatalog(),".*", "%"), 
 		    		 StringHelper.replace(schemaSelection.getMatchSchema(),".*", "%"), 
 		    		 StringHelper.replace(schemaSelection.getMatchTable(),".*", "%"));
 		     while (tableIterator.hasNext() ) {
+		    	instrumentation.checkCancelled();
 		    	processTable(tableIterator.next(), processedTables);
 		     }
 		  } 
@@ -81,6 +116,10 @@ public class TableCollector {
 				  metaDataDialect.close(tableIterator);
 			  }
 		  }
+		  if (workerPool != null) {
+			  processTableMetaData(processedTables);
+		  }
+		  measurement.end();
 		  return processedTables;
 	}
 	
@@ -111,26 +150,9 @@ public class TableCollector {
     		log.debug("Adding table " + tableIdentifier + " of type " + tableType);
     		Table table = revengMetadataCollector.addTable(tableIdentifier);
     		table.setComment(comment);
-			BasicColumnProcessor.processBasicColumns(
-					metaDataDialect, 
-					revengStrategy, 
-					properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
-					properties.getProperty(AvailableSettings.DEFAULT_CATALOG), 
-					table);
-			PrimaryKeyProcessor.processPrimaryKey(
-					metaDataDialect, 
-					revengStrategy, 
-					properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
-					properties.getProperty(AvailableSettings.DEFAULT_CATALOG), 
-					revengMetadataCollector, 
-					table);
-			if (tableType.equalsIgnoreCase("TABLE")) {
-				IndexProcessor.processIndices(
-						metaDataDialect, 
-						properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
-						properties.getProperty(AvailableSettings.DEFAULT_CATALOG), 
-						table);
-			}
+    		if (workerPool == null) {
+    			processTableMetaData(metaDataDialect, table, tableType.equalsIgnoreCase("TABLE"));
+    		}
     		processedTables.put(table, tableType.equalsIgnoreCase("TABLE"));
     	}
     	else {
@@ -138,6 +160,49 @@ public class TableCollector {
     	}
 	}
 	
+	// the tables are registered serially, only the reading of their metadata is handed to the workers
+	private void processTableMetaData(Map<Table, Boolean> tables) {
+		List<Function<RevengDialect, Void>> tasks = new ArrayList<Function<RevengDialect, Void>>(tables.size());
+		for (Entry<Table, Boolean> entry : tables.entrySet()) {
+			tasks.add(dialect -> {
+				processTableMetaData(dialect, entry.getKey(), entry.getValue());
+				return null;
+			});
+		}
+		workerPool.invokeAll(tasks);
+	}
+	
+	private void processTableMetaData(RevengDialect dialect, Table table, boolean isTable) {
+		instrumentation.checkCancelled();
+		Measurement measurement = instrumentation.startStep(RevengPhase.COLUMNS, table.getName());
+		BasicColumnProcessor.processBasicColumns(
+				dialect, 
+				revengStrategy, 
+				properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
+				properties.getProperty(AvailableSettings.DEFAULT_CATALOG), 
+				table);
+		measurement.end();
+		measurement = instrumentation.startStep(RevengPhase.PRIMARY_KEYS, table.getName());
+		PrimaryKeyProcessor.processPrimaryKey(
+				dialect, 
+				revengStrategy, 
+				properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
+				properties.getProperty(AvailableSettings.DEFAULT_CATALOG), 
+				revengMetadataCollector, 
+				table);
+		measurement.end();
+		if (isTable) {
+			measurement = instrumentation.startStep(RevengPhase.INDEXES, table.getName());
+			IndexProcessor.processIndices(
+					dialect, 
+					properties.getProperty(AvailableSettings.DEFAULT_SCHEMA),
+					properties.getProperty(AvailableSettings.DEFAULT_CATALOG), 
+					table);
+			measurement.end();
+		}
+		instrumentation.tableRead(table);
+	}
+	
 	private boolean isTypeToAdd(String tableType) {
 		return "TABLE".equalsIgnoreCase(tableType) || 
 				"VIEW".equalsIgnoreCase(tableType) || 
@@ -0,0 +1,150 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.reveng.RevengSettings;
+import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+
+/**
+ * Remembers the answers of the delegate to the naming and type mapping questions, which
+ * the binders ask repeatedly for the same table, column or foreign key. The answers are
+ * kept in a cache of bounded size, that is emptied when the settings change. Only
+ * strategies that always give the same answer to the same question can be cached.
+ */
+public class CachingStrategy extends DelegatingStrategy {
+
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+
+	private static final Object NULL = new Object();
+
+	/**
+	 * Wraps the strategy with a cache of the size set with 
+	 * {@link MetadataConstants#STRATEGY_CACHE_SIZE}, or returns it as is if that size is 0.
+	 */
+	public static RevengStrategy wrap(RevengStrategy strategy, Properties properties) {
+		int size = properties == null ? DEFAULT_CACHE_SIZE :
+				ConfigurationHelper.getInt(MetadataConstants.STRATEGY_CACHE_SIZE, properties, DEFAULT_CACHE_SIZE);
+		if (size < 1 || strategy == null || strategy instanceof CachingStrategy) {
+			return strategy;
+		}
+		return new CachingStrategy(strategy, size);
+	}
+
+	private final Map<List<Object>, Object> cache;
+
+	public CachingStrategy(RevengStrategy delegate, int size) {
+		super(delegate);
+		this.cache = new LinkedHashMap<List<Object>, Object>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, Object> eldest) {
+				return size() > size;
+			}
+		};
+	}
+
+	public void setSettings(RevengSettings settings) {
+		clear();
+		super.setSettings(settings);
+	}
+
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	public String tableToClassName(TableIdentifier tableIdentifier) {
+		return lookup(() -> super.tableToClassName(tableIdentifier), 
+				"tableToClassName", tableIdentifier);
+	}
+
+	public String tableToIdentifierPropertyName(TableIdentifier tableIdentifier) {
+		return lookup(() -> super.tableToIdentifierPropertyName(tableIdentifier), 
+				"tableToIdentifierPropertyName", tableIdentifier);
+	}
+
+	public String tableToCompositeIdName(TableIdentifier identifier) {
+		return lookup(() -> super.tableToCompositeIdName(identifier), 
+				"tableToCompositeIdName", identifier);
+	}
+
+	public String classNameToCompositeIdName(String className) {
+		return lookup(() -> super.classNameToCompositeIdName(className), 
+				"classNameToCompositeIdName", className);
+	}
+
+	public String columnToPropertyName(TableIdentifier table, String column) {
+		return lookup(() -> super.columnToPropertyName(table, column), 
+				"columnToPropertyName", table, column);
+	}
+
+	public String columnToHibernateTypeName(TableIdentifier table, String columnName, int sqlType, int length, int precision, int scale, boolean nullable, boolean generatedIdentifier) {
+		return lookup(() -> super.columnToHibernateTypeName(table, columnName, sqlType, length, precision, scale, nullable, generatedIdentifier), 
+				"columnToHibernateTypeName", table, columnName, sqlType, length, precision, scale, nullable, generatedIdentifier);
+	}
+
+	public String foreignKeyToEntityName(String keyname, TableIdentifier fromTable, List<?> fromColumnNames, TableIdentifier referencedTable, List<?> referencedColumnNames, boolean uniqueReference) {
+		return lookup(() -> super.foreignKeyToEntityName(keyname, fromTable, fromColumnNames, referencedTable, referencedColumnNames, uniqueReference), 
+				"foreignKeyToEntityName", keyname, fromTable, copy(fromColumnNames), referencedTable, copy(referencedColumnNames), uniqueReference);
+	}
+
+	public String foreignKeyToInverseEntityName(String keyname, TableIdentifier fromTable, List<?> fromColumnNames, TableIdentifier referencedTable, List<?> referencedColumnNames, boolean uniqueReference) {
+		return lookup(() -> super.foreignKeyToInverseEntityName(keyname, fromTable, fromColumnNames, referencedTable, referencedColumnNames, uniqueReference), 
+				"foreignKeyToInverseEntityName", keyname, fromTable, copy(fromColumnNames), referencedTable, copy(referencedColumnNames), uniqueReference);
+	}
+
+	public String foreignKeyToCollectionName(String keyname, TableIdentifier fromTable, List<?> fromColumns, TableIdentifier referencedTable, List<?> referencedColumns, boolean uniqueReference) {
+		return lookup(() -> super.foreignKeyToCollectionName(keyname, fromTable, fromColumns, referencedTable, referencedColumns, uniqueReference), 
+				"foreignKeyToCollectionName", keyname, fromTable, copy(fromColumns), referencedTable, copy(referencedColumns), uniqueReference);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T lookup(Supplier<T> delegateCall, Object... question) {
+		List<Object> key = Arrays.asList(question);
+		Object result;
+		synchronized (cache) {
+			result = cache.get(key);
+		}
+		if (result == null) {
+			// asked outside of the lock, as the delegate may be slow or ask itself
+			T answer = delegateCall.get();
+			synchronized (cache) {
+				cache.put(key, answer == null ? NULL : answer);
+			}
+			return answer;
+		}
+		return result == NULL ? null : (T)result;
+	}
+
+	// the columns are part of the key, so changes made to the list afterwards must not affect it
+	private static List<?> copy(List<?> list) {
+		return list == null ? null : new ArrayList<Object>(list);
+	}
+
+}
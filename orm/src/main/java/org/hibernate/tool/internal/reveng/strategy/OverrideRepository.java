@@ -28,8 +28,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -60,8 +62,12 @@ public class OverrideRepository  {
 
 	final private Map<TypeMappingKey, List<SQLTypeMapping>> typeMappings; // from sqltypes to list of SQLTypeMapping
 
+	final private Map<List<Object>, Optional<String>> preferredHibernateTypes = new ConcurrentHashMap<List<Object>, Optional<String>>();
+
 	final private List<TableFilter> tableFilters;
 
+	private volatile TableFilterIndex tableFilterIndex;
+
 	final private List<Table> tables;
 	final private Map<TableIdentifier, List<ForeignKey>> foreignKeys; // key: TableIdentifier element: List of foreignkeys that references the Table
 
@@ -210,6 +216,17 @@ public class OverrideRepository  {
 	}
 
 	private String getPreferredHibernateType(int sqlType, int length, int precision, int scale, boolean nullable) {
+		// the same few column types come back for most columns, so the scan is only done once for each
+		List<Object> key = List.of(sqlType, length, precision, scale, nullable);
+		Optional<String> result = preferredHibernateTypes.get(key);
+		if(result == null) {
+			result = Optional.ofNullable(scanTypeMappings(sqlType, length, precision, scale, nullable));
+			preferredHibernateTypes.put(key, result);
+		}
+		return result.orElse(null);
+	}
+
+	private String scanTypeMappings(int sqlType, int length, int precision, int scale, boolean nullable) {
 		List<SQLTypeMapping> l = typeMappings.get(new TypeMappingKey(sqlType,length) );
 
 		if(l == null) { // if no precise length match found, then try to find matching unknown length matches
@@ -240,6 +257,7 @@ public class OverrideRepository  {
 			typeMappings.put(key, list);
 		}
 		list.add(sqltype);
+		preferredHibernateTypes.clear();
 		return this;
 	}
 
@@ -268,7 +286,7 @@ public class OverrideRepository  {
 		}
 
 		public int hashCode() {
-			return (type + length) % 17;
+			return 31 * type + length;
 		}
 
 		public String toString() {
@@ -277,42 +295,47 @@ public class OverrideRepository  {
 	}
 
 	protected String getPackageName(TableIdentifier identifier) {
-		Iterator<TableFilter> iterator = tableFilters.iterator();
-		while(iterator.hasNext() ) {
-			TableFilter tf = iterator.next();
-			String value = tf.getPackage(identifier);
-			if(value!=null) {
-				return value;
-			}
-		}
-		return null;
+		return getTableFilterIndex().findFirst(identifier, tf -> tf.getPackage(identifier));
 	}
 
 	protected boolean excludeTable(TableIdentifier identifier) {
-		Iterator<TableFilter> iterator = tableFilters.iterator();
-		boolean hasInclude = false;
-
-		while(iterator.hasNext() ) {
-			TableFilter tf = iterator.next();
-			Boolean value = tf.exclude(identifier);
-			if(value!=null) {
-				return value.booleanValue();
-			}
-			if(!tf.getExclude().booleanValue()) {
-				hasInclude = true;
-			}
+		TableFilterIndex index = getTableFilterIndex();
+		Boolean value = index.findFirst(identifier, tf -> tf.exclude(identifier));
+		if(value!=null) {
+			return value.booleanValue();
 		}
 
 		// can probably be simplified - but like this to be very explicit ;)
-		if(hasInclude) {
+		if(index.hasInclude()) {
 			return true; // exclude all by default when at least one include specified
 		} else {
 			return false; // if nothing specified or just excludes we include everything
 		}
 	}
 
+	/**
+	 * Add a table filter. The filters are indexed by their name pattern when a table is
+	 * looked up, and indexed again when a filter was changed in the meantime.
+	 */
 	public void addTableFilter(TableFilter filter) {
-		tableFilters.add(filter);
+		synchronized (tableFilters) {
+			tableFilters.add(filter);
+			tableFilterIndex = null;
+		}
+	}
+
+	private TableFilterIndex getTableFilterIndex() {
+		TableFilterIndex result = tableFilterIndex;
+		if(result==null || result.isStale()) {
+			synchronized (tableFilters) {
+				result = tableFilterIndex;
+				if(result==null || result.isStale()) {
+					result = new TableFilterIndex(tableFilters);
+					tableFilterIndex = result;
+				}
+			}
+		}
+		return result;
 	}
 
 	public RevengStrategy getReverseEngineeringStrategy(RevengStrategy delegate) {
@@ -581,15 +604,7 @@ public class OverrideRepository  {
 	}
 
 	private MultiValuedMap<String, SimpleMetaAttribute> findGeneralAttributes(TableIdentifier identifier) {
-		Iterator<TableFilter> iterator = tableFilters.iterator();
-		while(iterator.hasNext() ) {
-			TableFilter tf = iterator.next();
-			MultiValuedMap<String, SimpleMetaAttribute> value = tf.getMetaAttributes(identifier);
-			if(value!=null) {
-				return value;
-			}
-		}
-		return null;
+		return getTableFilterIndex().findFirst(identifier, tf -> tf.getMetaAttributes(identifier));
 	}
 	
 	private Map<String, MetaAttribute> toMetaAttributes(MultiValuedMap<String, SimpleMetaAttribute> mvm) {
@@ -17,6 +17,8 @@
  */
 package org.hibernate.tool.internal.reveng.strategy;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.commons.collections4.MultiValuedMap;
 import org.hibernate.tool.api.reveng.TableIdentifier;
 import org.hibernate.tool.internal.reveng.strategy.MetaAttributeHelper.SimpleMetaAttribute;
@@ -35,11 +37,11 @@ public class TableFilter {
 	// TODO: very basic substring matching. Possibly include regex functionallity ? (jdk 1.4 dep)
 	public static class Matcher {
 		
-		private static final int EQUALS = 1;
-		private static final int ENDSWITH = 2;
-		private static final int STARTSWITH = 3;
-		private static final int SUBSTRING = 4;
-		private static final int ANY = 5;
+		static final int EQUALS = 1;
+		static final int ENDSWITH = 2;
+		static final int STARTSWITH = 3;
+		static final int SUBSTRING = 4;
+		static final int ANY = 5;
 		
 		final int mode;
 		final String value;
@@ -86,6 +88,10 @@ public class TableFilter {
 		}
 	}
 
+	// counts the changes of the name patterns and of the exclusions of all the filters,
+	// so the indexes of the filters can tell when they are stale
+	private static final AtomicLong changes = new AtomicLong();
+
 	private Boolean exclude;
 	private String packageName;
 	
@@ -99,8 +105,8 @@ public class TableFilter {
 	public TableFilter() {
 		setMatchCatalog(".*");
 		setMatchSchema(".*");
-		setMatchName(".*");
-		setExclude(null);
+		nameMatcher = new Matcher(".*");
+		exclude = null;
 	}
 	
 	public void setMatchCatalog(String matchCatalog) {
@@ -113,6 +119,7 @@ public class TableFilter {
 
 	public void setMatchName(String matchName) {
 		this.nameMatcher = new Matcher(matchName);
+		changes.incrementAndGet();
 	}
 
 	/**
@@ -125,6 +132,14 @@ public class TableFilter {
 	
 	public void setExclude(Boolean bool) {
 		exclude = bool;		
+		changes.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of times the name pattern or the exclusion of any filter was changed
+	 */
+	static long getChangeCount() {
+		return changes.get();
 	}
 
 	public String getPackage(TableIdentifier identifier) {
@@ -162,6 +177,10 @@ public class TableFilter {
 		return nameMatcher.matchValue;
 	}
 	
+	Matcher getNameMatcher() {
+		return nameMatcher;
+	}
+	
 	public Boolean getExclude() {
 		return exclude;
 	}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.hibernate.tool.internal.reveng.strategy.TableFilter.Matcher;
+
+/**
+ * The table filters of an {@link OverrideRepository} indexed by their name pattern, so
+ * the filters that apply to a table can be found without trying every filter. Exact names
+ * are kept in a hash map, the fixed starts and ends of the patterns in a prefix and a suffix
+ * trie, and the patterns matching any name or a substring in a list that is always checked.
+ * The filters found this way are then tried in the order they were added, so the first
+ * matching filter still wins. An index is stale once the name pattern or the exclusion of
+ * a filter was changed after it was built, see {@link #isStale()}.
+ */
+class TableFilterIndex {
+
+	private final List<TableFilter> filters;
+	private final Map<String, BitSet> exactNames = new HashMap<String, BitSet>();
+	private final Trie prefixes = new Trie();
+	private final Trie suffixes = new Trie();
+	private final BitSet residual = new BitSet();
+	private final boolean hasInclude;
+	private final long changeCount;
+
+	TableFilterIndex(List<TableFilter> filters) {
+		this.changeCount = TableFilter.getChangeCount();
+		this.filters = new ArrayList<TableFilter>(filters);
+		boolean include = false;
+		for (int i = 0; i < this.filters.size(); i++) {
+			TableFilter filter = this.filters.get(i);
+			Matcher matcher = filter.getNameMatcher();
+			switch (matcher.mode) {
+			case Matcher.EQUALS:
+				exactNames.computeIfAbsent(matcher.value, k -> new BitSet()).set(i);
+				break;
+			case Matcher.STARTSWITH:
+				prefixes.add(matcher.value, false, i);
+				break;
+			case Matcher.ENDSWITH:
+				suffixes.add(matcher.value, true, i);
+				break;
+			default:
+				residual.set(i);
+			}
+			include |= Boolean.FALSE.equals(filter.getExclude());
+		}
+		this.hasInclude = include;
+	}
+
+	/**
+	 * @return true if a filter was changed since the index was built
+	 */
+	boolean isStale() {
+		return changeCount != TableFilter.getChangeCount();
+	}
+
+	/**
+	 * @return true if at least one of the filters includes tables
+	 */
+	boolean hasInclude() {
+		return hasInclude;
+	}
+
+	/**
+	 * Returns the first non null value of <code>lookup</code> for the filters that may
+	 * apply to the table, in the order in which the filters were added.
+	 */
+	<T> T findFirst(TableIdentifier identifier, Function<TableFilter, T> lookup) {
+		BitSet candidates = getCandidates(identifier.getName());
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+			T value = lookup.apply(filters.get(i));
+			if (value != null) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	private BitSet getCandidates(String name) {
+		BitSet result = new BitSet(filters.size());
+		if (name == null) {
+			// let the filters decide, as they did before there was an index
+			result.set(0, filters.size());
+			return result;
+		}
+		BitSet exact = exactNames.get(name);
+		if (exact != null) {
+			result.or(exact);
+		}
+		prefixes.collect(name, false, result);
+		suffixes.collect(name, true, result);
+		result.or(residual);
+		return result;
+	}
+
+	private static class Trie {
+
+		private final Map<Character, Trie> children = new HashMap<Character, Trie>();
+		private final BitSet filters = new BitSet();
+
+		void add(String value, boolean reverse, int filter) {
+			Trie node = this;
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(reverse ? value.length() - 1 - i : i);
+				node = node.children.computeIfAbsent(c, k -> new Trie());
+			}
+			node.filters.set(filter);
+		}
+
+		// adds the filters of all the nodes on the path of the name, being its prefixes (or suffixes)
+		void collect(String name, boolean reverse, BitSet result) {
+			Trie node = this;
+			result.or(node.filters);
+			for (int i = 0; i < name.length() && node != null; i++) {
+				node = node.children.get(name.charAt(reverse ? name.length() - 1 - i : i));
+				if (node != null) {
+					result.or(node.filters);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks on daemon worker threads named <code>&lt;threadPrefix&gt;-N</code> and waits 
+ * for all of them, as done by the exporters, the reverse engineering and the linter when 
+ * they are configured with more than one thread.
+ */
+public final class ConcurrentTasks {
+
+	private ConcurrentTasks() {}
+
+	public static ExecutorService newExecutor(String threadPrefix, int threads) {
+		AtomicInteger counter = new AtomicInteger();
+		return Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, threadPrefix + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Run the tasks with a new executor of <code>threads</code> workers that is shut 
+	 * down afterwards, see {@link #runAll(ExecutorService, List)}.
+	 */
+	public static <T> List<T> runAll(String threadPrefix, int threads, List<? extends Callable<T>> tasks) {
+		ExecutorService executor = newExecutor(threadPrefix, threads);
+		try {
+			return runAll(executor, tasks);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Run the tasks and wait for them to complete. The results are returned in the order 
+	 * of <code>tasks</code>. The first failure in that same order is rethrown, unchecked 
+	 * exceptions and errors as they are, and the tasks still running are then cancelled.
+	 */
+	public static <T> List<T> runAll(ExecutorService executor, List<? extends Callable<T>> tasks) {
+		List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+		try {
+			for (Callable<T> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			List<T> result = new ArrayList<T>(tasks.size());
+			for (Future<T> future : futures) {
+				result.add(future.get());
+			}
+			return result;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for the concurrent tasks", e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			else if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw new RuntimeException("Problem while running the concurrent tasks", cause);
+		}
+		finally {
+			for (Future<T> future : futures) {
+				future.cancel(true);
+			}
+		}
+	}
+
+}
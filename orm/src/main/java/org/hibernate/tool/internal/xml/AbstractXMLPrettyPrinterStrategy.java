@@ -24,32 +24,46 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 
+/**
+ * Base class for the strategies, keeping the parser between calls. As a consequence
+ * an instance should not be used by several threads at the same time.
+ */
 public abstract class AbstractXMLPrettyPrinterStrategy implements XMLPrettyPrinterStrategy {
 
+    private DocumentBuilder documentBuilder;
+    private XPathExpression whitespaceExpression;
+
     protected Document newDocument(String xml, String encoding) throws SAXException, IOException, ParserConfigurationException {
-    	final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-    	dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-        final Document document = dbf
-                .newDocumentBuilder()
+        if (documentBuilder == null) {
+            final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            documentBuilder = dbf.newDocumentBuilder();
+        } else {
+            documentBuilder.reset();
+        }
+        final Document document = documentBuilder
                 .parse(new InputSource(new ByteArrayInputStream(xml.getBytes(encoding))));
         document.normalize();
         return document;
     }
 
     protected void removeWhitespace(final Document document) throws XPathExpressionException {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        NodeList nodeList = (NodeList) xPath.evaluate("//text()[normalize-space()='']",
-                document,
-                XPathConstants.NODESET);
+        if (whitespaceExpression == null) {
+            XPath xPath = XPathFactory.newInstance().newXPath();
+            whitespaceExpression = xPath.compile("//text()[normalize-space()='']");
+        }
+        NodeList nodeList = (NodeList) whitespaceExpression.evaluate(document, XPathConstants.NODESET);
 
         for (int i = 0; i < nodeList.getLength(); ++i) {
             Node node = nodeList.item(i);
@@ -31,6 +31,7 @@ import java.io.StringWriter;
 public class TrAXPrettyPrinterStrategy extends AbstractXMLPrettyPrinterStrategy {
     private int indent = 4;
     private boolean omitXmlDeclaration;
+    private TransformerFactory transformerFactory;
 
     @Override
     public String prettyPrint(String xml) throws Exception {
@@ -45,7 +46,9 @@ public class TrAXPrettyPrinterStrategy extends AbstractXMLPrettyPrinterStrategy
     }
 
     protected Transformer newTransformer(final Document document) throws TransformerConfigurationException {
-        final TransformerFactory transformerFactory = newTransformerFactory();
+        if (transformerFactory == null) {
+            transformerFactory = newTransformerFactory();
+        }
 
         final Transformer transformer = transformerFactory.newTransformer();
         transformer.setOutputProperty(OutputKeys.METHOD, "xml");
@@ -82,6 +85,7 @@ public class TrAXPrettyPrinterStrategy extends AbstractXMLPrettyPrinterStrategy
 
     public void setIndent(int indent) {
         this.indent = indent;
+        this.transformerFactory = null;
     }
 
     public boolean isOmitXmlDeclaration() {
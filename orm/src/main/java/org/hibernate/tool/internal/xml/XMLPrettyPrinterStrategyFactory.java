@@ -24,14 +24,29 @@ import org.hibernate.tool.api.xml.XMLPrettyPrinterStrategy;
 public final class XMLPrettyPrinterStrategyFactory {
     public static final String PROPERTY_STRATEGY_IMPL = "org.hibernate.tool.hbm2x.xml.XMLPrettyPrinterStrategy";
 
-    private static final XMLPrettyPrinterStrategy DEFAULT_STRATEGY = new TrAXPrettyPrinterStrategy();
+    // strategies keep their parsers and transformers, so they cannot be shared between threads
+    private static final ThreadLocal<XMLPrettyPrinterStrategy> THREAD_STRATEGY = new ThreadLocal<XMLPrettyPrinterStrategy>();
 
     private XMLPrettyPrinterStrategyFactory() {
     }
 
     public static XMLPrettyPrinterStrategy newXMLPrettyPrinterStrategy() {
         XMLPrettyPrinterStrategy strategy = loadFromSystemProperty();
-        return strategy == null ? DEFAULT_STRATEGY : strategy;
+        return strategy == null ? new TrAXPrettyPrinterStrategy() : strategy;
+    }
+
+    /**
+     * Returns the strategy of the current thread, creating a new one when the thread has none yet
+     * or when the configured strategy class changed since.
+     */
+    public static XMLPrettyPrinterStrategy getXMLPrettyPrinterStrategy() {
+        String strategyClass = System.getProperty(PROPERTY_STRATEGY_IMPL, TrAXPrettyPrinterStrategy.class.getName());
+        XMLPrettyPrinterStrategy strategy = THREAD_STRATEGY.get();
+        if (strategy == null || !strategy.getClass().getName().equals(strategyClass)) {
+            strategy = newXMLPrettyPrinterStrategy();
+            THREAD_STRATEGY.set(strategy);
+        }
+        return strategy;
     }
 
     @SuppressWarnings("unchecked")
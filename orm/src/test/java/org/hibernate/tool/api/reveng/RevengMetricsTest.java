@@ -0,0 +1,48 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.api.reveng;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class RevengMetricsTest {
+
+	@Test
+	public void testCallCountsPerQualifiedTable() {
+		RevengMetrics metrics = new RevengMetrics();
+		metrics.metaDataQueryCompleted(RevengPhase.COLUMNS, null, "A", "FOO", 2, 0);
+		metrics.metaDataQueryCompleted(RevengPhase.PRIMARY_KEYS, null, "A", "FOO", 1, 0);
+		metrics.metaDataQueryCompleted(RevengPhase.COLUMNS, null, "B", "FOO", 3, 0);
+		metrics.metaDataQueryCompleted(RevengPhase.COLUMNS, "C", "A", "FOO", 3, 0);
+		metrics.metaDataQueryCompleted(RevengPhase.COLUMNS, null, null, "FOO", 3, 0);
+		metrics.metaDataQueryCompleted(RevengPhase.COLUMNS, null, "A", null, 3, 0);
+		Map<String, Integer> expected = new TreeMap<String, Integer>();
+		expected.put("A.FOO", 2);
+		expected.put("B.FOO", 1);
+		expected.put("C.A.FOO", 1);
+		expected.put("FOO", 1);
+		expected.put("A.%", 1);
+		assertEquals(expected, metrics.getCallCounts());
+		assertEquals(14, metrics.getRowCount(RevengPhase.COLUMNS));
+	}
+
+}
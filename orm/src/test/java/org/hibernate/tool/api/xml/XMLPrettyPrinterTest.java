@@ -69,6 +69,13 @@ public class XMLPrettyPrinterTest {
 		assertEquals(XML_AFTER + XML_COMMENT, result);
 	}
 	
+	@Test
+	public void testXmlPrettyPrintInMemory() throws Exception {
+		assertEquals(XML_AFTER, XMLPrettyPrinter.prettyPrint(XML_BEFORE));
+		// the strategy of the thread is reused
+		assertEquals(XML_AFTER, XMLPrettyPrinter.prettyPrint(XML_AFTER));
+	}
+	
 	public static class FooBarStrategy implements XMLPrettyPrinterStrategy {
 		@Override
 		public String prettyPrint(String xml) throws Exception {
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.ide.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.grammars.hql.HqlLexer;
+import org.junit.jupiter.api.Test;
+
+public class AntlrSimpleHQLLexerTest {
+	
+	@Test
+	public void testLexesAllCharacters() {
+		char[] chars = "from Product p".toCharArray();
+		assertEquals(lex(chars, chars.length), lex(chars, 4));
+		assertEquals(
+				List.of(HqlLexer.FROM, HqlLexer.IDENTIFIER, HqlLexer.IDENTIFIER), 
+				lex(chars, 4));
+	}
+	
+	private List<Integer> lex(char[] chars, int length) {
+		SimpleHQLLexer lexer = new AntlrSimpleHQLLexer(chars, length);
+		List<Integer> result = new ArrayList<Integer>();
+		int tokenId;
+		while ((tokenId = lexer.nextTokenId()) != HqlLexer.EOF) {
+			result.add(tokenId);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.ide.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionIndexTest {
+	
+	@Test
+	public void testMatchesInOriginalOrder() {
+		List<String> names = List.of("ProductOwner", "Order", "product", "Customer", "PRODUCTLINE", "Prod");
+		CompletionIndex<Integer> index = new CompletionIndex<Integer>(names, List.of(0, 1, 2, 3, 4, 5));
+		assertEquals(List.of("ProductOwner=0", "product=2", "PRODUCTLINE=4"), match(index, "produc"));
+		assertEquals(List.of("ProductOwner=0", "product=2", "PRODUCTLINE=4", "Prod=5"), match(index, "PrOd"));
+		assertEquals(List.of("Order=1"), match(index, "o"));
+		assertEquals(List.of(), match(index, "x"));
+		assertEquals(List.of(), match(index, "productlines"));
+		assertEquals(6, match(index, "").size());
+	}
+	
+	@Test
+	public void testSameAsScanning() {
+		List<String> names = List.of("a", "A", "ab", "Ab", "aB", "b", "ba", "", "abc", "B");
+		CompletionIndex<String> index = new CompletionIndex<String>(names, names);
+		for (String prefix : new String[] { "", "a", "A", "ab", "b", "abc", "abcd", "c" }) {
+			List<String> expected = new ArrayList<String>();
+			for (String name : names) {
+				if (name.toLowerCase().startsWith(prefix.toLowerCase())) {
+					expected.add(name + "=" + name);
+				}
+			}
+			assertEquals(expected, match(index, prefix), prefix);
+		}
+	}
+	
+	private static <T> List<String> match(CompletionIndex<T> index, String prefix) {
+		List<String> result = new ArrayList<String>();
+		index.forEachMatch(prefix, (name, value) -> result.add(name + "=" + value));
+		return result;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TemplateHelperTest {
+	
+	@TempDir
+	public File templateDir = new File("templates");
+	
+	@Test
+	public void testEngineIsShared() {
+		TemplateHelper first = createTemplateHelper(new String[0]);
+		TemplateHelper second = createTemplateHelper(new String[0]);
+		assertSame(first.freeMarkerEngine, second.freeMarkerEngine);
+		TemplateHelper custom = createTemplateHelper(new String[] { templateDir.getAbsolutePath() });
+		assertNotSame(first.freeMarkerEngine, custom.freeMarkerEngine);
+	}
+	
+	@Test
+	public void testCustomTemplateChangesArePickedUp() throws Exception {
+		File template = new File(templateDir, "custom.ftl");
+		Files.writeString(template.toPath(), "first ${foo}");
+		assertEquals("first bar", process("custom.ftl"));
+		Files.writeString(template.toPath(), "second ${foo}");
+		template.setLastModified(template.lastModified() + 10000);
+		assertEquals("second bar", process("custom.ftl"));
+	}
+	
+	private String process(String templateName) {
+		TemplateHelper templateHelper = createTemplateHelper(new String[] { templateDir.getAbsolutePath() });
+		templateHelper.putInContext("foo", "bar");
+		StringWriter writer = new StringWriter();
+		templateHelper.processTemplate(templateName, writer, null);
+		return writer.toString();
+	}
+	
+	private TemplateHelper createTemplateHelper(String[] templatePaths) {
+		TemplateHelper result = new TemplateHelper();
+		result.init(null, templatePaths);
+		return result;
+	}
+
+}
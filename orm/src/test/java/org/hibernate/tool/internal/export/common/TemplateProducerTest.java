@@ -0,0 +1,159 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TemplateProducerTest {
+	
+	@TempDir
+	public File outputDir = new File("output");
+	
+	private File templateDir = null;
+	private DefaultArtifactCollector artifactCollector = null;
+	private TemplateHelper templateHelper = null;
+	private TemplateProducer templateProducer = null;
+	
+	@BeforeEach
+	public void setUp() throws Exception {
+		templateDir = new File(outputDir, "templates");
+		templateDir.mkdirs();
+		Files.writeString(new File(templateDir, "greeting.ftl").toPath(), "Hello ${name}");
+		Files.writeString(new File(templateDir, "empty.ftl").toPath(), "  <#if false>${name}</#if>\n");
+		Files.writeString(new File(templateDir, "mapping.ftl").toPath(), "<mapping><class name=\"${name}\"/></mapping>");
+		Files.writeString(new File(templateDir, "dated.ftl").toPath(), "// Generated ${date}\nHello ${name}");
+		templateHelper = new TemplateHelper();
+		templateHelper.init(outputDir, new String[] { templateDir.getAbsolutePath() });
+		artifactCollector = new DefaultArtifactCollector();
+		templateProducer = new TemplateProducer(templateHelper, artifactCollector);
+	}
+	
+	@Test
+	public void testProduce() throws Exception {
+		File destination = new File(outputDir, "generated/greeting.txt");
+		Map<String, Object> additionalContext = new HashMap<String, Object>();
+		additionalContext.put("name", "J\u00FCrgen");
+		templateProducer.produce(additionalContext, "greeting.ftl", destination, "greeting");
+		assertArrayEquals(
+				"Hello J\u00FCrgen".getBytes(StandardCharsets.UTF_8), 
+				Files.readAllBytes(destination.toPath()));
+		assertEquals(1, artifactCollector.getFileCount("txt"));
+		assertEquals(1, destination.getParentFile().list().length);
+	}
+	
+	@Test
+	public void testProduceShortFileName() throws Exception {
+		File destination = new File(outputDir, "generated/A");
+		Map<String, Object> additionalContext = new HashMap<String, Object>();
+		additionalContext.put("name", "Max");
+		templateProducer.produce(additionalContext, "greeting.ftl", destination, "greeting");
+		assertEquals("Hello Max", Files.readString(destination.toPath()));
+		assertEquals(1, destination.getParentFile().list().length);
+	}
+	
+	@Test
+	public void testProduceEmptyOutput() {
+		File destination = new File(outputDir, "generated/empty.txt");
+		Map<String, Object> additionalContext = new HashMap<String, Object>();
+		additionalContext.put("name", "Koen");
+		templateProducer.produce(additionalContext, "empty.ftl", destination, "empty");
+		assertFalse(destination.exists());
+		assertEquals(0, artifactCollector.getFileCount("txt"));
+		assertEquals(0, destination.getParentFile().list().length);
+	}
+
+	@Test
+	public void testSkipUnchangedFiles() throws Exception {
+		templateHelper.setSkipUnchangedFiles(true);
+		File destination = new File(outputDir, "generated/greeting.txt");
+		Map<String, Object> additionalContext = new HashMap<String, Object>();
+		additionalContext.put("name", "Koen");
+		templateProducer.produce(additionalContext, "greeting.ftl", destination, "greeting");
+		destination.setLastModified(1000);
+		templateProducer.produce(additionalContext, "greeting.ftl", destination, "greeting");
+		assertEquals(1000, destination.lastModified());
+		assertEquals(1, artifactCollector.getFileCount("txt"));
+		assertEquals(1, artifactCollector.getFileCount(TemplateProducer.UNCHANGED));
+		assertEquals(1, destination.getParentFile().list().length);
+		additionalContext.put("name", "Max");
+		templateProducer.produce(additionalContext, "greeting.ftl", destination, "greeting");
+		assertEquals("Hello Max", Files.readString(destination.toPath()));
+		assertTrue(destination.lastModified() > 1000);
+	}
+	
+	@Test
+	public void testSkipUnchangedFilesWithManifest() throws Exception {
+		File manifestFile = new File(outputDir, "generated/manifest.properties");
+		templateHelper.setSkipUnchangedFiles(true);
+		templateHelper.setArtifactManifest(ArtifactManifest.load(manifestFile));
+		templateHelper.setupContext(new Date(0));
+		File destination = new File(outputDir, "generated/dated.txt");
+		Map<String, Object> additionalContext = new HashMap<String, Object>();
+		additionalContext.put("name", "Koen");
+		templateProducer.produce(additionalContext, "dated.ftl", destination, "dated");
+		templateHelper.getArtifactManifest().save();
+		assertTrue(manifestFile.isFile());
+		destination.setLastModified(1000);
+		String firstDate = Files.readString(destination.toPath());
+		// a later run renders another date, which does not count as a change
+		templateHelper = new TemplateHelper();
+		templateHelper.init(outputDir, new String[] { templateDir.getAbsolutePath() });
+		templateHelper.setSkipUnchangedFiles(true);
+		templateHelper.setArtifactManifest(ArtifactManifest.load(manifestFile));
+		templateHelper.setupContext(new Date(86_400_000L));
+		new TemplateProducer(templateHelper, artifactCollector)
+				.produce(additionalContext, "dated.ftl", destination, "dated");
+		assertFalse(firstDate.contains(templateHelper.getGenerationDate()));
+		assertEquals(1000, destination.lastModified());
+		assertEquals(1, artifactCollector.getFileCount(TemplateProducer.UNCHANGED));
+	}
+
+	@Test
+	public void testProduceXml() throws Exception {
+		File destination = new File(outputDir, "generated/Foo.hbm.xml");
+		Map<String, Object> additionalContext = new HashMap<String, Object>();
+		additionalContext.put("name", "Foo");
+		templateProducer.produce(additionalContext, "mapping.ftl", destination, "mapping");
+		String expected = 
+				"<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n" +
+				"<mapping>\n" +
+				"    <class name=\"Foo\"/>\n" +
+				"</mapping>\n";
+		assertEquals(expected, Files.readString(destination.toPath()));
+		assertEquals(1, artifactCollector.getFileCount("hbm.xml"));
+		// formatted in memory already, so not formatted again
+		Files.writeString(destination.toPath(), "<mapping/>");
+		artifactCollector.formatFiles();
+		assertEquals("<mapping/>", Files.readString(destination.toPath()));
+	}
+
+}
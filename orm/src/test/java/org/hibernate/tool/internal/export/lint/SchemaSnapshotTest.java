@@ -0,0 +1,73 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.export.lint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.mapping.Table;
+import org.junit.jupiter.api.Test;
+
+public class SchemaSnapshotTest {
+	
+	@Test
+	public void testFindTables() {
+		Table customer = table("CAT", "SALES", "CUSTOMER");
+		Table otherCustomer = table("CAT", "OTHER", "CUSTOMER");
+		Table order = table("CAT", "SALES", "`Order`");
+		SchemaSnapshot snapshot = SchemaSnapshot.create();
+		snapshot.addTables(List.of(customer, otherCustomer, order));
+		assertSame(customer, snapshot.findTables("CAT", "SALES", "CUSTOMER").get(0));
+		assertSame(customer, snapshot.findTables("cat", "sales", "customer").get(0));
+		assertSame(customer, snapshot.findTables(null, "SALES", "customer").get(0));
+		assertSame(order, snapshot.findTables("CAT", "SALES", "ORDER").get(0));
+		assertSame(order, snapshot.findTables(null, null, "`order`").get(0));
+		assertEquals(2, snapshot.findTables(null, null, "CUSTOMER").size());
+		assertTrue(snapshot.findTables("CAT", "SALES", "PRODUCT").isEmpty());
+		assertTrue(snapshot.findTables("CAT", "NONE", "CUSTOMER").isEmpty());
+	}
+	
+	@Test
+	public void testUnreportedSchemaDoesNotNarrow() {
+		Table customer = table(null, null, "CUSTOMER");
+		SchemaSnapshot snapshot = SchemaSnapshot.create();
+		snapshot.addTables(List.of(customer));
+		assertSame(customer, snapshot.findTables("CAT", "SALES", "CUSTOMER").get(0));
+	}
+	
+	@Test
+	public void testTablesAddedOnce() {
+		SchemaSnapshot snapshot = SchemaSnapshot.create();
+		snapshot.addTables(List.of(table("CAT", "SALES", "CUSTOMER")));
+		snapshot.addTables(List.of(table("CAT", "SALES", "CUSTOMER"), table("CAT", "SALES", "ORDERS")));
+		assertEquals(1, snapshot.findTables(null, null, "CUSTOMER").size());
+		assertEquals(1, snapshot.findTables(null, null, "ORDERS").size());
+	}
+	
+	private static Table table(String catalog, String schema, String name) {
+		Table result = new Table("Hibernate Tools");
+		result.setCatalog(catalog);
+		result.setSchema(schema);
+		result.setName(name);
+		return result;
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.reveng.RevengSettings;
+import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.junit.jupiter.api.Test;
+
+public class CachingStrategyTest {
+	
+	private static final TableIdentifier ORDERS = TableIdentifier.create(null, null, "ORDERS");
+	private static final TableIdentifier CUSTOMER = TableIdentifier.create(null, null, "CUSTOMER");
+	
+	@Test
+	public void testAnswersAreRemembered() {
+		CountingStrategy counting = new CountingStrategy();
+		RevengStrategy strategy = new CachingStrategy(counting, 100);
+		assertEquals("Orders", strategy.tableToClassName(ORDERS));
+		assertEquals("Orders", strategy.tableToClassName(TableIdentifier.create(null, null, "ORDERS")));
+		assertEquals("customerId", strategy.columnToPropertyName(ORDERS, "CUSTOMER_ID"));
+		assertEquals("customerId", strategy.columnToPropertyName(ORDERS, "CUSTOMER_ID"));
+		assertEquals("customerId", strategy.columnToPropertyName(CUSTOMER, "CUSTOMER_ID"));
+		assertEquals(3, counting.calls);
+	}
+	
+	@Test
+	public void testNullAnswersAreRemembered() {
+		CountingStrategy counting = new CountingStrategy();
+		RevengStrategy strategy = new CachingStrategy(counting, 100);
+		assertNull(strategy.tableToCompositeIdName(ORDERS));
+		assertNull(strategy.tableToCompositeIdName(ORDERS));
+		assertEquals(1, counting.calls);
+	}
+	
+	@Test
+	public void testColumnListsAreCopied() {
+		CountingStrategy counting = new CountingStrategy();
+		RevengStrategy strategy = new CachingStrategy(counting, 100);
+		List<String> columns = new ArrayList<String>(List.of("CUSTOMER_ID"));
+		List<String> referenced = List.of("ID");
+		String name = strategy.foreignKeyToEntityName("FK1", ORDERS, columns, CUSTOMER, referenced, true);
+		columns.add("VERSION");
+		strategy.foreignKeyToEntityName("FK1", ORDERS, columns, CUSTOMER, referenced, true);
+		assertEquals(2, counting.calls);
+		assertEquals(name, strategy.foreignKeyToEntityName("FK1", ORDERS, List.of("CUSTOMER_ID"), CUSTOMER, referenced, true));
+		assertEquals(2, counting.calls);
+	}
+	
+	@Test
+	public void testSizeIsBounded() {
+		CountingStrategy counting = new CountingStrategy();
+		RevengStrategy strategy = new CachingStrategy(counting, 2);
+		strategy.tableToClassName(ORDERS);
+		strategy.tableToClassName(CUSTOMER);
+		strategy.tableToClassName(ORDERS);
+		strategy.tableToClassName(TableIdentifier.create(null, null, "LINE_ITEM"));
+		assertEquals(3, counting.calls);
+		strategy.tableToClassName(ORDERS);
+		assertEquals(3, counting.calls);
+		strategy.tableToClassName(CUSTOMER);
+		assertEquals(4, counting.calls);
+	}
+	
+	@Test
+	public void testSettingsClearTheCache() {
+		CountingStrategy counting = new CountingStrategy();
+		RevengStrategy strategy = new CachingStrategy(counting, 100);
+		strategy.tableToClassName(ORDERS);
+		strategy.setSettings(new RevengSettings(counting));
+		strategy.tableToClassName(ORDERS);
+		assertEquals(2, counting.calls);
+	}
+	
+	@Test
+	public void testWrap() {
+		CountingStrategy counting = new CountingStrategy();
+		Properties properties = new Properties();
+		RevengStrategy wrapped = CachingStrategy.wrap(counting, properties);
+		assertEquals(CachingStrategy.class, wrapped.getClass());
+		assertSame(wrapped, CachingStrategy.wrap(wrapped, properties));
+		properties.put(MetadataConstants.STRATEGY_CACHE_SIZE, "0");
+		assertSame(counting, CachingStrategy.wrap(counting, properties));
+	}
+	
+	private static class CountingStrategy extends DefaultStrategy {
+		int calls = 0;
+		public String tableToClassName(TableIdentifier tableIdentifier) {
+			calls++;
+			return super.tableToClassName(tableIdentifier);
+		}
+		public String columnToPropertyName(TableIdentifier table, String column) {
+			calls++;
+			return super.columnToPropertyName(table, column);
+		}
+		public String tableToCompositeIdName(TableIdentifier identifier) {
+			calls++;
+			return super.tableToCompositeIdName(identifier);
+		}
+		public String foreignKeyToEntityName(String keyname, TableIdentifier fromTable, List<?> fromColumnNames, TableIdentifier referencedTable, List<?> referencedColumnNames, boolean uniqueReference) {
+			calls++;
+			return "order";
+		}
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.reveng.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.junit.jupiter.api.Test;
+
+public class TableFilterIndexTest {
+	
+	@Test
+	public void testFirstMatchWins() {
+		List<TableFilter> filters = new ArrayList<TableFilter>();
+		filters.add(filter(".*", ".*", "ORDER_.*", "orders"));
+		filters.add(filter(".*", ".*", "ORDER_LINE", "exact"));
+		filters.add(filter(".*", ".*", ".*_LINE", "lines"));
+		filters.add(filter(".*", ".*", ".*LIN.*", "substring"));
+		filters.add(filter(".*", "OTHER", "CUSTOMER", "other"));
+		filters.add(filter(".*", ".*", "CUSTOMER", "customer"));
+		filters.add(filter(".*", ".*", ".*", "any"));
+		TableFilterIndex index = new TableFilterIndex(filters);
+		assertEquals("orders", getPackage(index, "ORDER_LINE"));
+		assertEquals("lines", getPackage(index, "INVOICE_LINE"));
+		assertEquals("substring", getPackage(index, "LINK"));
+		assertEquals("customer", getPackage(index, "CUSTOMER"));
+		assertEquals("any", getPackage(index, "PRODUCT"));
+		assertEquals("any", getPackage(index, "ORDER"));
+	}
+	
+	@Test
+	public void testSameAsScanningAllFilters() {
+		String[] patterns = { "A.*", "AB.*", ".*B", ".*AB", "AB", "B", ".*A.*", "" };
+		String[] names = { "A", "AB", "BA", "ABA", "B", "BB", "C", "" };
+		List<TableFilter> filters = new ArrayList<TableFilter>();
+		for (int i = 0; i < patterns.length; i++) {
+			filters.add(filter(".*", ".*", patterns[i], "p" + i));
+		}
+		TableFilterIndex index = new TableFilterIndex(filters);
+		for (String name : names) {
+			TableIdentifier identifier = TableIdentifier.create(null, null, name);
+			String expected = null;
+			for (TableFilter filter : filters) {
+				expected = filter.getPackage(identifier);
+				if (expected != null) {
+					break;
+				}
+			}
+			assertEquals(expected, getPackage(index, name), name);
+		}
+	}
+	
+	@Test
+	public void testExclude() {
+		List<TableFilter> filters = new ArrayList<TableFilter>();
+		TableFilter exclude = filter(".*", ".*", "TMP_.*", null);
+		exclude.setExclude(true);
+		filters.add(exclude);
+		TableFilterIndex index = new TableFilterIndex(filters);
+		assertFalse(index.hasInclude());
+		TableIdentifier identifier = TableIdentifier.create(null, null, "TMP_ORDER");
+		assertEquals(Boolean.TRUE, index.findFirst(identifier, tf -> tf.exclude(identifier)));
+		TableIdentifier other = TableIdentifier.create(null, null, "ORDER");
+		assertNull(index.findFirst(other, tf -> tf.exclude(other)));
+		TableFilter include = filter(".*", ".*", "ORDER", null);
+		include.setExclude(false);
+		filters.add(include);
+		assertTrue(new TableFilterIndex(filters).hasInclude());
+	}
+	
+	@Test
+	public void testChangedFilter() {
+		OverrideRepository repository = new OverrideRepository();
+		TableFilter filter = filter(".*", ".*", "ORDER", null);
+		filter.setExclude(true);
+		repository.addTableFilter(filter);
+		TableIdentifier order = TableIdentifier.create(null, null, "ORDER");
+		TableIdentifier customer = TableIdentifier.create(null, null, "CUSTOMER");
+		assertTrue(repository.excludeTable(order));
+		assertFalse(repository.excludeTable(customer));
+		filter.setMatchName("CUSTOMER");
+		assertFalse(repository.excludeTable(order));
+		assertTrue(repository.excludeTable(customer));
+		filter.setExclude(false);
+		assertFalse(repository.excludeTable(customer));
+		assertTrue(repository.excludeTable(order));
+	}
+	
+	private String getPackage(TableFilterIndex index, String name) {
+		TableIdentifier identifier = TableIdentifier.create(null, "PUBLIC", name);
+		return index.findFirst(identifier, tf -> tf.getPackage(identifier));
+	}
+	
+	private TableFilter filter(String catalog, String schema, String name, String packageName) {
+		TableFilter result = new TableFilter();
+		result.setMatchCatalog(catalog);
+		result.setMatchSchema(schema);
+		result.setMatchName(name);
+		result.setPackage(packageName);
+		return result;
+	}
+
+}
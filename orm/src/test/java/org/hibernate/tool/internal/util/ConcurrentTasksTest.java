@@ -0,0 +1,62 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentTasksTest {
+
+	@Test
+	public void testRunAll() {
+		List<Callable<String>> tasks = new ArrayList<Callable<String>>();
+		for (int i = 0; i < 10; i++) {
+			int index = i;
+			tasks.add(() -> index + " " + Thread.currentThread().getName());
+		}
+		List<String> results = ConcurrentTasks.runAll("hibernate-tools-test", 3, tasks);
+		assertEquals(10, results.size());
+		for (int i = 0; i < 10; i++) {
+			assertTrue(results.get(i).startsWith(i + " hibernate-tools-test-"), results.get(i));
+		}
+	}
+
+	@Test
+	public void testFailures() {
+		RuntimeException failure = new IllegalStateException("first");
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+		tasks.add(() -> "ok");
+		tasks.add(() -> { throw failure; });
+		tasks.add(() -> { throw new IllegalArgumentException("second"); });
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> ConcurrentTasks.runAll("hibernate-tools-test", 2, tasks)));
+		IOException checked = new IOException("checked");
+		List<Callable<Object>> checkedTasks = new ArrayList<Callable<Object>>();
+		checkedTasks.add(() -> { throw checked; });
+		assertSame(checked, assertThrows(RuntimeException.class, () -> ConcurrentTasks.runAll("hibernate-tools-test", 2, checkedTasks)).getCause());
+	}
+
+}
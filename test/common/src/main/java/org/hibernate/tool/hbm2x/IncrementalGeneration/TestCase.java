@@ -0,0 +1,186 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.hbm2x.IncrementalGeneration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.tool.api.export.ArtifactCollector;
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengSettings;
+import org.hibernate.tool.internal.export.common.TemplateProducer;
+import org.hibernate.tool.internal.reveng.strategy.AbstractStrategy;
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.hibernate.tools.test.util.JdbcUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase extends RevengTestCase {
+
+	@TempDir
+	public File outputDir = new File("output");
+
+	private File fingerprints = null;
+	private File packageDir = null;
+	private File templateDir = null;
+
+	@BeforeEach
+	public void setUp() {
+		fingerprints = new File(outputDir, "fingerprints.properties");
+		packageDir = new File(outputDir, "org/reveng");
+		templateDir = new File(outputDir, "templates");
+	}
+
+	@Test
+	public void testIncrementalGeneration() {
+		assertEquals(5, generate().size());
+		assertTrue(fingerprints.isFile());
+		// nothing changed
+		assertEquals(0, generate().size());
+		// the changed table and the tables related to it
+		JdbcUtil.executeSql(this, new String[] { "ALTER TABLE LINE_ITEM ADD NOTE VARCHAR(10)" });
+		assertEquals(Set.of("LineItem.java", "LineItemId.java", "Connection.java"), generate());
+	}
+
+	@Test
+	public void testMissingOutputIsGenerated() {
+		assertEquals(5, generate().size());
+		assertTrue(new File(packageDir, "Master.java").delete());
+		assertTrue(new File(packageDir, "LineItemId.java").delete());
+		assertEquals(Set.of("Master.java", "LineItemId.java"), generate());
+		// e.g. after cleaning the build
+		assertEquals(5, clean());
+		assertEquals(5, generate().size());
+	}
+
+	@Test
+	public void testChangedScope() throws IOException {
+		MetadataDescriptor descriptor = createDescriptor();
+		assertEquals(5, generate(ExporterType.JAVA, descriptor, outputDir).size());
+		// another destination
+		assertEquals(5, generate(ExporterType.JAVA, descriptor, new File(outputDir, "other")).size());
+		// changed templates
+		assertTrue(templateDir.mkdirs());
+		Files.writeString(new File(templateDir, "custom.ftl").toPath(), "1");
+		assertEquals(5, generate(ExporterType.JAVA, descriptor, outputDir).size());
+		assertEquals(0, generate(ExporterType.JAVA, descriptor, outputDir).size());
+		Files.writeString(new File(templateDir, "custom.ftl").toPath(), "2");
+		assertEquals(5, generate(ExporterType.JAVA, descriptor, outputDir).size());
+	}
+
+	@Test
+	public void testGenerationWithoutFingerprints() {
+		fingerprints = null;
+		assertEquals(5, generate().size());
+		assertEquals(5, generate().size());
+	}
+
+	@Test
+	public void testExportersSharingDescriptor() {
+		MetadataDescriptor descriptor = createDescriptor();
+		assertEquals(5, generate(ExporterType.JAVA, descriptor, outputDir).size());
+		// the entities are generated by the second exporter too
+		assertEquals(
+				Set.of("MasterHome.java", "ChildHome.java", "ConnectionHome.java", "LineItemHome.java"), 
+				generate(ExporterType.DAO, descriptor, outputDir));
+		// each exporter only regenerates what changed since it last ran
+		JdbcUtil.executeSql(this, new String[] { "ALTER TABLE MASTER ADD NOTE VARCHAR(10)" });
+		assertEquals(
+				Set.of("Master.java", "Child.java", "Connection.java"), 
+				generate(ExporterType.JAVA, descriptor, outputDir));
+		assertEquals(
+				Set.of("MasterHome.java", "ChildHome.java", "ConnectionHome.java"), 
+				generate(ExporterType.DAO, descriptor, outputDir));
+	}
+
+	@Test
+	public void testFailedExport() throws IOException {
+		// a directory in the way of one of the classes
+		File blocked = new File(packageDir, "Master.java");
+		assertTrue(new File(blocked, "blocker").mkdirs());
+		MetadataDescriptor descriptor = createDescriptor();
+		assertThrows(RuntimeException.class, () -> generate(ExporterType.JAVA, descriptor, outputDir));
+		assertTrue(new File(blocked, "blocker").delete());
+		assertTrue(blocked.delete());
+		// the failed export did not store the fingerprints
+		assertEquals(5, generate(ExporterType.JAVA, descriptor, outputDir).size());
+	}
+
+	private Set<String> generate() {
+		return generate(ExporterType.JAVA, createDescriptor(), outputDir);
+	}
+
+	private MetadataDescriptor createDescriptor() {
+		AbstractStrategy strategy = new DefaultStrategy();
+		strategy.setSettings(new RevengSettings(strategy).setDefaultPackageName("org.reveng"));
+		Properties properties = new Properties();
+		if (fingerprints != null) {
+			properties.put(MetadataConstants.INCREMENTAL_FINGERPRINT_FILE, fingerprints.getAbsolutePath());
+		}
+		return MetadataDescriptorFactory.createReverseEngineeringDescriptor(strategy, properties);
+	}
+
+	// the names of the files generated, whether they were written or found unchanged
+	private Set<String> generate(ExporterType type, MetadataDescriptor descriptor, File destination) {
+		Exporter exporter = ExporterFactory.createExporter(type);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, descriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destination);
+		if (templateDir.isDirectory()) {
+			exporter.getProperties().put(ExporterConstants.TEMPLATE_PATH, new String[] { templateDir.getAbsolutePath() });
+		}
+		exporter.start();
+		ArtifactCollector artifactCollector = (ArtifactCollector)exporter.getProperties().get(ExporterConstants.ARTIFACT_COLLECTOR);
+		Set<String> result = new TreeSet<String>();
+		for (String fileType : new String[] { "java", TemplateProducer.UNCHANGED }) {
+			for (File file : artifactCollector.getFiles(fileType)) {
+				result.add(file.getName());
+			}
+		}
+		return result;
+	}
+
+	private int clean() {
+		int result = 0;
+		File[] files = packageDir.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.delete()) {
+					result++;
+				}
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.hbm2x.ParallelExport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengSettings;
+import org.hibernate.tool.internal.export.java.JavaExporter;
+import org.hibernate.tool.internal.export.java.POJOClass;
+import org.hibernate.tool.internal.reveng.strategy.AbstractStrategy;
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase extends RevengTestCase {
+
+	@TempDir
+	public File outputDir = new File("output");
+
+	private MetadataDescriptor metadataDescriptor = null;
+
+	@BeforeEach
+	public void setUp() {
+		AbstractStrategy strategy = new DefaultStrategy();
+		strategy.setSettings(new RevengSettings(strategy).setDefaultPackageName("org.reveng"));
+		metadataDescriptor = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(strategy, null);
+	}
+
+	@Test
+	public void testParallelJavaExport() throws IOException {
+		File serial = export(ExporterType.JAVA, "serial", 1);
+		File parallel = export(ExporterType.JAVA, "parallel", 4);
+		Map<String, String> expected = read(serial);
+		assertEquals(5, expected.size());
+		assertEquals(expected, read(parallel));
+	}
+
+	@Test
+	public void testParallelDaoExport() throws IOException {
+		File serial = export(ExporterType.DAO, "serial", 1);
+		File parallel = export(ExporterType.DAO, "parallel", 3);
+		Map<String, String> expected = read(serial);
+		assertEquals(4, expected.size());
+		assertEquals(expected, read(parallel));
+	}
+
+	@Test
+	public void testExportThreads() {
+		RecordingExporter.threads.clear();
+		export(ExporterFactory.createExporter(RecordingExporter.class.getName()), "parallel", 4);
+		assertFalse(RecordingExporter.threads.isEmpty());
+		assertTrue(RecordingExporter.threads.stream().allMatch(name -> name.startsWith("hibernate-tools-exporter-")), RecordingExporter.threads.toString());
+	}
+
+	public static class RecordingExporter extends JavaExporter {
+		static final Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+		protected void exportPersistentClass(Map<String, Object> additionalContext, POJOClass element) {
+			threads.add(Thread.currentThread().getName());
+			super.exportPersistentClass(additionalContext, element);
+		}
+	}
+
+	private File export(ExporterType type, String name, int threads) {
+		return export(ExporterFactory.createExporter(type), name, threads);
+	}
+
+	private File export(Exporter exporter, String name, int threads) {
+		File destination = new File(outputDir, name);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destination);
+		exporter.getProperties().put(ExporterConstants.EXPORT_THREADS, Integer.toString(threads));
+		exporter.getProperties().setProperty("ejb3", "true");
+		exporter.start();
+		assertTrue(destination.isDirectory());
+		return destination;
+	}
+
+	private Map<String, String> read(File directory) throws IOException {
+		Map<String, String> result = new TreeMap<String, String>();
+		Files.walk(directory.toPath()).filter(Files::isRegularFile).forEach(path -> {
+			try {
+				// the generation date is the only expected difference
+				result.put(
+						directory.toPath().relativize(path).toString(), 
+						Files.readString(path).replaceAll("Generated .* by Hibernate Tools", ""));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		return result;
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2004-2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.hbm2x.query.QueryExporterFormats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.internal.export.common.DefaultArtifactCollector;
+import org.hibernate.tools.test.util.JdbcUtil;
+import org.hibernate.tools.test.util.ResourceUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase {
+
+	@TempDir
+	public File outputDir = new File("output");
+	
+	private File destinationDir = null;
+	private File resultHbmXmlFile = null;
+	private DefaultArtifactCollector artifactCollector = null;
+	
+	@BeforeEach
+	public void setUp() throws Exception {
+		JdbcUtil.createDatabase(this);
+		destinationDir = new File(outputDir, "destination");
+		destinationDir.mkdir();
+		File resourcesDir = new File(outputDir, "resources");
+		resourcesDir.mkdir();
+		ResourceUtil.createResources(this, new String[] { "result.hbm.xml" }, resourcesDir);
+		resultHbmXmlFile = new File(resourcesDir, "result.hbm.xml");
+		artifactCollector = new DefaultArtifactCollector();
+	}
+	
+	@AfterEach
+	public void tearDown() throws Exception {
+		JdbcUtil.dropDatabase(this);
+	}
+	
+	@Test
+	public void testTextFormat() throws Exception {
+		List<String> lines = export("from ResultRow order by id", null, "1");
+		assertEquals(3, lines.size());
+		assertEquals("ResultRow(id:First,length:1023)", lines.get(0));
+		assertEquals("ResultRow(id:Third,length:4095)", lines.get(2));
+	}
+	
+	@Test
+	public void testCsvFormat() throws Exception {
+		List<String> lines = export("select r.id, r.length from ResultRow r order by r.id", "csv", null);
+		assertEquals(3, lines.size());
+		assertEquals("First,1023", lines.get(0));
+		assertEquals("\"Second, \"\"quoted\"\"\",2047", lines.get(1));
+	}
+	
+	@Test
+	public void testJsonFormat() throws Exception {
+		List<String> lines = export("from ResultRow order by id", "json", null);
+		assertEquals(3, lines.size());
+		for (String line : lines) {
+			assertTrue(line.startsWith("{") && line.endsWith("}"), line);
+		}
+		assertTrue(lines.get(0).contains("\"First\""), lines.get(0));
+		assertTrue(lines.get(0).contains("1023"), lines.get(0));
+	}
+	
+	@Test
+	public void testStatistics() throws Exception {
+		export("from ResultRow", null, "2");
+		File file = new File(destinationDir, "queryresult.txt");
+		assertEquals(1, artifactCollector.getFileCount("query-output"));
+		assertEquals(3, artifactCollector.getRowCount(file));
+		assertEquals(file.length(), artifactCollector.getByteCount(file));
+		assertTrue(artifactCollector.getRowsPerSecond(file) > 0);
+	}
+	
+	private List<String> export(String query, String format, String fetchSize) throws Exception {
+		MetadataDescriptor metadataDescriptor = MetadataDescriptorFactory
+				.createNativeDescriptor(
+						null, 
+						new File[] { resultHbmXmlFile }, 
+						null);
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.QUERY);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, metadataDescriptor);
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, destinationDir);
+		exporter.getProperties().put(ExporterConstants.ARTIFACT_COLLECTOR, artifactCollector);
+		exporter.getProperties().put(ExporterConstants.OUTPUT_FILE_NAME, "queryresult.txt");
+		exporter.getProperties().put(ExporterConstants.QUERY_LIST, Collections.singletonList(query));
+		if (format != null) {
+			exporter.getProperties().put(ExporterConstants.QUERY_OUTPUT_FORMAT, format);
+		}
+		if (fetchSize != null) {
+			exporter.getProperties().put(ExporterConstants.QUERY_FETCH_SIZE, fetchSize);
+		}
+		exporter.start();
+		return Files.readAllLines(new File(destinationDir, "queryresult.txt").toPath(), StandardCharsets.UTF_8);
+	}
+	
+}
@@ -18,8 +18,13 @@
 package org.hibernate.tool.hbmlint.HbmLintTest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
 
 import org.hibernate.tool.api.export.ExporterConstants;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
@@ -28,6 +33,9 @@ import org.hibernate.tool.internal.export.lint.Detector;
 import org.hibernate.tool.internal.export.lint.HbmLint;
 import org.hibernate.tool.internal.export.lint.HbmLintExporter;
 import org.hibernate.tool.internal.export.lint.InstrumentationDetector;
+import org.hibernate.tool.internal.export.lint.Issue;
+import org.hibernate.tool.internal.export.lint.IssueCollector;
+import org.hibernate.tool.internal.export.lint.SchemaByMetaDataDetector;
 import org.hibernate.tool.internal.export.lint.ShadowedIdentifierDetector;
 import org.hibernate.tools.test.util.HibernateUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -78,6 +86,38 @@ public class TestCase {
 		assertEquals(1,analyzer.getResults().size());
 	}
 	
+	@Test
+	public void testOverriddenVisit() {
+		HbmLint analyzer = new HbmLint(new Detector[] { new BadCachingDetector() {
+			public void visit(IssueCollector collector) {
+				super.visit(collector);
+				collector.reportIssue(new Issue("CUSTOM", Issue.NORMAL_PRIORITY, "custom"));
+			}
+		} });
+		analyzer.analyze(metadataDescriptor.createMetadata());
+		assertEquals(2, analyzer.getResults().size());
+		assertEquals("custom", analyzer.getResults().get(1).getDescription());
+	}
+	
+	@Test
+	public void testConcurrentVisits() {
+		Metadata metadata = metadataDescriptor.createMetadata();
+		HbmLint sequential = new HbmLint(new Detector[] { 
+				new BadCachingDetector(), new InstrumentationDetector(), new ShadowedIdentifierDetector(), 
+				new SchemaByMetaDataDetector() });
+		sequential.analyze(metadata);
+		List<Issue> streamed = new ArrayList<Issue>();
+		HbmLint concurrent = new HbmLint(new Detector[] { 
+				new BadCachingDetector(), new InstrumentationDetector(), new ShadowedIdentifierDetector(), 
+				new SchemaByMetaDataDetector() }, 4);
+		concurrent.setIssueListener(streamed::add);
+		concurrent.analyze(metadata);
+		// the mapped tables do not exist, so the schema detector reports issues too
+		assertTrue(sequential.getResults().size() > 4, sequential.getResults().toString());
+		assertEquals(sequential.getResults().toString(), concurrent.getResults().toString());
+		assertEquals(sequential.getResults().size(), streamed.size());
+	}
+	
 	@Test
 	public void testBytecodeRestrictions() {		
 		HbmLint analyzer = new HbmLint(new Detector[] { new InstrumentationDetector() });		
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.jdbc2cfg.MetaDataSnapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.Properties;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.hibernate.tools.test.util.HibernateUtil;
+import org.hibernate.tools.test.util.JdbcUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase extends RevengTestCase {
+
+	@TempDir
+	public File outputDir = new File("output");
+
+	@Test
+	public void testReadingFromSnapshot() {
+		File snapshot = new File(outputDir, "metadata.snapshot");
+		String online = HibernateUtil.describe(createMetadata(snapshot, "1"));
+		assertTrue(snapshot.isFile());
+		JdbcUtil.dropDatabase(this);
+		try {
+			// the tables are gone, so the metadata can only come from the snapshot
+			String offline = HibernateUtil.describe(createMetadata(snapshot, "1"));
+			assertEquals(online, offline);
+			// another fingerprint discards the snapshot
+			assertEquals("", HibernateUtil.describe(createMetadata(snapshot, "2")));
+		} finally {
+			JdbcUtil.createDatabase(this);
+		}
+	}
+
+	@Test
+	public void testReadingWithoutSnapshot() {
+		File snapshot = new File(outputDir, "metadata.snapshot");
+		assertEquals(HibernateUtil.describe(createMetadata(null, null)), HibernateUtil.describe(createMetadata(snapshot, null)));
+		assertEquals(HibernateUtil.describe(createMetadata(null, null)), HibernateUtil.describe(createMetadata(snapshot, null)));
+	}
+
+	private Metadata createMetadata(File snapshot, String fingerprint) {
+		Properties properties = new Properties();
+		if (snapshot != null) {
+			properties.put(MetadataConstants.METADATA_SNAPSHOT_FILE, snapshot.getAbsolutePath());
+		}
+		if (fingerprint != null) {
+			properties.put(MetadataConstants.METADATA_SNAPSHOT_FINGERPRINT, fingerprint);
+		}
+		return MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+	}
+
+}
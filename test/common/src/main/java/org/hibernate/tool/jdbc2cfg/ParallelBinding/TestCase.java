@@ -0,0 +1,102 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.jdbc2cfg.ParallelBinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengStrategy;
+import org.hibernate.tool.api.reveng.TableIdentifier;
+import org.hibernate.tool.internal.reveng.strategy.DefaultStrategy;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.hibernate.tools.test.util.HibernateUtil;
+import org.junit.jupiter.api.Test;
+
+public class TestCase extends RevengTestCase {
+
+	@Test
+	public void testParallelBindingMatchesSerialBinding() {
+		String serial = HibernateUtil.describe(createMetadata(null, 1));
+		String parallel = HibernateUtil.describe(createMetadata(null, 3));
+		assertEquals(serial, parallel);
+	}
+
+	@Test
+	public void testStrategyIsAskedConcurrently() {
+		Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+		RevengStrategy strategy = new DefaultStrategy() {
+			public String tableToClassName(TableIdentifier tableIdentifier) {
+				threads.add(Thread.currentThread().getName());
+				return super.tableToClassName(tableIdentifier);
+			}
+		};
+		Metadata metadata = createMetadata(strategy, 4);
+		assertEquals(4, metadata.getEntityBindings().size());
+		assertTrue(threads.stream().anyMatch(name -> name.startsWith("hibernate-tools-binder-")), threads.toString());
+	}
+
+	@Test
+	public void testSerialBindingWithoutStrategyCache() {
+		Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+		RevengStrategy strategy = new DefaultStrategy() {
+			public String tableToClassName(TableIdentifier tableIdentifier) {
+				threads.add(Thread.currentThread().getName());
+				return super.tableToClassName(tableIdentifier);
+			}
+		};
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.BINDING_THREADS, "4");
+		properties.put(MetadataConstants.STRATEGY_CACHE_SIZE, "0");
+		Metadata metadata = MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(strategy, properties)
+				.createMetadata();
+		assertEquals(4, metadata.getEntityBindings().size());
+		assertTrue(threads.stream().noneMatch(name -> name.startsWith("hibernate-tools-binder-")), threads.toString());
+	}
+
+	@Test
+	public void testDuplicateClassNames() {
+		RevengStrategy strategy = new DefaultStrategy() {
+			public String tableToClassName(TableIdentifier tableIdentifier) {
+				return "org.test.Same";
+			}
+		};
+		RuntimeException serial = assertThrows(RuntimeException.class, () -> createMetadata(strategy, 1));
+		RuntimeException parallel = assertThrows(RuntimeException.class, () -> createMetadata(strategy, 3));
+		assertTrue(serial.getMessage().startsWith("Duplicate class name 'org.test.Same' generated for"), serial.getMessage());
+		assertEquals(serial.getMessage(), parallel.getMessage());
+	}
+
+	private Metadata createMetadata(RevengStrategy strategy, int bindingThreads) {
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.BINDING_THREADS, Integer.toString(bindingThreads));
+		return MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(strategy, properties)
+				.createMetadata();
+	}
+
+}
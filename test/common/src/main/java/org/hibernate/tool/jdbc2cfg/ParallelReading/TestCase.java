@@ -0,0 +1,80 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.jdbc2cfg.ParallelReading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.hibernate.tools.test.util.HibernateUtil;
+import org.hibernate.tools.test.util.JdbcUtil;
+import org.junit.jupiter.api.Test;
+
+public class TestCase extends RevengTestCase {
+
+	@Test
+	public void testParallelReadingMatchesSerialReading() {
+		String serial = HibernateUtil.describe(createMetadata(1, null));
+		String parallel = HibernateUtil.describe(createMetadata(3, null));
+		assertEquals(serial, parallel);
+	}
+
+	@Test
+	public void testParallelReading() {
+		Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+		RevengListener listener = new RevengListener() {
+			public void tableRead(String catalog, String schema, String table, int tablesRead) {
+				threads.add(Thread.currentThread().getName());
+			}
+		};
+		Metadata metadata = createMetadata(4, listener);
+		assertFalse(threads.isEmpty());
+		assertTrue(threads.stream().allMatch(name -> name.startsWith("hibernate-tools-metadata-reader-")), threads.toString());
+		Table lineItem = HibernateUtil.getTable(metadata, JdbcUtil.toIdentifier(this, "LINE_ITEM"));
+		assertNotNull(lineItem);
+		assertEquals(4, lineItem.getColumnSpan());
+		assertEquals(2, lineItem.getPrimaryKey().getColumnSpan());
+		assertEquals(1, lineItem.getForeignKeyCollection().size());
+		assertNotNull(lineItem.getIndex(JdbcUtil.toIdentifier(this, "ITEM_QUANTITY")));
+		assertEquals(4, metadata.getEntityBindings().size());
+	}
+
+	private Metadata createMetadata(int readerThreads, RevengListener listener) {
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.METADATA_READER_THREADS, Integer.toString(readerThreads));
+		if (listener != null) {
+			properties.put(MetadataConstants.REVENG_LISTENER, listener);
+		}
+		return MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.jdbc2cfg.PrefetchReading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengDialect;
+import org.hibernate.tool.api.reveng.RevengDialectFactory;
+import org.hibernate.tool.internal.reveng.dialect.CachedMetaDataDialect;
+import org.hibernate.tool.internal.reveng.dialect.JDBCMetaDataDialect;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.hibernate.tools.test.util.HibernateUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCase extends RevengTestCase {
+
+	@BeforeEach
+	public void setUp() {
+		CountingDialect.columnQueries.clear();
+	}
+
+	@Test
+	public void testPrefetchReadingMatchesPerTableReading() {
+		String perTable = HibernateUtil.describe(createMetadata(false, null));
+		String prefetched = HibernateUtil.describe(createMetadata(true, null));
+		assertEquals(perTable, prefetched);
+	}
+
+	@Test
+	public void testPrefetchReading() {
+		createMetadata(false, CountingDialect.class);
+		// one query per table
+		assertEquals(4, CountingDialect.columnQueries.size(), CountingDialect.columnQueries.toString());
+		CountingDialect.columnQueries.clear();
+		createMetadata(true, CountingDialect.class);
+		// one query for the complete schema
+		assertEquals(Collections.singletonList(null), CountingDialect.columnQueries);
+	}
+
+	// reads through the dialect chosen for the database and records the tables of the column queries
+	public static class CountingDialect extends CachedMetaDataDialect {
+		static final List<String> columnQueries = Collections.synchronizedList(new ArrayList<String>());
+		public CountingDialect() {
+			super(createDelegate());
+		}
+		public Iterator<Map<String, Object>> getColumns(String catalog, String schema, String table, String column) {
+			columnQueries.add(table);
+			return super.getColumns(catalog, schema, table, column);
+		}
+		private static RevengDialect createDelegate() {
+			RevengDialect result = RevengDialectFactory.fromDialectName(
+					Environment.getProperties().getProperty(AvailableSettings.DIALECT));
+			return result == null ? new JDBCMetaDataDialect() : result;
+		}
+	}
+
+	private Metadata createMetadata(boolean prefetch, Class<?> dialect) {
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.PREFETCH_METADATA, Boolean.toString(prefetch));
+		if (dialect != null) {
+			properties.put("hibernatetool.metadatadialect", dialect.getName());
+		}
+		return MetadataDescriptorFactory
+				.createReverseEngineeringDescriptor(null, properties)
+				.createMetadata();
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.jdbc2cfg.RevengMetrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+
+import org.hibernate.tool.api.export.Exporter;
+import org.hibernate.tool.api.export.ExporterConstants;
+import org.hibernate.tool.api.export.ExporterFactory;
+import org.hibernate.tool.api.export.ExporterType;
+import org.hibernate.tool.api.metadata.MetadataConstants;
+import org.hibernate.tool.api.metadata.MetadataDescriptor;
+import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
+import org.hibernate.tool.api.reveng.RevengListener;
+import org.hibernate.tool.api.reveng.RevengMetrics;
+import org.hibernate.tool.api.reveng.RevengPhase;
+import org.hibernate.tool.test.reveng.RevengTestCase;
+import org.hibernate.tools.test.util.JdbcUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestCase extends RevengTestCase {
+
+	@TempDir
+	public File outputDir = new File("output");
+
+	@Test
+	public void testMetrics() {
+		RevengMetrics metrics = new RevengMetrics();
+		createMetadataDescriptor(metrics, 1).createMetadata();
+		for (RevengPhase phase : new RevengPhase[] { 
+				RevengPhase.TABLES, 
+				RevengPhase.COLUMNS, 
+				RevengPhase.PRIMARY_KEYS,
+				RevengPhase.INDEXES,
+				RevengPhase.EXPORTED_KEYS,
+				RevengPhase.BINDING }) {
+			assertTrue(metrics.getPhaseDuration(phase) > 0, phase.toString());
+		}
+		// MASTER, CHILD, CONNECTION and LINE_ITEM have 2, 2, 5 and 4 columns
+		assertEquals(13, metrics.getRowCount(RevengPhase.COLUMNS));
+		assertEquals(4, Arrays.stream(metrics.getLatencyHistogram(RevengPhase.COLUMNS)).sum());
+		Map<String, Integer> callCounts = metrics.getCallCounts();
+		for (String table : new String[] { "MASTER", "CHILD", "CONNECTION", "LINE_ITEM" }) {
+			String identifier = JdbcUtil.toIdentifier(this, table);
+			int callCount = callCounts.entrySet().stream()
+					.filter(e -> e.getKey().equals(identifier) || e.getKey().endsWith("." + identifier))
+					.mapToInt(Map.Entry::getValue)
+					.sum();
+			assertTrue(callCount >= 4, table + " " + callCounts);
+		}
+	}
+
+	@Test
+	public void testMetricsWithParallelReading() {
+		RevengMetrics serial = new RevengMetrics();
+		createMetadataDescriptor(serial, 1).createMetadata();
+		RevengMetrics parallel = new RevengMetrics();
+		createMetadataDescriptor(parallel, 3).createMetadata();
+		assertEquals(serial.getCallCounts(), parallel.getCallCounts());
+		for (RevengPhase phase : RevengPhase.values()) {
+			assertEquals(serial.getRowCount(phase), parallel.getRowCount(phase), phase.toString());
+		}
+	}
+
+	@Test
+	public void testExportMetrics() {
+		RevengMetrics metrics = new RevengMetrics();
+		Exporter exporter = ExporterFactory.createExporter(ExporterType.JAVA);
+		exporter.getProperties().put(ExporterConstants.METADATA_DESCRIPTOR, createMetadataDescriptor(metrics, 1));
+		exporter.getProperties().put(ExporterConstants.DESTINATION_FOLDER, outputDir);
+		exporter.getProperties().put(MetadataConstants.REVENG_LISTENER, metrics);
+		exporter.start();
+		assertTrue(metrics.getPhaseDuration(RevengPhase.BINDING) > 0);
+		assertTrue(metrics.getPhaseDuration(RevengPhase.EXPORT) > metrics.getPhaseDuration(RevengPhase.BINDING));
+	}
+
+	@Test
+	public void testListenerClassName() {
+		createMetadataDescriptor(CountingMetrics.class.getName(), 1).createMetadata();
+		assertTrue(CountingMetrics.instances > 0);
+	}
+
+	@Test
+	public void testProgress() {
+		List<String> tables = Collections.synchronizedList(new ArrayList<String>());
+		List<String> entities = new ArrayList<String>();
+		RevengListener listener = new RevengListener() {
+			public void tableRead(String catalog, String schema, String table, int tablesRead) {
+				tables.add(table);
+			}
+			public void entityBound(String entityName, int entitiesBound, int entityCount) {
+				entities.add(entityName);
+				assertEquals(entities.size(), entitiesBound);
+				assertEquals(4, entityCount);
+			}
+		};
+		createMetadataDescriptor(listener, 3).createMetadata();
+		assertEquals(4, tables.size());
+		assertEquals(4, entities.size());
+	}
+
+	@Test
+	public void testCancel() {
+		List<String> tables = new ArrayList<String>();
+		RevengListener listener = new RevengListener() {
+			public void tableRead(String catalog, String schema, String table, int tablesRead) {
+				tables.add(table);
+			}
+			public void entityBound(String entityName, int entitiesBound, int entityCount) {
+				throw new AssertionError("Binding " + entityName + " after cancelling");
+			}
+			public boolean isCancelled() {
+				return !tables.isEmpty();
+			}
+		};
+		assertThrows(CancellationException.class, () -> createMetadataDescriptor(listener, 1).createMetadata());
+		assertEquals(1, tables.size());
+	}
+
+	public static class CountingMetrics extends RevengMetrics {
+		static int instances = 0;
+		public CountingMetrics() {
+			instances++;
+		}
+	}
+
+	private MetadataDescriptor createMetadataDescriptor(Object listener, int readerThreads) {
+		Properties properties = new Properties();
+		properties.put(MetadataConstants.REVENG_LISTENER, listener);
+		properties.put(MetadataConstants.METADATA_READER_THREADS, Integer.toString(readerThreads));
+		return MetadataDescriptorFactory.createReverseEngineeringDescriptor(null, properties);
+	}
+
+}
@@ -49,10 +49,12 @@ public class DbTestSuite {
 	@Nested public class DefaultSchemaCatalog extends org.hibernate.tool.hbm2x.DefaultSchemaCatalog.TestCase {}
 	@Nested public class GenerateFromJDBC extends org.hibernate.tool.hbm2x.GenerateFromJDBC.TestCase {}
 	@Nested public class GenerateFromJDBCWithJavaKeyword extends org.hibernate.tool.hbm2x.GenerateFromJDBCWithJavaKeyword.TestCase {}
+	@Nested public class IncrementalGeneration extends org.hibernate.tool.hbm2x.IncrementalGeneration.TestCase {}
 	@Nested public class IncrementalSchemaReading extends org.hibernate.tool.hbm2x.IncrementalSchemaReading.TestCase {}
 	@Nested public class JdbcHbm2JavaEjb3 extends org.hibernate.tool.hbm2x.JdbcHbm2JavaEjb3.TestCase {}
 	@Nested public class HBX2840 extends org.hibernate.tool.hbm2x.hbx2840.TestCase {}
 	@Nested public class QueryExporterTest extends org.hibernate.tool.hbm2x.query.QueryExporterTest.TestCase {}
+	@Nested public class QueryExporterFormats extends org.hibernate.tool.hbm2x.query.QueryExporterFormats.TestCase {}
 	@Nested public class HbmLintTest extends org.hibernate.tool.hbmlint.HbmLintTest.TestCase {}
 	@Nested public class SchemaAnalyzer extends org.hibernate.tool.hbmlint.SchemaAnalyzer.TestCase {}
 	@Nested public class AutoQuote extends org.hibernate.tool.jdbc2cfg.AutoQuote.TestCase {}
@@ -71,10 +73,16 @@ public class DbTestSuite {
 	@Disabled @Nested public class OneToOne extends org.hibernate.tool.jdbc2cfg.OneToOne.TestCase {}
 	// TODO HBX-2561: Reenable the test below
 	@Disabled @Nested public class OverrideBinder extends org.hibernate.tool.jdbc2cfg.OverrideBinder.TestCase {}
+	@Nested public class MetaDataSnapshot extends org.hibernate.tool.jdbc2cfg.MetaDataSnapshot.TestCase {}
+	@Nested public class ParallelExport extends org.hibernate.tool.hbm2x.ParallelExport.TestCase {}
+	@Nested public class ParallelBinding extends org.hibernate.tool.jdbc2cfg.ParallelBinding.TestCase {}
+	@Nested public class ParallelReading extends org.hibernate.tool.jdbc2cfg.ParallelReading.TestCase {}
+	@Nested public class PrefetchReading extends org.hibernate.tool.jdbc2cfg.PrefetchReading.TestCase {}
 	@Nested public class Performance extends org.hibernate.tool.jdbc2cfg.Performance.TestCase {}
 	@Nested public class PersistentClasses extends org.hibernate.tool.jdbc2cfg.PersistentClasses.TestCase {}
 	// TODO HBX-2561: Reenable the test below
 	@Disabled @Nested public class RevEngForeignKey extends org.hibernate.tool.jdbc2cfg.RevEngForeignKey.TestCase {}
+	@Nested public class RevengMetrics extends org.hibernate.tool.jdbc2cfg.RevengMetrics.TestCase {}
 	@Nested public class SearchEscapeString extends org.hibernate.tool.jdbc2cfg.SearchEscapeString.TestCase {}
 	@Nested public class TernarySchema extends org.hibernate.tool.jdbc2cfg.TernarySchema.TestCase {}
 	@Nested public class Versioning extends org.hibernate.tool.jdbc2cfg.Versioning.TestCase {}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Tools, Tooling for your Hibernate Projects
+ *
+ * Copyright 2025 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hibernate.tool.test.reveng;
+
+import org.hibernate.tools.test.util.JdbcUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+/**
+ * Base of the reverse engineering tests sharing the MASTER, CHILD, CONNECTION and LINE_ITEM 
+ * tables. The create.sql and drop.sql scripts are found through the superclass of the test, 
+ * unless the package of the test provides its own.
+ */
+public abstract class RevengTestCase {
+
+	@BeforeEach
+	public void createDatabase() {
+		JdbcUtil.createDatabase(this);
+	}
+
+	@AfterEach
+	public void dropDatabase() {
+		JdbcUtil.dropDatabase(this);
+	}
+
+}
@@ -0,0 +1,21 @@
+############################################################################
+# Hibernate Tools, Tooling for your Hibernate Projects                     #
+#                                                                          #
+# Copyright 2004-2025 Red Hat, Inc.                                        #
+#                                                                          #
+# Licensed under the Apache License, Version 2.0 (the "License");          #
+# you may not use this file except in compliance with the License.         #
+# You may obtain a copy of the License at                                  #
+#                                                                          #
+#     http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                          #
+# Unless required by applicable law or agreed to in writing, software      #
+# distributed under the License is distributed on an "AS IS" basis,        #
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+# See the License for the specific language governing permissions and      #
+# limitations under the License.                                           #
+############################################################################
+ CREATE TABLE RESULT_ROW ( ID VARCHAR(255) NOT NULL, LENGTH INT NOT NULL, PRIMARY KEY (ID) )
+ INSERT INTO RESULT_ROW VALUES ( 'First', 1023)
+ INSERT INTO RESULT_ROW VALUES ( 'Second, "quoted"', 2047)
+ INSERT INTO RESULT_ROW VALUES ( 'Third', 4095)
@@ -18,10 +18,14 @@
 
 package org.hibernate.tool.ant.JavaFormatter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
 
 import org.hibernate.tool.api.java.DefaultJavaPrettyPrinterStrategy;
 import org.hibernate.tools.test.util.AntUtil;
@@ -219,4 +223,36 @@ public class TestCase {
 		
 	}
 
+	@Test
+	public void testJavaFormatFiles() throws Exception {
+		
+		String[] resources = new String[] {"build.xml", "formatting/SimpleOne.java", "formatting/Simple5One.java"};
+		ResourceUtil.createResources(this, resources, resourcesDir);
+		File buildFile = new File(resourcesDir, "build.xml");	
+		
+		AntUtil.Project project = AntUtil.createProject(buildFile);
+		project.setProperty("destinationDir", destinationDir.getAbsolutePath());
+		project.setProperty("resourcesDir", resourcesDir.getAbsolutePath());
+		project.executeTarget("copyfiles");
+
+		File simpleOne = new File(destinationDir, "formatting/SimpleOne.java");
+		File simple5One = new File(destinationDir, "formatting/Simple5One.java");
+		File broken = new File(destinationDir, "formatting/Broken.java");
+		Files.writeString(broken.toPath(), "public class Broken {");
+		
+		DefaultJavaPrettyPrinterStrategy formatter = new DefaultJavaPrettyPrinterStrategy(null);
+		Map<File, RuntimeException> failures = formatter.formatFiles(List.of(simpleOne, broken, simple5One));
+		
+		assertEquals(1, failures.size());
+		assertTrue(failures.containsKey(broken));
+		assertEquals("public class Broken {", Files.readString(broken.toPath()));
+		assertTrue(FileUtil
+				.findFirstString("public", simpleOne)
+				.contains("SimpleOne"));
+		assertTrue(FileUtil
+				.findFirstString("public", simple5One)
+				.contains("Simple5One"));
+		
+	}
+
 }
@@ -27,6 +27,7 @@ import java.util.List;
 
 import org.hibernate.tool.ide.completion.EntityNameReference;
 import org.hibernate.tool.ide.completion.HQLAnalyzer;
+import org.hibernate.tool.ide.completion.HQLTokenBuffer;
 import org.hibernate.tool.ide.completion.SubQuery;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -123,6 +124,53 @@ public class TestCase {
         doTestVisibleSubQueries("select a from A a where a.id in (select b.id from B b where b.id in (select c.id |", 3);
     }
 
+    @Test
+    public void testTokenBuffer() {
+    	String query = "select a\n  from Article a\n where a.id in (select b.id from B b)";
+    	HQLTokenBuffer tokens = new HQLAnalyzer().tokenize(query.toCharArray());
+    	assertEquals(19, tokens.getTokenCount());
+    	assertEquals("from", tokens.getText(2));
+    	assertEquals(query.indexOf("from"), tokens.getOffset(2));
+    	assertEquals("Article", tokens.getText(3));
+    	List<SubQuery> subQueries = new HQLAnalyzer().getSubQueries(tokens, 0).subQueries;
+    	assertEquals(2, subQueries.size());
+    	assertEquals("Article", subQueries.get(0).getTokenText(3));
+    	assertEquals(")", subQueries.get(1).getTokenText(subQueries.get(1).getTokenCount() - 1));
+    }
+
+    @Test
+    public void testRelex() {
+    	String query = "select a from Article a where a.id in (select b.id from B b) order by a.name";
+    	HQLTokenBuffer tokens = HQLTokenBuffer.lex(query.toCharArray());
+    	// insert, replace and delete at the start, in the middle, inside tokens and at the end
+    	tokens = doTestRelex(tokens, 0, 0, "from X x ");
+    	tokens = doTestRelex(tokens, 18, 3, "ic");
+    	tokens = doTestRelex(tokens, 20, 0, "le");
+    	tokens = doTestRelex(tokens, 14, 7, "Book");
+    	tokens = doTestRelex(tokens, 30, 0, " /* in (");
+    	tokens = doTestRelex(tokens, 30, 8, "");
+    	tokens = doTestRelex(tokens, 30, 0, "'open");
+    	tokens = doTestRelex(tokens, 30, 5, "");
+    	tokens = doTestRelex(tokens, tokens.getTextLength(), 0, " desc");
+    	tokens = doTestRelex(tokens, 0, query.length(), "");
+    	tokens = doTestRelex(tokens, 0, 0, "from A");
+    }
+
+    private HQLTokenBuffer doTestRelex(HQLTokenBuffer tokens, int start, int removed, String inserted) {
+    	String text = tokens.getCharSequence().toString();
+    	String edited = text.substring(0, start) + inserted + text.substring(start + removed);
+    	HQLTokenBuffer relexed = tokens.relex(edited.toCharArray(), start, removed, inserted.length());
+    	HQLTokenBuffer expected = HQLTokenBuffer.lex(edited.toCharArray());
+    	assertEquals(expected.getTokenCount(), relexed.getTokenCount(), edited);
+    	for (int i = 0; i < expected.getTokenCount(); i++) {
+    		assertEquals(expected.getType(i), relexed.getType(i), edited);
+    		assertEquals(expected.getOffset(i), relexed.getOffset(i), edited);
+    		assertEquals(expected.getLength(i), relexed.getLength(i), edited);
+    	}
+    	assertEquals(text, tokens.getCharSequence().toString());
+    	return relexed;
+    }
+
     public void doTestVisibleSubQueries(String query, int size) {
     	char[] cs = query.replaceAll("\\|", "").toCharArray();
     	List<SubQuery> visible = new HQLAnalyzer().getVisibleSubQueries(cs, query.indexOf("|"));
@@ -26,8 +26,14 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.mapping.Column;
 import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.SimpleValue;
 import org.hibernate.mapping.Table;
+import org.hibernate.mapping.UniqueKey;
 import org.hibernate.tool.api.metadata.MetadataDescriptor;
 import org.hibernate.tool.api.metadata.MetadataDescriptorFactory;
 
@@ -99,4 +105,60 @@ public class HibernateUtil {
 		}
 	}
 	
+	/**
+	 * Describes the tables and the entities of the metadata, so that the outcome of 
+	 * reading or binding it in different ways can be compared.
+	 */
+	public static String describe(Metadata metadata) {
+		StringBuilder sb = new StringBuilder();
+		for (Table table : metadata.collectTableMappings()) {
+			sb.append("table ").append(table.getName()).append('\n');
+			for (Column column : table.getColumns()) {
+				sb.append("  column ")
+					.append(column.getName()).append(' ')
+					.append(column.getSqlTypeCode()).append(' ')
+					.append(column.getLength()).append(' ')
+					.append(column.isNullable()).append(' ')
+					.append(column.isUnique()).append('\n');
+			}
+			if (table.getPrimaryKey() != null) {
+				sb.append("  pk ").append(table.getPrimaryKey().getColumns()).append('\n');
+			}
+			for (ForeignKey foreignKey : table.getForeignKeyCollection()) {
+				sb.append("  fk ")
+					.append(foreignKey.getName()).append(' ')
+					.append(foreignKey.getColumns()).append(" -> ")
+					.append(foreignKey.getReferencedTable() == null ? 
+							foreignKey.getReferencedEntityName() : 
+							foreignKey.getReferencedTable().getName()).append('\n');
+			}
+			for (Index index : table.getIndexes().values()) {
+				sb.append("  index ").append(index.getName()).append(' ').append(index.getSelectables()).append('\n');
+			}
+			for (UniqueKey uniqueKey : table.getUniqueKeys().values()) {
+				sb.append("  unique ").append(uniqueKey.getName()).append(' ').append(uniqueKey.getColumns()).append('\n');
+			}
+		}
+		for (PersistentClass persistentClass : metadata.getEntityBindings()) {
+			sb.append("class ")
+				.append(persistentClass.getClassName()).append(' ')
+				.append(persistentClass.getTable().getName()).append(' ')
+				.append(persistentClass.getMetaAttributes() == null ? 
+						"[]" : persistentClass.getMetaAttributes().keySet()).append('\n');
+			sb.append("  id ").append(persistentClass.getIdentifierProperty() == null ? 
+					persistentClass.getIdentifier().getClass().getSimpleName() : 
+					persistentClass.getIdentifierProperty().getName()).append('\n');
+			for (Property property : persistentClass.getProperties()) {
+				sb.append("  property ")
+					.append(property.getName()).append(' ')
+					.append(property.getValue().getClass().getSimpleName());
+				if (property.getValue() instanceof SimpleValue) {
+					sb.append(' ').append(((SimpleValue)property.getValue()).getTypeName());
+				}
+				sb.append('\n');
+			}
+		}
+		return sb.toString();
+	}
+	
 }
@@ -17,9 +17,11 @@
  */
 package org.hibernate.tools.test.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.Collections;
@@ -93,6 +95,19 @@ public class HibernateUtilTest {
 						"org.hibernate.tools.test.util.HibernateUtilTest$Dummy"));
 	}
 	
+	@Test
+	public void testDescribe() {
+		Metadata metadata = HibernateUtil
+				.initializeMetadataDescriptor(
+						this, 
+						new String[] { "HelloWorld.hbm.xml" },
+						outputFolder)
+				.createMetadata();
+		String description = HibernateUtil.describe(metadata);
+		assertTrue(description.contains("class HelloWorld "), description);
+		assertEquals(description, HibernateUtil.describe(metadata));
+	}
+	
 	@Entity
 	private class Dummy {
 		@Id public int id;